@@ -44,7 +44,11 @@ const AdminChatList: React.FC<{ onSelectRoom: (roomId: number, userId: string) =
 
         fetchSalonAndChatRooms();
 
-        const handleNewMessage = async () => {
+        const handleNewMessage = async (messageData?: { type?: string }) => {
+            // 번역 완료 이벤트는 목록에 영향이 없으므로 무시
+            if (messageData?.type === 'translation-updated') {
+                return;
+            }
             try {
                 const rooms = await AdminChatService.getSalonChatRooms();
                 setChatRooms(rooms);
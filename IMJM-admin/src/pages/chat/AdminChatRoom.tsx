@@ -57,6 +57,11 @@ const AdminChatRoom: React.FC<{ roomId: number; userId: string }> = ({ roomId, u
 
     const fileInputRef = useRef<HTMLInputElement>(null);
     const messagesEndRef = useRef<HTMLDivElement>(null);
+    const [hasMoreMessages, setHasMoreMessages] = useState<boolean>(false);
+    const [nextCursor, setNextCursor] = useState<number | null>(null);
+    const [loadingOlder, setLoadingOlder] = useState<boolean>(false);
+    // 이전 메시지를 앞에 붙일 때는 맨 아래로 스크롤하지 않음
+    const skipScrollRef = useRef<boolean>(false);
     const navigate = useNavigate();
 
     const [userProfileUrl, setUserProfileUrl] = useState<string | null>(null);
@@ -270,8 +275,11 @@ const AdminChatRoom: React.FC<{ roomId: number; userId: string }> = ({ roomId, u
                 }
 
                 try {
-                    const chatMessages = await AdminChatService.getChatMessages(Number(roomId));
+                    const messagePage = await AdminChatService.getChatMessages(Number(roomId));
+                    const chatMessages = messagePage.contents;
                     setMessages(chatMessages);
+                    setHasMoreMessages(messagePage.hasNext);
+                    setNextCursor(messagePage.nextCursor);
 
                     if (!userName && chatMessages.length > 0) {
                         const userMessage = chatMessages.find(msg => msg.senderType === 'USER');
@@ -292,9 +300,9 @@ const AdminChatRoom: React.FC<{ roomId: number; userId: string }> = ({ roomId, u
                         }
                     }
 
-                    await AdminChatService.markMessagesAsRead(Number(roomId));
-
-                    AdminWebSocketService.emitMessageRead(Number(roomId));
+                    // 읽음 처리는 STOMP 한 번으로 충분하다 (서버가 반영 후 message-read 이벤트를 보낸다)
+                    const lastMessage = chatMessages[chatMessages.length - 1];
+                    AdminWebSocketService.emitMessageRead(Number(roomId), lastMessage?.id);
                 } catch (messageError: any) {
                     console.error('채팅 메시지를 불러오는데 실패했습니다:', messageError);
 
@@ -333,6 +341,18 @@ const AdminChatRoom: React.FC<{ roomId: number; userId: string }> = ({ roomId, u
         fetchSalonAndChatRoom();
 
         const handleNewMessage = (messageData: ChatMessage) => {
+            // 비동기 번역 완료 이벤트: 기존 메시지의 번역 필드만 갱신
+            if (messageData.type === 'translation-updated') {
+                if (messageData.chatRoomId === Number(roomId)) {
+                    setMessages(prev => prev.map(msg =>
+                        msg.id === messageData.id
+                            ? { ...msg, translatedMessage: messageData.translatedMessage, translationStatus: messageData.translationStatus }
+                            : msg
+                    ));
+                }
+                return;
+            }
+
             if (messageData.chatRoomId === Number(roomId)) {
                 setMessages(prev => {
                     const exactIdMatch = prev.some(msg => msg.id === messageData.id);
@@ -359,7 +379,7 @@ const AdminChatRoom: React.FC<{ roomId: number; userId: string }> = ({ roomId, u
                 });
 
                 if (messageData.senderType !== 'SALON') {
-                    AdminChatService.markMessagesAsRead(Number(roomId))
+                    AdminChatService.markMessagesAsRead(Number(roomId), messageData.id)
                         .catch(err => console.error("메시지 읽음 처리 실패:", err));
                 }
             }
@@ -378,9 +398,31 @@ const AdminChatRoom: React.FC<{ roomId: number; userId: string }> = ({ roomId, u
     }, [roomId, userId, userName, navigate]);
 
     useEffect(() => {
+        if (skipScrollRef.current) {
+            skipScrollRef.current = false;
+            return;
+        }
         scrollToBottom();
     }, [messages]);
 
+    // 이전 메시지 더 불러오기 (키셋 페이징)
+    const loadOlderMessages = async () => {
+        if (!roomId || nextCursor === null || loadingOlder) return;
+
+        setLoadingOlder(true);
+        try {
+            const page = await AdminChatService.getChatMessages(Number(roomId), nextCursor);
+            skipScrollRef.current = true;
+            setMessages(prev => [...page.contents, ...prev]);
+            setHasMoreMessages(page.hasNext);
+            setNextCursor(page.nextCursor);
+        } catch (err) {
+            console.error('이전 메시지 로딩 오류:', err);
+        } finally {
+            setLoadingOlder(false);
+        }
+    };
+
     const scrollToBottom = () => {
         messagesEndRef.current?.scrollIntoView({ behavior: 'smooth' });
     };
@@ -603,6 +645,11 @@ const AdminChatRoom: React.FC<{ roomId: number; userId: string }> = ({ roomId, u
             <Divider />
 
             <Box className={styles.messagesContainer}>
+                {hasMoreMessages && (
+                    <Button size="small" onClick={loadOlderMessages} disabled={loadingOlder}>
+                        {loadingOlder ? <CircularProgress size={16} /> : '이전 메시지 보기'}
+                    </Button>
+                )}
                 {messages.map((message) => {
                     const isSalonMessage = message.senderType === 'SALON';
                     const messageClassName = `${styles.messageWrapper} ${isSalonMessage ? styles.salonMessageWrapper : styles.userMessageWrapper}`;
@@ -27,6 +27,42 @@ export interface ChatMessage {
     translatedMessage: string | null;
     translationStatus: string;
     photos: ChatPhoto[];
+    type?: string;  // 'translation-updated' 등 후속 이벤트 구분용
+}
+
+// 메시지 페이지 (오래된 순 정렬, hasNext 이면 nextCursor 를 beforeId 로 넘겨 이전 메시지 조회)
+export interface ChatMessagePage<T> {
+    pageSize: number;
+    hasNext: boolean;
+    nextCursor: number | null;
+    contents: T[];
+}
+
+// 재연결 동기화 응답 (hasMore 면 nextSinceId 를 sinceId 로 넘겨 이어서 조회)
+export interface ChatSyncResponse {
+    nextSinceId: number | null;
+    hasMore: boolean;
+    serverTime: string;
+    messages: ChatMessage[];
+    rooms: ChatRoom[];
+    readStates: { chatRoomId: number; unreadForUser: number; unreadForSalon: number }[];
+}
+
+// 채팅 검색 결과 (하이라이트는 [start, end) 문자 위치, 결과는 최신순)
+export interface ChatSearchHighlight {
+    start: number;
+    end: number;
+}
+
+export interface ChatSearchHit {
+    id: number;
+    chatRoomId: number;
+    senderType: 'USER' | 'SALON';
+    message: string;
+    sentAt: string;
+    translatedMessage?: string;
+    messageHighlights: ChatSearchHighlight[];
+    translatedHighlights: ChatSearchHighlight[];
 }
 
 // 사진 타입
@@ -50,10 +86,13 @@ class AdminChatService {
         }
     }
 
-    // 채팅방 메시지 목록 조회
-    async getChatMessages(chatRoomId: number): Promise<ChatMessage[]> {
+    // 채팅방 메시지 목록 조회 (키셋 페이징)
+    // beforeId 가 없으면 최신 메시지부터, 있으면 해당 메시지 이전 메시지를 size 건 조회
+    async getChatMessages(chatRoomId: number, beforeId?: number, size: number = 50): Promise<ChatMessagePage<ChatMessage>> {
         try {
-            const response = await axios.get(`${this.baseUrl}/messages/${chatRoomId}`);
+            const response = await axios.get(`${this.baseUrl}/messages/${chatRoomId}`, {
+                params: { beforeId, size }
+            });
             return response.data;
         } catch (error) {
             console.error('Failed to fetch chat messages:', error);
@@ -61,10 +100,38 @@ class AdminChatService {
         }
     }
 
-    // 메시지 읽음 처리
-    async markMessagesAsRead(chatRoomId: number): Promise<boolean> {
+    // 재연결 동기화: 마지막으로 받은 메시지 id(없으면 연결이 끊긴 시각) 이후 변경분만 조회
+    async syncChats(sinceId?: number, since?: string): Promise<ChatSyncResponse> {
+        try {
+            const response = await axios.get(`${this.baseUrl}/sync`, {
+                params: { sinceId, since }
+            });
+            return response.data;
+        } catch (error) {
+            console.error('Failed to sync chats:', error);
+            throw error;
+        }
+    }
+
+    // 채팅 검색 (두 글자 이상), chatRoomId 가 없으면 모든 채팅방, hasNext 이면 nextCursor 를 beforeId 로 넘겨 이어서 조회
+    async searchMessages(keyword: string, chatRoomId?: number, beforeId?: number, size: number = 20): Promise<ChatMessagePage<ChatSearchHit>> {
         try {
-            const response = await axios.put(`${this.baseUrl}/messages/read/${chatRoomId}`);
+            const response = await axios.get(`${this.baseUrl}/search`, {
+                params: { keyword, chatRoomId, beforeId, size }
+            });
+            return response.data;
+        } catch (error) {
+            console.error('Failed to search chat messages:', error);
+            throw error;
+        }
+    }
+
+    // 메시지 읽음 처리 (lastMessageId: 화면에 보인 마지막 메시지, 서버가 짧은 주기로 모아서 반영)
+    async markMessagesAsRead(chatRoomId: number, lastMessageId?: number): Promise<boolean> {
+        try {
+            const response = await axios.put(`${this.baseUrl}/messages/read/${chatRoomId}`, null, {
+                params: { lastMessageId }
+            });
             return response.data.success;
         } catch (error) {
             console.error('Failed to mark messages as read:', error);
@@ -1,6 +1,6 @@
 import { Client } from '@stomp/stompjs';
 import SockJS from 'sockjs-client';
-import { ChatMessage, ChatPhoto } from './AdminChatService';
+import AdminChatService, { ChatMessage, ChatPhoto } from './AdminChatService';
 
 interface MessageListener {
     (message: any): void;
@@ -10,6 +10,10 @@ class AdminWebSocketService {
     private client: Client | null = null;
     private messageListeners: Map<string, MessageListener[]> = new Map();
     private salonId: string | null = null;
+    // 재연결 동기화용: 마지막으로 받은 메시지 id, 연결이 끊긴 시각
+    private lastSeenMessageId: number | null = null;
+    private disconnectedAt: string | null = null;
+    private hasConnected = false;
 
     // AdminWebSocketService.ts에 추가
     isConnected(): boolean {
@@ -20,6 +24,9 @@ class AdminWebSocketService {
     initialize(salonId: string): Promise<void> {
         return new Promise((resolve, reject) => {
             this.salonId = salonId;
+            this.lastSeenMessageId = null;
+            this.disconnectedAt = null;
+            this.hasConnected = false;
 
             if (this.client && this.client.connected) {
                 this.disconnect();
@@ -37,6 +44,7 @@ class AdminWebSocketService {
                 // 메시지 구독
                 this.client?.subscribe(`/user/${this.salonId}/queue/messages`, (message) => {
                     const messageData = JSON.parse(message.body);
+                    this.rememberMessage(messageData);
                     this.notifyListeners('message', messageData);
                 });
 
@@ -46,6 +54,12 @@ class AdminWebSocketService {
                     this.notifyListeners('message-read', roomId);
                 });
 
+                // 재연결이면 끊겨 있던 동안의 변경분만 받아온다 (구독 복구 후에 호출해야 빈틈이 없다)
+                if (this.hasConnected) {
+                    this.syncMissedMessages();
+                }
+                this.hasConnected = true;
+
                 // 연결 성공 시 Promise 해결
                 resolve();
             };
@@ -65,6 +79,9 @@ class AdminWebSocketService {
             this.client.onWebSocketClose = (event) => {
                 clearTimeout(timeoutId);
                 console.error('WebSocket closed:', event);
+                if (this.hasConnected && !this.disconnectedAt) {
+                    this.disconnectedAt = new Date().toISOString();
+                }
                 reject(new Error('WebSocket closed'));
             };
 
@@ -77,6 +94,39 @@ class AdminWebSocketService {
         });
     }
 
+    private rememberMessage(messageData: any) {
+        if (messageData.type === undefined && typeof messageData.id === 'number'
+            && (this.lastSeenMessageId === null || messageData.id > this.lastSeenMessageId)) {
+            this.lastSeenMessageId = messageData.id;
+        }
+    }
+
+    // 끊겨 있던 동안 놓친 메시지를 기존 'message' 리스너로 전달 (화면 쪽은 id로 중복을 거른다)
+    private async syncMissedMessages() {
+        let sinceId = this.lastSeenMessageId ?? undefined;
+        const since = sinceId === undefined ? this.disconnectedAt ?? undefined : undefined;
+        try {
+            let hasMore = true;
+            while (hasMore) {
+                const response = await AdminChatService.syncChats(sinceId, sinceId === undefined ? since : undefined);
+                response.messages.forEach((message: ChatMessage) => {
+                    this.rememberMessage(message);
+                    this.notifyListeners('message', message);
+                });
+                if (response.nextSinceId !== null) {
+                    sinceId = response.nextSinceId;
+                    if (this.lastSeenMessageId === null || sinceId > this.lastSeenMessageId) {
+                        this.lastSeenMessageId = sinceId;
+                    }
+                }
+                hasMore = response.hasMore;
+            }
+            this.disconnectedAt = null;
+        } catch (e) {
+            console.error('Failed to sync missed messages:', e);
+        }
+    }
+
     disconnect() {
         if (this.client) {
             this.client.deactivate();
@@ -114,7 +164,7 @@ class AdminWebSocketService {
     }
 
     // 메시지 읽음 이벤트 발생 메서드 추가
-    emitMessageRead(roomId: number) {
+    emitMessageRead(roomId: number, lastMessageId?: number) {
         if (!this.client || !this.client.connected) {
             console.error('WebSocket is not connected');
             return;
@@ -122,7 +172,7 @@ class AdminWebSocketService {
 
         this.client.publish({
             destination: `/app/chat/message-read/${roomId}`,
-            body: JSON.stringify({ roomId })
+            body: JSON.stringify({ roomId, lastMessageId })
         });
     }
 
@@ -1,5 +1,7 @@
 import { Box, Typography, Button, Divider } from '@mui/material';
 import { useNavigate, useParams } from 'react-router-dom';
+import axios from 'axios';
+import { holdSlot } from '../../services/reservation/slotHold';
 import { ServiceMenusSectionProps, Menu } from '../../type/reservation/reservation';
 
 const ServiceMenus = ({
@@ -27,7 +29,24 @@ const ServiceMenus = ({
     }
   };
 
-  const handleNextPage = () => {
+  const handleNextPage = async () => {
+    // 결제 중 다른 고객이 같은 시간을 잡지 못하도록 먼저 홀드
+    if (stylistId && selectedDate && selectedTime) {
+      try {
+        await holdSlot({
+          stylistId: parseInt(stylistId),
+          reservationDate: selectedDate,
+          reservationTime: selectedTime,
+        });
+      } catch (error) {
+        if (axios.isAxiosError(error) && error.response?.status === 409) {
+          alert(error.response.data?.message || '선택한 시간은 예약할 수 없습니다.');
+          return;
+        }
+        console.error('슬롯 홀드 실패:', error);
+      }
+    }
+
     navigate(`/salon/${salonId}/reservation/${stylistId}/payment-details`, {
       state: {
         salonId: salonId ?? '',
@@ -11,6 +11,8 @@ export const useTimeSlots = (
 ) => {
   const [availableTimes, setAvailableTimes] = useState<string[]>([]);
   const [bookedTimes, setBookedTimes] = useState<string[]>([]);
+  // 다른 고객이 결제 중인 시간 (예약 불가로 표시)
+  const [heldTimes, setHeldTimes] = useState<string[]>([]);
   const [allTimeSlots, setAllTimeSlots] = useState<string[]>([]);
   const [isLoading, setIsLoading] = useState<boolean>(false);
   const [selectedTime, setSelectedTime] = useState<string | null>(null);
@@ -29,8 +31,13 @@ export const useTimeSlots = (
       });
       setAvailableTimes(res.data.availableTimes || []);
       setBookedTimes(res.data.bookedTimes || []);
+      setHeldTimes(res.data.heldTimes || []);
     
-      const allTimes = [...res.data.availableTimes || [], ...res.data.bookedTimes || []];
+      const allTimes = [
+        ...res.data.availableTimes || [],
+        ...res.data.bookedTimes || [],
+        ...res.data.heldTimes || []
+      ];
       allTimes.sort((a, b) => {
         return a.localeCompare(b);
       });
@@ -40,6 +47,7 @@ export const useTimeSlots = (
     } catch (error) {
       setAvailableTimes([]);
       setBookedTimes([]);
+      setHeldTimes([]);
       setAllTimeSlots([]);
     } finally {
       setIsLoading(false);
@@ -84,6 +92,7 @@ export const useTimeSlots = (
   return {
     availableTimes,
     bookedTimes,
+    heldTimes,
     allTimeSlots,
     isLoading,
     selectedTime,
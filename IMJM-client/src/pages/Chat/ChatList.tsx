@@ -47,7 +47,11 @@ const ChatList: React.FC = () => {
         fetchUserAndChatRooms();
 
         // 새 메시지 수신 시 채팅방 목록 업데이트
-        const handleNewMessage = async () => {
+        const handleNewMessage = async (messageData?: { type?: string }) => {
+            // 번역 완료 이벤트는 목록에 영향이 없으므로 무시
+            if (messageData?.type === 'translation-updated') {
+                return;
+            }
             try {
                 const rooms = await ChatService.getUserChatRooms();
                 setChatRooms(rooms);
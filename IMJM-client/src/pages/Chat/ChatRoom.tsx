@@ -56,6 +56,11 @@ const ChatRoom: React.FC = () => {
     const [previewUrls, setPreviewUrls] = useState<string[]>([]);
     const fileInputRef = useRef<HTMLInputElement>(null);
     const messagesEndRef = useRef<HTMLDivElement>(null);
+    const [hasMoreMessages, setHasMoreMessages] = useState<boolean>(false);
+    const [nextCursor, setNextCursor] = useState<number | null>(null);
+    const [loadingOlder, setLoadingOlder] = useState<boolean>(false);
+    // 이전 메시지를 앞에 붙일 때는 맨 아래로 스크롤하지 않음
+    const skipScrollRef = useRef<boolean>(false);
     const navigate = useNavigate();
     const [userId, setUserId] = useState<string>('');
     const [errorModalOpen, setErrorModalOpen] = useState<boolean>(false);
@@ -76,6 +81,18 @@ const ChatRoom: React.FC = () => {
                 return;
             }
 
+            // 비동기 번역 완료 이벤트: 기존 메시지의 번역 필드만 갱신
+            if (messageData.type === 'translation-updated') {
+                if (messageData.chatRoomId === Number(roomId)) {
+                    setMessages(prevMessages => prevMessages.map(msg =>
+                        msg.id === messageData.id
+                            ? { ...msg, translatedMessage: messageData.translatedMessage, translationStatus: messageData.translationStatus }
+                            : msg
+                    ));
+                }
+                return;
+            }
+
             if (messageData.chatRoomId === Number(roomId)) {
                 setMessages(prevMessages => {
                     // 중복 체크 로직 개선
@@ -111,7 +128,7 @@ const ChatRoom: React.FC = () => {
                 });
 
                 if (messageData.senderType !== 'USER') {
-                    ChatService.markMessagesAsRead(Number(roomId), 'USER')
+                    ChatService.markMessagesAsRead(Number(roomId), 'USER', messageData.id)
                         .catch(err => console.error("메시지 읽음 처리 실패:", err));
                 }
             }
@@ -140,10 +157,13 @@ const ChatRoom: React.FC = () => {
 
         WebSocketService.addListener('message', handleNewMessage);
         WebSocketService.addListener('error', handleChatRoomError);
+        // 이 방을 보고 있는 동안은 새 메시지 알림을 받지 않는다
+        WebSocketService.watchRoom(Number(roomId));
 
         return () => {
             WebSocketService.removeListener('message', handleNewMessage);
             WebSocketService.removeListener('error', handleChatRoomError);
+            WebSocketService.unwatchRoom();
         };
     }, [userId, roomId, isDeleting]);
 
@@ -169,10 +189,13 @@ const ChatRoom: React.FC = () => {
                     salonProfileUrl: roomResponse.data.salonProfileUrl
                 });
 
-                const chatMessages = await ChatService.getChatMessages(Number(roomId));
-                setMessages(chatMessages);
+                const messagePage = await ChatService.getChatMessages(Number(roomId));
+                setMessages(messagePage.contents);
+                setHasMoreMessages(messagePage.hasNext);
+                setNextCursor(messagePage.nextCursor);
 
-                await ChatService.markMessagesAsRead(Number(roomId), 'USER');
+                const lastMessage = messagePage.contents[messagePage.contents.length - 1];
+                await ChatService.markMessagesAsRead(Number(roomId), 'USER', lastMessage?.id);
 
                 setLoading(false);
             } catch (err) {
@@ -186,6 +209,10 @@ const ChatRoom: React.FC = () => {
     }, [roomId]);
 
     useEffect(() => {
+        if (skipScrollRef.current) {
+            skipScrollRef.current = false;
+            return;
+        }
         scrollToBottom();
     }, [messages]);
 
@@ -193,6 +220,24 @@ const ChatRoom: React.FC = () => {
         messagesEndRef.current?.scrollIntoView({ behavior: 'smooth' });
     };
 
+    // 이전 메시지 더 불러오기 (키셋 페이징)
+    const loadOlderMessages = async () => {
+        if (!roomId || nextCursor === null || loadingOlder) return;
+
+        setLoadingOlder(true);
+        try {
+            const page = await ChatService.getChatMessages(Number(roomId), nextCursor);
+            skipScrollRef.current = true;
+            setMessages(prev => [...page.contents, ...prev]);
+            setHasMoreMessages(page.hasNext);
+            setNextCursor(page.nextCursor);
+        } catch (err) {
+            console.error('이전 메시지 로딩 오류:', err);
+        } finally {
+            setLoadingOlder(false);
+        }
+    };
+
     const handleBackClick = () => {
         navigate('/chat');
     };
@@ -460,6 +505,11 @@ const ChatRoom: React.FC = () => {
             </div>
 
             <div className={styles.messagesContainer}>
+                {hasMoreMessages && (
+                    <Button size="small" onClick={loadOlderMessages} disabled={loadingOlder}>
+                        {loadingOlder ? <CircularProgress size={16} /> : '이전 메시지 보기'}
+                    </Button>
+                )}
                 {messages.map((message) => {
                     const isUserMessage = message.senderType === 'USER';
                     const messageClassName = `${styles.messageBubble} ${isUserMessage ? styles.userMessage : styles.salonMessage}`;
@@ -145,6 +145,8 @@ function PaymentDetails() {
     useState<boolean>(false);
   const [agreeAll, setAgreeAllChecked] = useState<boolean>(false);
   const [successModalOpen, setSuccessModalOpen] = useState<boolean>(false);
+  // 결제 화면마다 한 번 만든 키: 재시도해도 서버가 같은 예약으로 처리한다
+  const [idempotencyKey] = useState<string>(() => crypto.randomUUID());
 
   const totalAmount = selectedMenu?.price || 0;
 
@@ -379,6 +381,7 @@ function PaymentDetails() {
       const config = {
         headers: {
           "Content-Type": "application/json",
+          "Idempotency-Key": idempotencyKey,
         },
       };
 
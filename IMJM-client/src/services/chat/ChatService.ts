@@ -28,6 +28,25 @@ export interface ChatMessageDto {
     translatedMessage: string | null;
     translationStatus: string;
     photos: ChatPhoto[];
+    type?: string;  // 'translation-updated' 등 후속 이벤트 구분용
+}
+
+// 메시지 페이지 (오래된 순 정렬, hasNext 이면 nextCursor 를 beforeId 로 넘겨 이전 메시지 조회)
+export interface ChatMessagePage<T> {
+    pageSize: number;
+    hasNext: boolean;
+    nextCursor: number | null;
+    contents: T[];
+}
+
+// 재연결 동기화 응답 (hasMore 면 nextSinceId 를 sinceId 로 넘겨 이어서 조회)
+export interface ChatSyncResponse {
+    nextSinceId: number | null;
+    hasMore: boolean;
+    serverTime: string;
+    messages: ChatMessageDto[];
+    rooms: ChatRoom[];
+    readStates: { chatRoomId: number; unreadForUser: number; unreadForSalon: number }[];
 }
 
 // 사진 타입
@@ -77,10 +96,13 @@ class ChatService {
         }
     }
 
-    // 채팅방 메시지 목록 조회
-    async getChatMessages(chatRoomId: number): Promise<ChatMessageDto[]> {
+    // 채팅방 메시지 목록 조회 (키셋 페이징)
+    // beforeId 가 없으면 최신 메시지부터, 있으면 해당 메시지 이전 메시지를 size 건 조회
+    async getChatMessages(chatRoomId: number, beforeId?: number, size: number = 50): Promise<ChatMessagePage<ChatMessageDto>> {
         try {
-            const response = await axios.get(`${this.baseUrl}/messages/${chatRoomId}`);
+            const response = await axios.get(`${this.baseUrl}/messages/${chatRoomId}`, {
+                params: { beforeId, size }
+            });
             return response.data;
         } catch (error) {
             console.error('Failed to fetch chat messages:', error);
@@ -88,11 +110,24 @@ class ChatService {
         }
     }
 
-    // 메시지 읽음 처리
-    async markMessagesAsRead(chatRoomId: number, senderType: string): Promise<boolean> {
+    // 재연결 동기화: 마지막으로 받은 메시지 id(없으면 연결이 끊긴 시각) 이후 변경분만 조회
+    async syncChats(sinceId?: number, since?: string): Promise<ChatSyncResponse> {
+        try {
+            const response = await axios.get(`${this.baseUrl}/sync`, {
+                params: { sinceId, since }
+            });
+            return response.data;
+        } catch (error) {
+            console.error('Failed to sync chats:', error);
+            throw error;
+        }
+    }
+
+    // 메시지 읽음 처리 (lastMessageId: 화면에 보인 마지막 메시지, 서버가 짧은 주기로 모아서 반영)
+    async markMessagesAsRead(chatRoomId: number, senderType: string, lastMessageId?: number): Promise<boolean> {
         try {
             const response = await axios.put(`${this.baseUrl}/messages/read/${chatRoomId}`, null, {
-                params: { senderType }
+                params: { senderType, lastMessageId }
             });
             return response.data.success;
         } catch (error) {
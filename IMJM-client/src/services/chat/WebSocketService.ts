@@ -1,8 +1,8 @@
 // services/chat/WebSocketService.ts
 
-import { Client } from '@stomp/stompjs';
+import { Client, StompSubscription } from '@stomp/stompjs';
 import SockJS from 'sockjs-client';
-import { ChatPhoto } from './ChatService';
+import ChatService, { ChatPhoto } from './ChatService';
 import axios from 'axios';
 
 interface MessageListener {
@@ -22,11 +22,21 @@ class WebSocketService {
         'error': []
     };
     private userId: string | null = null;
+    // 지금 열어 둔 채팅방 (서버 접속 현황 레지스트리에 알리는 용도)
+    private watchedRoomId: number | null = null;
+    private roomSubscription: StompSubscription | null = null;
+    // 재연결 동기화용: 마지막으로 받은 메시지 id, 연결이 끊긴 시각
+    private lastSeenMessageId: number | null = null;
+    private disconnectedAt: string | null = null;
+    private hasConnected = false;
 
     // 웹소켓 연결 초기화
     initialize(userId: string) {
         console.log("WebSocketService 초기화:", userId);
         this.userId = userId;
+        this.lastSeenMessageId = null;
+        this.disconnectedAt = null;
+        this.hasConnected = false;
 
         // 이미 연결되어 있으면 기존 연결 해제
         if (this.client && this.client.connected) {
@@ -62,6 +72,7 @@ class WebSocketService {
                         return;
                     }
 
+                    this.rememberMessage(messageData);
                     this.notifyListeners('message', messageData);
                 } catch (e) {
                     console.error("메시지 파싱 오류:", e);
@@ -87,6 +98,16 @@ class WebSocketService {
                     });
                 }
             });
+
+            // 재연결 시 보고 있던 채팅방 구독 복구
+            this.roomSubscription = null;
+            this.subscribeWatchedRoom();
+
+            // 재연결이면 끊겨 있던 동안의 변경분만 받아온다 (구독 복구 후에 호출해야 빈틈이 없다)
+            if (this.hasConnected) {
+                this.syncMissedMessages();
+            }
+            this.hasConnected = true;
         };
 
         // 에러 및 연결 끊김 핸들러 추가
@@ -101,6 +122,9 @@ class WebSocketService {
 
         this.client.onWebSocketClose = (evt) => {
             console.error('WebSocket 연결 끊김:', evt);
+            if (this.hasConnected && !this.disconnectedAt) {
+                this.disconnectedAt = new Date().toISOString();
+            }
             // 연결 끊김이 채팅방 삭제로 인한 것인지 확인
             if (evt.code === 1000 && evt.reason?.includes('deleted')) {
                 this.notifyListeners('error', {
@@ -124,6 +148,66 @@ class WebSocketService {
         }
     }
 
+    private rememberMessage(messageData: any) {
+        if (messageData.type === undefined && typeof messageData.id === 'number'
+            && (this.lastSeenMessageId === null || messageData.id > this.lastSeenMessageId)) {
+            this.lastSeenMessageId = messageData.id;
+        }
+    }
+
+    // 끊겨 있던 동안 놓친 메시지를 기존 'message' 리스너로 전달 (화면 쪽은 id로 중복을 거른다)
+    private async syncMissedMessages() {
+        let sinceId = this.lastSeenMessageId ?? undefined;
+        const since = sinceId === undefined ? this.disconnectedAt ?? undefined : undefined;
+        try {
+            let hasMore = true;
+            while (hasMore) {
+                const response = await ChatService.syncChats(sinceId, sinceId === undefined ? since : undefined);
+                response.messages.forEach(message => {
+                    this.rememberMessage(message);
+                    this.notifyListeners('message', message);
+                });
+                if (response.nextSinceId !== null) {
+                    sinceId = response.nextSinceId;
+                    if (this.lastSeenMessageId === null || sinceId > this.lastSeenMessageId) {
+                        this.lastSeenMessageId = sinceId;
+                    }
+                }
+                hasMore = response.hasMore;
+            }
+            this.disconnectedAt = null;
+        } catch (e) {
+            console.error('재연결 동기화 실패:', e);
+        }
+    }
+
+    // 채팅방 화면 진입: 이 방을 보고 있는 동안 서버는 알림을 따로 만들지 않는다
+    watchRoom(chatRoomId: number) {
+        if (this.watchedRoomId === chatRoomId && this.roomSubscription) {
+            return;
+        }
+        this.unwatchRoom();
+        this.watchedRoomId = chatRoomId;
+        this.subscribeWatchedRoom();
+    }
+
+    // 채팅방 화면 이탈
+    unwatchRoom() {
+        if (this.roomSubscription && this.client?.connected) {
+            this.roomSubscription.unsubscribe();
+        }
+        this.roomSubscription = null;
+        this.watchedRoomId = null;
+    }
+
+    private subscribeWatchedRoom() {
+        if (this.watchedRoomId === null || !this.client || !this.client.connected) {
+            return;
+        }
+        // 이 토픽으로는 메시지가 오지 않는다. 구독 자체가 "방을 보고 있음" 신호다
+        this.roomSubscription = this.client.subscribe(`/topic/chat-room.${this.watchedRoomId}`, () => {});
+    }
+
     // 메시지 전송 (텍스트만)
     async sendMessage(chatRoomId: number, content: string, senderType: string) {
         return this.sendMessageWithPhotos(chatRoomId, content, senderType, []);
@@ -0,0 +1,22 @@
+import axios from 'axios';
+import { EarliestSlot } from '../../type/reservation/reservation';
+
+// 미용실 전체 스타일리스트 중 가장 빠른 예약 가능 시간 (days 일 이내, 최대 limit 개)
+export async function getEarliestSlots(
+  salonId: string | null,
+  serviceMenuId: number | null,
+  days = 14,
+  limit = 5
+): Promise<EarliestSlot[]> {
+  if (!salonId || !serviceMenuId) return [];
+
+  try {
+    const response = await axios.get('/api/salon/reservations/earliest-slots', {
+      params: { salonId, serviceMenuId, days, limit },
+    });
+    return response.data;
+  } catch (error) {
+    console.error('빠른 예약 시간을 불러오는 데 실패했습니다:', error);
+    return [];
+  }
+}
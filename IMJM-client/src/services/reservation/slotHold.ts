@@ -0,0 +1,26 @@
+import axios from 'axios';
+
+export interface SlotHoldRequest {
+  stylistId: number;
+  reservationDate: string;  // YYYY-MM-DD
+  reservationTime: string;  // HH:mm
+}
+
+export interface SlotHold extends SlotHoldRequest {
+  expiresAt: string;
+}
+
+// 결제 화면 진입 전 슬롯 홀드, 다른 고객이 결제 중이거나 이미 예약된 시간이면 409
+export async function holdSlot(request: SlotHoldRequest): Promise<SlotHold> {
+  const response = await axios.post('/api/salon/reservation/hold', request);
+  return response.data;
+}
+
+export async function releaseSlot(request: SlotHoldRequest): Promise<void> {
+  try {
+    await axios.delete('/api/salon/reservation/hold', { data: request });
+  } catch (error) {
+    // 놓지 못한 홀드는 서버에서 만료 후 정리된다
+    console.error('슬롯 홀드 해제 실패:', error);
+  }
+}
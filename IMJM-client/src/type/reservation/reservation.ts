@@ -123,4 +123,10 @@ export interface ServiceMenusSectionProps {
 
 export interface HolidayNoticeProps {
   isSelectedDateHoliday: boolean;
-}
\ No newline at end of file
+}
+export interface EarliestSlot {
+  stylistId: number;
+  stylistName: string;
+  date: string;  // YYYY-MM-DD
+  time: string;  // HH:mm
+}
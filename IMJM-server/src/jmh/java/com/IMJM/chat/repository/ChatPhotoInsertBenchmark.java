@@ -0,0 +1,158 @@
+package com.IMJM.chat.repository;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사진이 여러 장인 메시지 저장 처리량 비교: IDENTITY(행마다 INSERT ... RETURNING) vs pooled 시퀀스 + 배치 INSERT
+ * <p>
+ * 실제 PostgreSQL 이 필요하다. 임시 테이블만 사용하므로 운영 스키마는 건드리지 않는다.
+ * 접속 정보는 벤치마크를 실행하는 fork JVM 의 시스템 프로퍼티로 넘긴다.
+ * <pre>
+ * ./gradlew jmhJar
+ * java -jar build/libs/IMJM-0.0.1-SNAPSHOT-jmh.jar ChatPhotoInsertBenchmark -wi 2 -i 5 -w 3s -r 5s -f 1 \
+ *     -jvmArgsAppend "-Djmh.jdbc.url=jdbc:postgresql://localhost:5432/postgres -Djmh.jdbc.user=postgres -Djmh.jdbc.password=..."
+ * </pre>
+ * 결과 단위는 메시지(= 메시지 1행 + 사진 photosPerMessage 행) 저장 횟수/초, 메시지마다 커밋한다.
+ * <p>
+ * 측정 예: 같은 호스트의 PostgreSQL 16.4 (initdb 기본 설정, fsync on), JDK 17.0.9, vCPU 1개, 위 명령 그대로.
+ * <pre>
+ * photosPerMessage  identityInsert          pooledBatchInsert
+ *        1          10,076 ± 3,914 ops/s    10,261 ± 3,570 ops/s
+ *        4           4,986 ± 1,256 ops/s     6,550 ± 2,746 ops/s
+ *        8           2,967 ±   598 ops/s     4,698 ±   592 ops/s
+ * </pre>
+ * 사진 1장은 차이가 오차 안이고, 4장/8장에서 배치 쪽이 약 1.3배/1.6배. vCPU 1개라 반복마다 편차가 커서
+ * 같은 설정에서도 실행마다 배율이 달라질 수 있다 (8장은 오차 구간이 겹치지 않는다).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ChatPhotoInsertBenchmark {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    @Param({"1", "4", "8"})
+    private int photosPerMessage;
+
+    private Connection connection;
+    private PreparedStatement insertMessage;
+    private PreparedStatement insertPhotoReturningId;
+    private PreparedStatement insertPhotoWithId;
+    private PreparedStatement nextPhotoBlock;
+
+    // pooled 최적화기 흉내: 시퀀스 값 하나로 ALLOCATION_SIZE 개의 id 를 메모리에서 나눠 쓴다
+    private long nextPhotoId;
+    private long photoIdLimit;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("user", System.getProperty("jmh.jdbc.user", "postgres"));
+        properties.setProperty("password", System.getProperty("jmh.jdbc.password", ""));
+        properties.setProperty("reWriteBatchedInserts", "true");
+        connection = DriverManager.getConnection(
+                System.getProperty("jmh.jdbc.url", "jdbc:postgresql://localhost:5432/imjm"), properties);
+        connection.setAutoCommit(false);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TEMP TABLE bench_chat_message (id BIGSERIAL PRIMARY KEY, message TEXT NOT NULL)");
+            // 변경 후 시퀀스: V11 처럼 INCREMENT BY 50, 첫 값이 첫 블록의 끝이 되도록 시작
+            statement.execute("CREATE TEMP SEQUENCE bench_chat_photos_pooled_seq " +
+                    "INCREMENT BY " + ALLOCATION_SIZE + " START WITH " + ALLOCATION_SIZE);
+            statement.execute("CREATE TEMP TABLE bench_chat_photos (" +
+                    "photo_id BIGSERIAL PRIMARY KEY, " +
+                    "chat_message_id BIGINT NOT NULL REFERENCES bench_chat_message(id), " +
+                    "photo_url VARCHAR(255) NOT NULL, " +
+                    "upload_date TIMESTAMPTZ DEFAULT CURRENT_TIMESTAMP)");
+        }
+        connection.commit();
+
+        insertMessage = connection.prepareStatement(
+                "INSERT INTO bench_chat_message (message) VALUES (?) RETURNING id");
+        insertPhotoReturningId = connection.prepareStatement(
+                "INSERT INTO bench_chat_photos (chat_message_id, photo_url) VALUES (?, ?) RETURNING photo_id");
+        insertPhotoWithId = connection.prepareStatement(
+                "INSERT INTO bench_chat_photos (photo_id, chat_message_id, photo_url) VALUES (?, ?, ?)");
+        nextPhotoBlock = connection.prepareStatement("SELECT nextval('bench_chat_photos_pooled_seq')");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        if (connection != null) {
+            connection.rollback();
+            connection.close();
+        }
+    }
+
+    // 변경 전: 사진마다 INSERT ... RETURNING 왕복
+    @Benchmark
+    public long identityInsert() throws SQLException {
+        long messageId = insertMessage();
+        long lastPhotoId = 0;
+        for (int i = 0; i < photosPerMessage; i++) {
+            insertPhotoReturningId.setLong(1, messageId);
+            insertPhotoReturningId.setString(2, "https://example.com/chat/" + messageId + "/" + i + ".jpg");
+            try (ResultSet resultSet = insertPhotoReturningId.executeQuery()) {
+                resultSet.next();
+                lastPhotoId = resultSet.getLong(1);
+            }
+        }
+        connection.commit();
+        return lastPhotoId;
+    }
+
+    // 변경 후: 시퀀스 블록에서 id 를 받고 사진을 한 번의 배치로 INSERT
+    @Benchmark
+    public long pooledBatchInsert() throws SQLException {
+        long messageId = insertMessage();
+        long lastPhotoId = 0;
+        for (int i = 0; i < photosPerMessage; i++) {
+            lastPhotoId = nextPhotoId();
+            insertPhotoWithId.setLong(1, lastPhotoId);
+            insertPhotoWithId.setLong(2, messageId);
+            insertPhotoWithId.setString(3, "https://example.com/chat/" + messageId + "/" + i + ".jpg");
+            insertPhotoWithId.addBatch();
+        }
+        insertPhotoWithId.executeBatch();
+        connection.commit();
+        return lastPhotoId;
+    }
+
+    private long insertMessage() throws SQLException {
+        insertMessage.setString(1, "사진 보냈어요");
+        try (ResultSet resultSet = insertMessage.executeQuery()) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private long nextPhotoId() throws SQLException {
+        if (nextPhotoId >= photoIdLimit) {
+            try (ResultSet resultSet = nextPhotoBlock.executeQuery()) {
+                resultSet.next();
+                long hi = resultSet.getLong(1);
+                nextPhotoId = hi - ALLOCATION_SIZE + 1;
+                photoIdLimit = hi + 1;
+            }
+        }
+        return nextPhotoId++;
+    }
+}
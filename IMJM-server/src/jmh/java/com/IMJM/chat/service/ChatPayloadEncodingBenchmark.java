@@ -0,0 +1,200 @@
+package com.IMJM.chat.service;
+
+import com.IMJM.chat.dto.ChatMessageDto;
+import com.IMJM.chat.dto.ChatPhotoDto;
+import com.IMJM.config.StompJson;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+
+/**
+ * 채팅 메시지 STOMP payload 인코딩 비용과 크기 비교 (./gradlew jmh)
+ * <p>
+ * encoding
+ * <ul>
+ *     <li>json: 변경 전 (null 필드 포함)</li>
+ *     <li>compact: null 필드 제외 (StompJson)</li>
+ *     <li>compact-deflate: compact + 메시지마다 새 압축 문맥 (permessage-deflate, no_context_takeover)</li>
+ *     <li>compact-deflate-context: compact + 압축 문맥 유지 (브라우저/Tomcat 기본 협상)</li>
+ * </ul>
+ * 결과 시간은 메시지 한 건을 수신자 두 명에게 보낼 때의 CPU 비용 (JSON 은 한 번만 만들고, 압축은 세션마다 따로).
+ * 수신자 한 명에게 보내는 프레임 크기(바이트)는 {@link PayloadSize} 보조 지표 bytesPerMessage 로 함께 나온다.
+ * 보내는 메시지는 대화 문장 8개를 돌려 쓰고 id, sentAt, 사진 URL 은 매번 다르다 (미리 만든 {@value #MESSAGE_RING} 건을 순환,
+ * 압축 창 32KB 보다 길어 똑같은 프레임이 문맥 안에서 반복되지 않는다). compact-deflate-context 는 같은 방에서
+ * 대화가 이어질 때의 크기다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChatPayloadEncodingBenchmark {
+
+    private static final int RECIPIENTS = 2;
+    private static final int MESSAGE_RING = 256;
+
+    // 원문, 번역문
+    private static final String[][] CONVERSATION = {
+            {"안녕하세요, 내일 오후 3시에 레이어드컷 예약 가능한가요?", "Hello, is a layered cut available tomorrow at 3 PM?"},
+            {"네 가능합니다! 원하시는 길이가 있으실까요?", "Yes, we can! Do you have a length in mind?"},
+            {"어깨 정도로 자르고 C컬 펌도 같이 하고 싶어요", "I'd like it cut to shoulder length with a C-curl perm as well."},
+            {"C컬 펌까지 하시면 2시간 30분 정도 걸려요", "With the C-curl perm it takes about 2 hours 30 minutes."},
+            {"가격은 얼마인가요?", "How much does it cost?"},
+            {"컷 포함 12만원이고 기장 추가는 없습니다 😊", "It's 120,000 won including the cut, with no extra charge for length."},
+            {"좋아요, 그럼 3시로 예약할게요", "Great, I'll book for 3 o'clock then."},
+            {"예약 완료되었습니다. 내일 뵙겠습니다!", "Your reservation is confirmed. See you tomorrow!"}
+    };
+
+    @Param({"json", "compact", "compact-deflate", "compact-deflate-context"})
+    private String encoding;
+
+    @Param({"text", "translated", "photos"})
+    private String shape;
+
+    private ObjectMapper mapper;
+    private ChatMessageDto[] messages;
+    private int next;
+    private boolean deflate;
+    private boolean contextTakeover;
+    private Deflater[] deflaters;
+    private final byte[] buffer = new byte[64 * 1024];
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper base = Jackson2ObjectMapperBuilder.json()
+                .timeZone("Asia/Seoul")
+                .build();
+        mapper = encoding.equals("json") ? base : StompJson.compactMapper(base);
+        deflate = encoding.startsWith("compact-deflate");
+        contextTakeover = encoding.equals("compact-deflate-context");
+        messages = new ChatMessageDto[MESSAGE_RING];
+        for (int i = 0; i < MESSAGE_RING; i++) {
+            messages[i] = message(shape, i);
+        }
+
+        deflaters = new Deflater[RECIPIENTS];
+        for (int i = 0; i < RECIPIENTS; i++) {
+            // permessage-deflate 는 zlib 헤더 없는 raw deflate
+            deflaters[i] = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (Deflater deflater : deflaters) {
+            deflater.end();
+        }
+    }
+
+    @Benchmark
+    public long sendToParticipants(PayloadSize size) throws Exception {
+        byte[] json = mapper.writeValueAsBytes(messages[next]);
+        next = (next + 1) % MESSAGE_RING;
+        long total = 0;
+        if (!deflate) {
+            total = (long) json.length * RECIPIENTS;
+        } else {
+            for (int i = 0; i < RECIPIENTS; i++) {
+                total += deflate(deflaters[i], json);
+            }
+        }
+        size.bytes += total;
+        size.frames += RECIPIENTS;
+        return total;
+    }
+
+    // 반복(iteration)마다 수신자 한 명에게 보낸 프레임의 평균 바이트
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+
+        private long bytes;
+        private long frames;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+            frames = 0;
+        }
+
+        public double bytesPerMessage() {
+            return frames == 0 ? 0 : (double) bytes / frames;
+        }
+    }
+
+    private int deflate(Deflater deflater, byte[] json) {
+        if (!contextTakeover) {
+            deflater.reset();
+        }
+        deflater.setInput(json);
+        int length = 0;
+        int written;
+        do {
+            written = deflater.deflate(buffer, length, buffer.length - length, Deflater.SYNC_FLUSH);
+            length += written;
+        } while (written > 0 && length < buffer.length);
+        // SYNC_FLUSH 끝의 00 00 ff ff 는 전송하지 않는다 (RFC 7692 7.2.1)
+        return length - 4;
+    }
+
+    // n 번째 메시지: 문장은 CONVERSATION 을 돌려 쓰고, id/sentAt/사진은 매번 다르다
+    private static ChatMessageDto message(String shape, int n) {
+        OffsetDateTime sentAt = OffsetDateTime.of(2025, 5, 20, 14, 30, 12, 345_678_000, ZoneOffset.ofHours(9))
+                .plusNanos(n * 7_919_123_457L);
+        String[] line = CONVERSATION[n % CONVERSATION.length];
+        boolean fromUser = n % 2 == 0;
+        ChatMessageDto.ChatMessageDtoBuilder builder = ChatMessageDto.builder()
+                .id(1_234_567L + n * 3L)
+                .chatRoomId(4_321L)
+                .senderType(fromUser ? "USER" : "SALON")
+                .senderId(fromUser ? "google_109876543210987654321" : "salon_0f3a9c")
+                .message(line[0])
+                .isRead(false)
+                .sentAt(sentAt);
+
+        switch (shape) {
+            case "translated":
+                builder.translatedMessage(line[1])
+                        .translationStatus("completed")
+                        .photos(Collections.emptyList());
+                break;
+            case "photos":
+                builder.message("사진 보냈어요")
+                        .translationStatus("none")
+                        .photos(List.of(
+                                photo(n, 1), photo(n, 2), photo(n, 3), photo(n, 4)));
+                break;
+            default:
+                builder.translationStatus("none")
+                        .photos(Collections.emptyList());
+        }
+        return builder.build();
+    }
+
+    private static ChatPhotoDto photo(int n, long index) {
+        long photoId = 9_000L + n * 4L + index;
+        // 업로드 파일명은 시각 + UUID 라 사진마다 다르다
+        UUID uuid = new UUID(0x3f2b8c1e7a4d4e59L ^ (photoId * 0x9e3779b97f4a7c15L), 0x9c21000000000000L | photoId * 31);
+        return ChatPhotoDto.builder()
+                .photoId(photoId)
+                .photoUrl("https://imjm-bucket.kr.object.ncloudstorage.com/chat/4321/"
+                        + (1_716_183_012_345L + n * 7_919L) + "_" + uuid + ".jpg")
+                .build();
+    }
+}
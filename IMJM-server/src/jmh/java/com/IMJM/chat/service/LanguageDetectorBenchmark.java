@@ -0,0 +1,49 @@
+package com.IMJM.chat.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메시지 한 건당 언어 판별 비용 측정 (./gradlew jmh)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LanguageDetectorBenchmark {
+
+    private static final Map<String, String> MESSAGES = Map.of(
+            "ko", "안녕하세요, 내일 오후 3시에 레이어드컷 예약 가능한가요?",
+            "ja", "こんにちは、明日の午後三時にカットの予約をお願いします",
+            "zh", "你好，我想预约明天下午三点剪发",
+            "en", "Hello, can I book a layered cut for tomorrow afternoon?",
+            "fr", "Bonjour, je voudrais un rendez-vous pour une coupe demain",
+            "vi", "Xin chào, tôi muốn đặt lịch cắt tóc vào chiều mai",
+            "mixed", "C컬 펌 + 염색 같이 하면 얼마인가요? 😊"
+    );
+
+    @Param({"ko", "ja", "zh", "en", "fr", "vi", "mixed"})
+    private String language;
+
+    private LanguageDetector detector;
+    private String message;
+
+    @Setup
+    public void setUp() {
+        detector = new LanguageDetector();
+        message = MESSAGES.get(language);
+    }
+
+    @Benchmark
+    public String detect() {
+        return detector.detect(message);
+    }
+}
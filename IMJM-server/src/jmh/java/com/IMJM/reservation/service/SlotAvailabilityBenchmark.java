@@ -0,0 +1,112 @@
+package com.IMJM.reservation.service;
+
+import com.IMJM.common.entity.AdminStylist;
+import com.IMJM.common.entity.Salon;
+import com.IMJM.reservation.dto.EarliestSlotDto;
+import com.IMJM.reservation.repository.AdminStylistRepository;
+import com.IMJM.reservation.repository.ReservationRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 미용실 빠른 예약 검색(findEarliestSlots) 비용 측정, 캐시가 모두 채워진 상태 (./gradlew jmh)
+ * <p>
+ * 스타일리스트 8명, 10:00 ~ 20:00 30분 단위. 앞의 3일은 예약이 꽉 차 있어 넷째 날부터 빈 슬롯이 나온다.
+ * 저장소는 Proxy 로 만든 가짜라 DB 없이 돈다 (캐시가 채워진 뒤에는 호출되지 않음).
+ * contended 는 8 스레드가 같은 캐시를 동시에 읽을 때의 호출당 시간이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SlotAvailabilityBenchmark {
+
+    private static final String SALON_ID = "salon";
+    private static final int STYLISTS = 8;
+    private static final int FULL_DAYS = 3;
+    private static final LocalDate FROM = LocalDate.of(2026, 10, 19);
+
+    @Param({"7", "30"})
+    private int dayCount;
+
+    private SlotAvailabilityService service;
+
+    @Setup
+    public void setUp() {
+        Salon salon = Salon.builder()
+                .id(SALON_ID)
+                .startTime(LocalTime.of(10, 0))
+                .endTime(LocalTime.of(20, 0))
+                .timeUnit(30)
+                .holidayMask((short) 0)
+                .build();
+        List<AdminStylist> stylists = new ArrayList<>();
+        for (long id = 1; id <= STYLISTS; id++) {
+            stylists.add(AdminStylist.builder()
+                    .stylistId(id)
+                    .name("stylist-" + id)
+                    .startTime(LocalTime.of(10, 0))
+                    .endTime(LocalTime.of(20, 0))
+                    .salon(salon)
+                    .build());
+        }
+
+        List<Object[]> booked = new ArrayList<>();
+        for (int day = 0; day < FULL_DAYS; day++) {
+            for (AdminStylist stylist : stylists) {
+                for (LocalTime time = LocalTime.of(10, 0); time.isBefore(LocalTime.of(20, 0)); time = time.plusMinutes(30)) {
+                    booked.add(new Object[]{stylist.getStylistId(), FROM.plusDays(day), time});
+                }
+            }
+        }
+
+        AdminStylistRepository stylistRepository = stub(AdminStylistRepository.class, (name, args) ->
+                name.equals("findWithSalonBySalonId") ? stylists
+                        : name.equals("findWithSalonByStylistId") ? Optional.of(stylists.get(0)) : null);
+        ReservationRepository reservationRepository = stub(ReservationRepository.class, (name, args) ->
+                name.equals("findBookedSlotsBySalonAndDateRange") ? booked : List.of());
+
+        service = new SlotAvailabilityService(stylistRepository, reservationRepository,
+                new SlotHoldRegistry(), 10_000, 3600);
+        // 캐시 채우기
+        service.findEarliestSlots(SALON_ID, FROM, LocalTime.of(9, 0), dayCount, 10, "user");
+    }
+
+    @Benchmark
+    public List<EarliestSlotDto> findEarliestSlots() {
+        return service.findEarliestSlots(SALON_ID, FROM, LocalTime.of(9, 0), dayCount, 10, "user");
+    }
+
+    @Benchmark
+    @Threads(8)
+    public List<EarliestSlotDto> findEarliestSlotsContended() {
+        return service.findEarliestSlots(SALON_ID, FROM, LocalTime.of(9, 0), dayCount, 10, "user");
+    }
+
+    private interface Answer {
+        Object answer(String methodName, Object[] args);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, Answer answer) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> method.getDeclaringClass() == Object.class
+                        ? (method.getName().equals("equals") ? proxy == args[0]
+                        : method.getName().equals("hashCode") ? System.identityHashCode(proxy) : type.getSimpleName())
+                        : answer.answer(method.getName(), args));
+    }
+}
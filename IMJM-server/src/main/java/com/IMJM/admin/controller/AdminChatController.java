@@ -2,23 +2,30 @@ package com.IMJM.admin.controller;
 
 import com.IMJM.admin.dto.ChatMessageDto;
 import com.IMJM.admin.dto.ChatRoomDto;
+import com.IMJM.admin.dto.ChatSearchHitDto;
 import com.IMJM.admin.dto.CustomSalonDetails;
 import com.IMJM.admin.repository.AdminChatRepository;
 import com.IMJM.admin.repository.SalonPhotosRepository;
+import com.IMJM.chat.dto.ChatSyncResponseDto;
 import com.IMJM.chat.repository.ChatRoomRepository;
+import com.IMJM.chat.service.ChatSearchTokenizer;
+import com.IMJM.chat.service.ChatService;
+import com.IMJM.chat.service.ReadReceiptAggregator;
 import com.IMJM.common.entity.ChatRoom;
 import com.IMJM.common.entity.SalonPhotos;
+import com.IMJM.common.page.CursorPageResponseDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.OffsetDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,7 +38,8 @@ public class AdminChatController {
     private final AdminChatRepository adminChatRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final SalonPhotosRepository salonPhotosRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ReadReceiptAggregator readReceiptAggregator;
+    private final ChatService chatService;
 
     @MessageMapping("/sendMessage")
     public void sendMessage(@Payload ChatMessageDto chatMessageDto) {
@@ -44,23 +52,12 @@ public class AdminChatController {
         return ResponseEntity.ok(adminChatRepository.getSalonChatRooms(salonDetails.getSalon().getId()));
     }
 
+    // 읽음 처리는 ReadReceiptAggregator 가 모아서 반영하고 양쪽에 message-read 이벤트를 보낸다
     @MessageMapping("/chat/message-read/{roomId}")
-    public void handleMessageRead(@DestinationVariable Long roomId) {
-        adminChatRepository.markMessagesAsRead(roomId);
-
-        ChatRoom chatRoom = chatRoomRepository.findById(roomId)
-                .orElseThrow(() -> new RuntimeException("Chat room not found"));
-
-        messagingTemplate.convertAndSendToUser(
-                chatRoom.getUser().getId(),
-                "/queue/message-read",
-                roomId
-        );
-        messagingTemplate.convertAndSendToUser(
-                chatRoom.getSalon().getId(),
-                "/queue/message-read",
-                roomId
-        );
+    public void handleMessageRead(@DestinationVariable Long roomId,
+                                  @Payload(required = false) Map<String, Long> payload) {
+        Long lastMessageId = payload != null ? payload.get("lastMessageId") : null;
+        readReceiptAggregator.submit(roomId, "SALON", lastMessageId);
     }
 
     @GetMapping("/room/{roomId}")
@@ -93,15 +90,43 @@ public class AdminChatController {
     }
 
     @GetMapping("/messages/{chatRoomId}")
-    public ResponseEntity<List<ChatMessageDto>> getChatMessages(
-            @PathVariable Long chatRoomId) {
-        return ResponseEntity.ok(adminChatRepository.getChatMessages(chatRoomId));
+    public ResponseEntity<CursorPageResponseDto<ChatMessageDto>> getChatMessages(
+            @PathVariable Long chatRoomId,
+            @RequestParam(required = false) Long beforeId,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(adminChatRepository.getChatMessages(chatRoomId, beforeId, size));
+    }
+
+    // 채팅 검색: 로그인한 미용실의 채팅방(chatRoomId 가 있으면 그 방만)에서 keyword 가 들어간 메시지를 최신순으로
+    @GetMapping("/search")
+    public ResponseEntity<CursorPageResponseDto<ChatSearchHitDto>> searchMessages(
+            @AuthenticationPrincipal CustomSalonDetails salonDetails,
+            @RequestParam String keyword,
+            @RequestParam(required = false) Long chatRoomId,
+            @RequestParam(required = false) Long beforeId,
+            @RequestParam(defaultValue = "20") int size) {
+        if (!ChatSearchTokenizer.isSearchable(keyword)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(adminChatRepository.searchMessages(
+                salonDetails.getSalon().getId(), keyword, chatRoomId, beforeId, size));
+    }
+
+    // 재연결 동기화: 마지막으로 받은 메시지 id(sinceId) 또는 시각(since) 이후 변경분만 조회
+    // 직전 응답의 nextSinceId 와 serverTime 을 함께 넘기면 번역/안 읽은 수도 바뀐 것만 받는다
+    @GetMapping("/sync")
+    public ResponseEntity<ChatSyncResponseDto> syncChats(
+            @AuthenticationPrincipal CustomSalonDetails salonDetails,
+            @RequestParam(required = false) Long sinceId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime since) {
+        return ResponseEntity.ok(chatService.syncChats(salonDetails.getSalon().getId(), "SALON", sinceId, since));
     }
 
     @PutMapping("/messages/read/{chatRoomId}")
     public ResponseEntity<Map<String, Boolean>> markMessagesAsRead(
-            @PathVariable Long chatRoomId) {
-        adminChatRepository.markMessagesAsRead(chatRoomId);
+            @PathVariable Long chatRoomId,
+            @RequestParam(required = false) Long lastMessageId) {
+        readReceiptAggregator.submit(chatRoomId, "SALON", lastMessageId);
         return ResponseEntity.ok(Map.of("success", true));
     }
 
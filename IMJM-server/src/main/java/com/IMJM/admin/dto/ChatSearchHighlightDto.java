@@ -0,0 +1,14 @@
+package com.IMJM.admin.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatSearchHighlightDto {
+
+    private int start;
+    private int end;
+}
@@ -0,0 +1,24 @@
+package com.IMJM.admin.dto;
+
+import lombok.*;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+// 채팅 검색 결과 한 건: 하이라이트는 message / translatedMessage 안의 [start, end) 위치
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatSearchHitDto {
+
+    private Long id;
+    private Long chatRoomId;
+    private String senderType;  // 'USER' 또는 'SALON'
+    private String message;
+    private OffsetDateTime sentAt;
+    private String translatedMessage;
+    private List<ChatSearchHighlightDto> messageHighlights;
+    private List<ChatSearchHighlightDto> translatedHighlights;
+}
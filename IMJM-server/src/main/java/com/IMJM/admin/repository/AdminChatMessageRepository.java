@@ -1,25 +1,50 @@
 package com.IMJM.admin.repository;
 
 import com.IMJM.common.entity.ChatMessage;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
 import java.util.List;
-import java.util.Optional;
 
 @Repository
 public interface AdminChatMessageRepository extends JpaRepository<ChatMessage, Long> {
-    List<ChatMessage> findByChatRoomIdOrderBySentAtAsc(Long chatRoomId);
+    // 키셋 페이징: 최신 메시지부터 (sent_at, id) 역순
+    @Query("SELECT cm FROM ChatMessage cm LEFT JOIN FETCH cm.chatRoom " +
+            "WHERE cm.chatRoom.id = :chatRoomId " +
+            "ORDER BY cm.sentAt DESC, cm.id DESC")
+    List<ChatMessage> findLatestByChatRoomId(@Param("chatRoomId") Long chatRoomId, Pageable pageable);
 
-    @Modifying
-    @Query("UPDATE ChatMessage c SET c.isRead = true WHERE c.chatRoom.id = :chatRoomId")
-    void updateMessagesAsRead(@Param("chatRoomId") Long chatRoomId);
+    // 키셋 페이징: 커서 메시지 (sentAt, id) 보다 이전 메시지
+    @Query("SELECT cm FROM ChatMessage cm LEFT JOIN FETCH cm.chatRoom " +
+            "WHERE cm.chatRoom.id = :chatRoomId " +
+            "AND (cm.sentAt < :sentAt OR (cm.sentAt = :sentAt AND cm.id < :id)) " +
+            "ORDER BY cm.sentAt DESC, cm.id DESC")
+    List<ChatMessage> findByChatRoomIdBefore(@Param("chatRoomId") Long chatRoomId,
+                                             @Param("sentAt") OffsetDateTime sentAt,
+                                             @Param("id") Long id,
+                                             Pageable pageable);
 
-    Optional<ChatMessage> findTopByChatRoomIdOrderBySentAtDesc(Long chatRoomId);
-
-    @Query("SELECT COUNT(cm) FROM ChatMessage cm WHERE cm.chatRoom.id = :chatRoomId AND cm.senderType = :senderType AND cm.isRead = false")
-    int countByReadFalseAndSenderType(@Param("chatRoomId") Long chatRoomId, @Param("senderType") String senderType);
+    // 미용실 채팅 검색: bigram 색인(idx_chat_message_search)으로 후보를 좁히고 원문/번역문 포함 여부를 다시 확인
+    // chatRoomId 가 없으면 미용실의 모든 채팅방, sentAt/id 커서가 없으면 최신 메시지부터
+    @Query(value = "SELECT m.* FROM chat_message m JOIN chat_room r ON r.id = m.chat_room_id " +
+            "WHERE r.salon_id = :salonId " +
+            "AND (CAST(:chatRoomId AS BIGINT) IS NULL OR m.chat_room_id = CAST(:chatRoomId AS BIGINT)) " +
+            "AND to_tsvector('simple', m.search_tokens) @@ plainto_tsquery('simple', :tokens) " +
+            "AND (strpos(lower(normalize(m.message, NFKC)), :keyword) > 0 " +
+            "     OR strpos(lower(normalize(COALESCE(m.translated_message, ''), NFKC)), :keyword) > 0) " +
+            "AND (CAST(:sentAt AS TIMESTAMPTZ) IS NULL OR m.sent_at < CAST(:sentAt AS TIMESTAMPTZ) " +
+            "     OR (m.sent_at = CAST(:sentAt AS TIMESTAMPTZ) AND m.id < CAST(:id AS BIGINT))) " +
+            "ORDER BY m.sent_at DESC, m.id DESC " +
+            "LIMIT :limit", nativeQuery = true)
+    List<ChatMessage> searchBySalonId(@Param("salonId") String salonId,
+                                      @Param("chatRoomId") Long chatRoomId,
+                                      @Param("tokens") String tokens,
+                                      @Param("keyword") String keyword,
+                                      @Param("sentAt") OffsetDateTime sentAt,
+                                      @Param("id") Long id,
+                                      @Param("limit") int limit);
 }
\ No newline at end of file
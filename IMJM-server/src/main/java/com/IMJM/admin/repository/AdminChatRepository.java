@@ -2,6 +2,8 @@ package com.IMJM.admin.repository;
 
 import com.IMJM.admin.dto.ChatMessageDto;
 import com.IMJM.admin.dto.ChatRoomDto;
+import com.IMJM.admin.dto.ChatSearchHitDto;
+import com.IMJM.common.page.CursorPageResponseDto;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -9,7 +11,7 @@ import java.util.List;
 public interface AdminChatRepository {
     void sendMessage(ChatMessageDto messageDto);
     List<ChatRoomDto> getSalonChatRooms(String salonId);
-    List<ChatMessageDto> getChatMessages(Long chatRoomId);
-    void markMessagesAsRead(Long chatRoomId);
+    CursorPageResponseDto<ChatMessageDto> getChatMessages(Long chatRoomId, Long beforeId, int size);
     String uploadChatImage(MultipartFile file, Long chatRoomId);
+    CursorPageResponseDto<ChatSearchHitDto> searchMessages(String salonId, String keyword, Long chatRoomId, Long beforeId, int size);
 }
\ No newline at end of file
@@ -2,13 +2,33 @@ package com.IMJM.admin.repository;
 
 import com.IMJM.common.entity.ChatRoom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface AdminChatRoomRepository extends JpaRepository<ChatRoom, Long> {
-    List<ChatRoom> findBySalonIdOrderByLastMessageTimeDesc(String salonId);
     Optional<ChatRoom> findByUserIdAndSalonId(String userId, String salonId);
+
+    // 목록 조회: 사용자/미용실을 함께 가져와 방마다 추가 쿼리가 나가지 않도록 한다
+    @Query("SELECT r FROM ChatRoom r JOIN FETCH r.user JOIN FETCH r.salon WHERE r.salon.id = :salonId ORDER BY r.lastMessageTime DESC")
+    List<ChatRoom> findWithUserAndSalonBySalonIdOrderByLastMessageTimeDesc(@Param("salonId") String salonId);
+
+    // 새 메시지 반영: 마지막 메시지 요약과 상대방의 안 읽은 수를 한 번에 원자적으로 갱신
+    @Modifying
+    @Query("UPDATE ChatRoom r SET r.lastMessageTime = :sentAt, r.lastMessagePreview = :preview, r.lastSenderType = :senderType, " +
+            "r.unreadForUser = r.unreadForUser + :userIncrement, r.unreadForSalon = r.unreadForSalon + :salonIncrement, " +
+            "r.unreadUpdatedAt = :sentAt " +
+            "WHERE r.id = :chatRoomId")
+    int recordNewMessage(@Param("chatRoomId") Long chatRoomId,
+                         @Param("sentAt") OffsetDateTime sentAt,
+                         @Param("preview") String preview,
+                         @Param("senderType") String senderType,
+                         @Param("userIncrement") int userIncrement,
+                         @Param("salonIncrement") int salonIncrement);
 }
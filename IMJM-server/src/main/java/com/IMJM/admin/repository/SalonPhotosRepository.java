@@ -5,10 +5,13 @@ import com.IMJM.common.entity.Salon;
 import com.IMJM.common.entity.SalonPhotos;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface SalonPhotosRepository extends JpaRepository<SalonPhotos, Long> {
     List<SalonPhotos> findBySalon_IdOrderByPhotoOrderAsc(String salonId);
 
+    List<SalonPhotos> findBySalon_IdInOrderByPhotoOrderAsc(Collection<String> salonIds);
+
     List<SalonPhotos> findBySalon(Salon salon);
 }
@@ -10,4 +10,6 @@ public interface ServiceMenuRepository extends JpaRepository<ServiceMenu, Long>
     List<ServiceMenu> findBySalonId(String salonId);
 
     List<ServiceMenu> findAllBySalonId(String salonId);
+
+    boolean existsByIdAndSalon_Id(Long id, String salonId);
 }
@@ -3,13 +3,21 @@ package com.IMJM.admin.service;
 import com.IMJM.admin.dto.ChatMessageDto;
 import com.IMJM.admin.dto.ChatPhotoDto;
 import com.IMJM.admin.dto.ChatRoomDto;
+import com.IMJM.admin.dto.ChatSearchHighlightDto;
+import com.IMJM.admin.dto.ChatSearchHitDto;
 import com.IMJM.admin.repository.*;
+import com.IMJM.chat.service.ChatMessageArchiveService;
+import com.IMJM.chat.event.ChatMessageSentEvent;
+import com.IMJM.chat.service.ChatSearchTokenizer;
 import com.IMJM.common.cloud.StorageService;
 import com.IMJM.common.entity.*;
+import com.IMJM.common.page.CursorPageResponseDto;
 import com.IMJM.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -28,8 +36,12 @@ public class AdminChatServiceImpl implements AdminChatRepository {
     private final AdminChatPhotosRepository adminChatPhotosRepository;
     private final SalonRepository salonRepository;
     private final UserRepository userRepository;
-    private final SimpMessagingTemplate messagingTemplate;
     private final StorageService storageService;
+    private final ChatMessageArchiveService chatMessageArchiveService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 메시지 목록 한 페이지 최대 건수
+    private static final int MAX_MESSAGE_PAGE_SIZE = 100;
 
     @Value("${ncp.bucket-name}")
     private String bucketName;
@@ -48,6 +60,7 @@ public class AdminChatServiceImpl implements AdminChatRepository {
                 .message(messageDto.getMessage())
                 .isRead(false)
                 .sentAt(OffsetDateTime.now())
+                .searchTokens(ChatSearchTokenizer.indexTokens(messageDto.getMessage(), null))
                 .build();
 
         ChatMessage savedMessage = adminChatMessageRepository.save(chatMessage);
@@ -55,53 +68,198 @@ public class AdminChatServiceImpl implements AdminChatRepository {
         // 사진 저장
         List<ChatPhotos> savedPhotos = savePhotos(savedMessage, messageDto.getPhotos());
 
-        // 채팅방 마지막 메시지 시간 업데이트
-        chatRoom.updateLastMessageTime(OffsetDateTime.now());
-        adminChatRoomRepository.save(chatRoom);
+        // 채팅방 요약(마지막 메시지, 상대방 안 읽은 수) 갱신
+        boolean fromUser = "USER".equals(messageDto.getSenderType());
+        adminChatRoomRepository.recordNewMessage(
+                chatRoom.getId(),
+                savedMessage.getSentAt(),
+                ChatRoom.toPreview(savedMessage.getMessage()),
+                savedMessage.getSenderType(),
+                fromUser ? 0 : 1,
+                fromUser ? 1 : 0
+        );
 
         // 메시지 DTO 변환
         ChatMessageDto responseDto = convertToMessageDto(savedMessage, savedPhotos);
 
-        // 웹소켓으로 메시지 전송
-        messagingTemplate.convertAndSendToUser(
-                chatRoom.getUser().getId(),
-                "/queue/messages",
-                responseDto
-        );
-        messagingTemplate.convertAndSendToUser(
-                chatRoom.getSalon().getId(),
-                "/queue/messages",
-                responseDto
-        );
+        // 웹소켓으로 메시지 전송 (커밋 후, JSON 은 한 번만 만든다)
+        eventPublisher.publishEvent(new ChatMessageSentEvent(
+                chatRoom.getUser().getId(), chatRoom.getSalon().getId(), responseDto));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ChatRoomDto> getSalonChatRooms(String salonId) {
-        List<ChatRoom> chatRooms = adminChatRoomRepository.findBySalonIdOrderByLastMessageTimeDesc(salonId);
+        List<ChatRoom> chatRooms = adminChatRoomRepository.findWithUserAndSalonBySalonIdOrderByLastMessageTimeDesc(salonId);
 
         return chatRooms.stream()
                 .map(this::convertToChatRoomDto)
                 .collect(Collectors.toList());
     }
 
+    // 보관 파일은 오브젝트 스토리지에서 내려받으므로 트랜잭션으로 감싸지 않는다 (DB 조회는 각 리포지토리 트랜잭션으로 실행)
+    @Override
+    public CursorPageResponseDto<ChatMessageDto> getChatMessages(Long chatRoomId, Long beforeId, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_MESSAGE_PAGE_SIZE);
+        // 다음 페이지 존재 여부를 알기 위해 1건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<ChatMessage> messages;
+        OffsetDateTime cursorSentAt = null;
+        Long cursorId = null;
+        if (beforeId == null) {
+            messages = adminChatMessageRepository.findLatestByChatRoomId(chatRoomId, limit);
+        } else {
+            Optional<ChatMessage> cursor = adminChatMessageRepository.findById(beforeId)
+                    .filter(message -> message.getChatRoom().getId().equals(chatRoomId));
+            if (cursor.isPresent()) {
+                cursorSentAt = cursor.get().getSentAt();
+                cursorId = cursor.get().getId();
+                messages = adminChatMessageRepository.findByChatRoomIdBefore(chatRoomId, cursorSentAt, cursorId, limit);
+            } else {
+                // 커서가 이미 보관된 메시지라면 그 이전 메시지도 모두 보관되어 있다
+                com.IMJM.chat.dto.ChatMessageDto archivedCursor = chatMessageArchiveService.findMessage(chatRoomId, beforeId);
+                if (archivedCursor == null) {
+                    return CursorPageResponseDto.<ChatMessageDto>builder()
+                            .pageSize(pageSize)
+                            .hasNext(false)
+                            .contents(Collections.emptyList())
+                            .build();
+                }
+                cursorSentAt = archivedCursor.getSentAt();
+                cursorId = archivedCursor.getId();
+                messages = Collections.emptyList();
+            }
+        }
+
+        // 페이지 내 사진을 한 번에 조회
+        Map<Long, List<ChatPhotos>> photosByMessageId = findPhotosByMessageId(messages);
+
+        // 최신순
+        List<ChatMessageDto> contents = messages.stream()
+                .map(message -> convertToMessageDto(message,
+                        photosByMessageId.getOrDefault(message.getId(), Collections.emptyList())))
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        // 운영 DB 의 메시지가 모자라면 보관(아카이브)된 월 파티션에서 이어서 채운다
+        if (contents.size() <= pageSize) {
+            if (!messages.isEmpty()) {
+                ChatMessage oldest = messages.get(messages.size() - 1);
+                cursorSentAt = oldest.getSentAt();
+                cursorId = oldest.getId();
+            }
+            chatMessageArchiveService.findBefore(chatRoomId, cursorSentAt, cursorId, pageSize + 1 - contents.size())
+                    .forEach(archived -> contents.add(convertArchivedMessageDto(archived)));
+        }
+
+        boolean hasNext = contents.size() > pageSize;
+        // 화면에는 오래된 메시지부터 표시
+        List<ChatMessageDto> page = new ArrayList<>(hasNext ? contents.subList(0, pageSize) : contents);
+        Collections.reverse(page);
+
+        return CursorPageResponseDto.<ChatMessageDto>builder()
+                .pageSize(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? page.get(0).getId() : null)
+                .contents(page)
+                .build();
+    }
+
+    private ChatMessageDto convertArchivedMessageDto(com.IMJM.chat.dto.ChatMessageDto archived) {
+        List<ChatPhotoDto> photos = archived.getPhotos() == null
+                ? Collections.emptyList()
+                : archived.getPhotos().stream()
+                        .map(photo -> ChatPhotoDto.builder()
+                                .photoId(photo.getPhotoId())
+                                .photoUrl(photo.getPhotoUrl())
+                                .build())
+                        .collect(Collectors.toList());
+
+        return ChatMessageDto.builder()
+                .id(archived.getId())
+                .chatRoomId(archived.getChatRoomId())
+                .senderType(archived.getSenderType())
+                .senderId(archived.getSenderId())
+                .message(archived.getMessage())
+                .isRead(archived.getIsRead())
+                .sentAt(archived.getSentAt())
+                .translatedMessage(archived.getTranslatedMessage())
+                .translationStatus(archived.getTranslationStatus())
+                .photos(photos)
+                .build();
+    }
+
     @Override
     @Transactional(readOnly = true)
-    public List<ChatMessageDto> getChatMessages(Long chatRoomId) {
-        List<ChatMessage> messages = adminChatMessageRepository.findByChatRoomIdOrderBySentAtAsc(chatRoomId);
-
-        return messages.stream()
-                .map(message -> {
-                    List<ChatPhotos> photos = adminChatPhotosRepository.findByChatMessageId(message.getId());
-                    return convertToMessageDto(message, photos);
-                })
+    public CursorPageResponseDto<ChatSearchHitDto> searchMessages(String salonId, String keyword, Long chatRoomId,
+                                                                  Long beforeId, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_MESSAGE_PAGE_SIZE);
+        // 색인(ChatSearchTokenizer)과 같은 정규화: 전각/반각, 호환 문자도 같은 글자로 찾는다
+        String needle = ChatSearchTokenizer.normalizeKeyword(keyword);
+
+        OffsetDateTime cursorSentAt = null;
+        Long cursorId = null;
+        if (beforeId != null) {
+            Optional<ChatMessage> cursor = adminChatMessageRepository.findById(beforeId);
+            if (cursor.isEmpty()) {
+                return CursorPageResponseDto.<ChatSearchHitDto>builder()
+                        .pageSize(pageSize)
+                        .hasNext(false)
+                        .contents(Collections.emptyList())
+                        .build();
+            }
+            cursorSentAt = cursor.get().getSentAt();
+            cursorId = cursor.get().getId();
+        }
+
+        // 다음 페이지 존재 여부를 알기 위해 1건 더 조회
+        List<ChatMessage> messages = adminChatMessageRepository.searchBySalonId(
+                salonId, chatRoomId, ChatSearchTokenizer.queryTokens(keyword), needle,
+                cursorSentAt, cursorId, pageSize + 1);
+
+        boolean hasNext = messages.size() > pageSize;
+        // 검색 결과는 최신순 그대로
+        List<ChatMessage> page = hasNext ? messages.subList(0, pageSize) : messages;
+
+        List<ChatSearchHitDto> contents = page.stream()
+                .map(message -> ChatSearchHitDto.builder()
+                        .id(message.getId())
+                        .chatRoomId(message.getChatRoom().getId())
+                        .senderType(message.getSenderType())
+                        .message(message.getMessage())
+                        .sentAt(message.getSentAt())
+                        .translatedMessage(message.getTranslatedMessage())
+                        .messageHighlights(findHighlights(message.getMessage(), needle))
+                        .translatedHighlights(findHighlights(message.getTranslatedMessage(), needle))
+                        .build())
                 .collect(Collectors.toList());
+
+        return CursorPageResponseDto.<ChatSearchHitDto>builder()
+                .pageSize(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? page.get(page.size() - 1).getId() : null)
+                .contents(contents)
+                .build();
     }
 
-    @Override
-    @Transactional
-    public void markMessagesAsRead(Long chatRoomId) {
-        adminChatMessageRepository.updateMessagesAsRead(chatRoomId);
+    // 검색어가 나오는 원문 위치 (정규화해 비교, 겹치지 않게 앞에서부터)
+    private List<ChatSearchHighlightDto> findHighlights(String text, String needle) {
+        return ChatSearchTokenizer.findMatches(text, needle).stream()
+                .map(range -> new ChatSearchHighlightDto(range[0], range[1]))
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, List<ChatPhotos>> findPhotosByMessageId(List<ChatMessage> messages) {
+        if (messages.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<Long> messageIds = messages.stream()
+                .map(ChatMessage::getId)
+                .collect(Collectors.toList());
+
+        return adminChatPhotosRepository.findByChatMessageIdIn(messageIds).stream()
+                .collect(Collectors.groupingBy(photo -> photo.getChatMessage().getId()));
     }
 
     private List<ChatPhotos> savePhotos(ChatMessage savedMessage, List<ChatPhotoDto> photoDtos) {
@@ -109,25 +267,22 @@ public class AdminChatServiceImpl implements AdminChatRepository {
             return Collections.emptyList();
         }
 
-        return photoDtos.stream()
-                .map(photoDto -> {
-                    ChatPhotos photo = ChatPhotos.builder()
-                            .chatMessage(savedMessage)
-                            .photoUrl(photoDto.getPhotoUrl())
-                            .uploadDate(OffsetDateTime.now())
-                            .build();
-                    return adminChatPhotosRepository.save(photo);
-                })
+        OffsetDateTime uploadDate = OffsetDateTime.now();
+        List<ChatPhotos> photos = photoDtos.stream()
+                .map(photoDto -> ChatPhotos.builder()
+                        .chatMessage(savedMessage)
+                        .photoUrl(photoDto.getPhotoUrl())
+                        .uploadDate(uploadDate)
+                        .build())
                 .collect(Collectors.toList());
+
+        // 시퀀스 id 라 커밋 시 한 번의 배치 INSERT 로 나간다
+        return adminChatPhotosRepository.saveAll(photos);
     }
 
     private ChatRoomDto convertToChatRoomDto(ChatRoom chatRoom) {
-        Optional<ChatMessage> lastMessage = adminChatMessageRepository
-                .findTopByChatRoomIdOrderBySentAtDesc(chatRoom.getId());
-
-        int unreadCount = adminChatMessageRepository.countByReadFalseAndSenderType(
-                chatRoom.getId(), "USER"
-        );
+        // 마지막 메시지/안 읽은 수는 chat_room 요약 컬럼 사용
+        int unreadCount = chatRoom.getUnreadForSalon();
 
         return ChatRoomDto.builder()
                 .id(chatRoom.getId())
@@ -137,7 +292,8 @@ public class AdminChatServiceImpl implements AdminChatRepository {
                 .userName(chatRoom.getUser().getNickname())
                 .createdAt(chatRoom.getCreatedAt())
                 .lastMessageTime(chatRoom.getLastMessageTime())
-                .lastMessage(lastMessage.map(ChatMessage::getMessage).orElse(null))
+                .lastMessage(chatRoom.getLastMessagePreview())
+                .hasUnreadMessages(unreadCount > 0)
                 .unreadCount(unreadCount)
                 .userProfileUrl(chatRoom.getUser().getProfile())
                 .build();
@@ -3,14 +3,17 @@ package com.IMJM.admin.service;
 import com.IMJM.admin.dto.CustomSalonDetails;
 import com.IMJM.admin.dto.SalonDto;
 import com.IMJM.admin.repository.SalonPhotosRepository;
-import com.IMJM.common.cloud.StorageService;
+import com.IMJM.common.cloud.ParallelUploadService;
+import com.IMJM.common.cloud.UploadResult;
 import com.IMJM.common.entity.Salon;
 import com.IMJM.admin.repository.SalonRepository;
 import com.IMJM.common.entity.SalonPhotos;
 import com.IMJM.jwt.JWTUtil;
+import com.IMJM.reservation.event.StylistScheduleChangedEvent;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -19,13 +22,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -34,11 +39,9 @@ public class AdminJoinService {
     private final SalonRepository salonRepository;
     private final SalonPhotosRepository salonPhotosRepository;
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
-    private final StorageService storageService;
+    private final ParallelUploadService parallelUploadService;
     private final JWTUtil jwtUtil;
-
-    @Value("${ncp.bucket-name}")
-    private String bucketName;
+    private final ApplicationEventPublisher eventPublisher;
 
     public SalonDto selectSalonById(@AuthenticationPrincipal CustomSalonDetails salonDetails) {
         Salon salon = salonRepository.findById(salonDetails.getSalon().getId())
@@ -80,6 +83,7 @@ public class AdminJoinService {
                 .orElseThrow(() -> new RuntimeException("미용실이 존재하지 않습니다."));
 
         salon.updateInfo(salonUpdateDto);
+        eventPublisher.publishEvent(StylistScheduleChangedEvent.salon(salonId));
 
         uploadSalonPhotos(salon, photos);
     }
@@ -87,34 +91,35 @@ public class AdminJoinService {
     protected void uploadSalonPhotos(Salon salon, List<MultipartFile> photos) {
         if (photos == null || photos.isEmpty()) return;
 
-        String baseUrl = "https://" + bucketName + ".kr.object.ncloudstorage.com";
+        List<MultipartFile> nonEmptyPhotos = photos.stream()
+                .filter(photo -> !photo.isEmpty())
+                .collect(Collectors.toList());
+
+        // 동시에 업로드하고, 실패한 사진은 건너뛰어 나머지만 순서대로 저장
+        List<UploadResult> results = parallelUploadService.uploadAll(nonEmptyPhotos, photo -> {
+            String originalFilename = photo.getOriginalFilename();
+            String ext = Objects.requireNonNull(originalFilename).substring(originalFilename.lastIndexOf("."));
+            return "salon/" + salon.getId() + "/" + UUID.randomUUID() + ext;
+        });
+
+        OffsetDateTime uploadDate = OffsetDateTime.now();
         int order = 0;
+        List<SalonPhotos> salonPhotos = new ArrayList<>();
 
-        for (MultipartFile photo : photos) {
-            if (!photo.isEmpty()) {
-                try {
-                    String originalFilename = photo.getOriginalFilename();
-                    String ext = Objects.requireNonNull(originalFilename).substring(originalFilename.lastIndexOf("."));
-                    String uuid = UUID.randomUUID().toString();
-                    String fileName = uuid + ext;
-
-                    String s3Path = "salon/" + salon.getId() + "/" + fileName;
-
-                    storageService.upload(s3Path, photo.getInputStream());
-
-                    String photoUrl = baseUrl + "/" + s3Path;
-
-                    salonPhotosRepository.save(SalonPhotos.builder()
-                            .salon(salon)
-                            .photoUrl(photoUrl)
-                            .photoOrder(order++)
-                            .uploadDate(OffsetDateTime.now())
-                            .build());
-                } catch (IOException e) {
-                    e.printStackTrace();
-                }
+        for (UploadResult result : results) {
+            if (!result.isSuccess()) {
+                log.error("미용실 사진 업로드 실패: {} ({})", result.getOriginalFilename(), result.getError());
+                continue;
             }
+            salonPhotos.add(SalonPhotos.builder()
+                    .salon(salon)
+                    .photoUrl(result.getUrl())
+                    .photoOrder(order++)
+                    .uploadDate(uploadDate)
+                    .build());
         }
+
+        salonPhotosRepository.saveAll(salonPhotos);
     }
 
     public boolean checkId(String id) {
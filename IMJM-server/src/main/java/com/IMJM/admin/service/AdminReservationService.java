@@ -6,12 +6,15 @@ import com.IMJM.admin.dto.DayCountDto;
 import com.IMJM.reservation.repository.PaymentRepository;
 import com.IMJM.common.entity.Payment;
 import com.IMJM.common.entity.Reservation;
+import com.IMJM.reservation.event.ReservationSlotChangedEvent;
 import com.IMJM.reservation.repository.ReservationRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -25,6 +28,7 @@ public class AdminReservationService {
 
     private final PaymentRepository paymentRepository;
     private final ReservationRepository reservationRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<AdminReservationDto> getAdminReservation(String salonId, String date) {
 
@@ -52,10 +56,19 @@ public class AdminReservationService {
         Reservation reservation = reservationRepository.findById(reservationId)
                 .orElseThrow(() -> new IllegalArgumentException("reservation not found"));
 
+        LocalDate previousDate = reservation.getReservationDate();
+        LocalTime previousTime = reservation.getReservationTime();
+
         reservation.updateReservation(
                 adminReservationUpdateDto.getReservationDate(),
                 adminReservationUpdateDto.getReservationTime()
         );
+
+        // 커밋 후 이전 시간은 비우고 새 시간은 예약으로 슬롯 캐시에 반영
+        eventPublisher.publishEvent(new ReservationSlotChangedEvent(
+                reservation.getStylist().getStylistId(),
+                previousDate, previousTime,
+                reservation.getReservationDate(), reservation.getReservationTime()));
     }
 
     public Map<String, Long> getWeeklyReservationStats(String salonId) {
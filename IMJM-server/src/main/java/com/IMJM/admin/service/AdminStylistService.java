@@ -6,10 +6,12 @@ import com.IMJM.admin.repository.SalonRepository;
 import com.IMJM.common.cloud.StorageService;
 import com.IMJM.common.entity.AdminStylist;
 import com.IMJM.common.entity.Salon;
+import com.IMJM.reservation.event.StylistScheduleChangedEvent;
 import com.IMJM.reservation.repository.AdminStylistRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -30,6 +32,7 @@ public class AdminStylistService {
     private final AdminStylistRepository adminStylistRepository;
     private final SalonRepository salonRepository;
     private final StorageService storageService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${ncp.bucket-name}")
     private String bucketName;
@@ -53,6 +56,7 @@ public class AdminStylistService {
                 .build();
 
         adminStylistRepository.save(adminStylist);
+        eventPublisher.publishEvent(StylistScheduleChangedEvent.stylist(salon.getId(), adminStylist.getStylistId()));
     }
 
     public List<AdminStylistDto> getAllStylists(String id) {
@@ -76,6 +80,7 @@ public class AdminStylistService {
         AdminStylist stylist = adminStylistRepository.findById(stylistId)
                 .orElseThrow(() -> new EntityNotFoundException("스타일리스트를 찾을 수 없습니다."));
         adminStylistRepository.delete(stylist);
+        eventPublisher.publishEvent(StylistScheduleChangedEvent.stylist(stylist.getSalon().getId(), stylistId));
     }
 
     public void updateStylist(Long stylistId, AdminStylistDto adminStylistDto, MultipartFile profileFile) {
@@ -83,6 +88,7 @@ public class AdminStylistService {
                 .orElseThrow(() -> new EntityNotFoundException("Stylist not found with ID: " + stylistId));
 
         stylist.updateAdminStylist(adminStylistDto);
+        eventPublisher.publishEvent(StylistScheduleChangedEvent.stylist(stylist.getSalon().getId(), stylistId));
 
         if (profileFile != null) {
             String profileUrl = uploadProfileImage(stylist.getSalon().getId(), profileFile);
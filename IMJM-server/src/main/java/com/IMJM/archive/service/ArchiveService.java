@@ -5,7 +5,9 @@ import com.IMJM.archive.dto.ArchiveListDto;
 import com.IMJM.archive.dto.ArchiveUpdateRequest;
 import com.IMJM.archive.repository.ArchivePhotosRepository;
 import com.IMJM.archive.repository.ArchiveRepository;
+import com.IMJM.common.cloud.ParallelUploadService;
 import com.IMJM.common.cloud.StorageService;
+import com.IMJM.common.cloud.UploadResult;
 import com.IMJM.common.entity.Archive;
 import com.IMJM.common.entity.ArchivePhotos;
 import com.IMJM.common.entity.Users;
@@ -14,7 +16,6 @@ import com.IMJM.user.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
@@ -22,7 +23,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.time.OffsetDateTime;
@@ -38,9 +38,7 @@ public class ArchiveService {
     private final UserRepository usersRepository;
     private final ArchivePhotosRepository archivePhotosRepository;
     private final StorageService storageService;
-
-    @Value("${ncp.bucket-name}")
-    private String bucketName;
+    private final ParallelUploadService parallelUploadService;
 
     @Transactional
     public Long createArchive(String content, String userId, List<MultipartFile> photos) {
@@ -191,42 +189,39 @@ public class ArchiveService {
                     .orElse(0);
         }
 
-        List<String> photoUrls = new ArrayList<>();
-        int order = maxOrder + 1;
-
-        String baseUrl = "https://" + bucketName + ".kr.object.ncloudstorage.com";
-
-        for (MultipartFile photo : photos) {
-            if (!photo.isEmpty()) {
-                try {
-                    String originalFilename = photo.getOriginalFilename();
-                    String ext = Objects.requireNonNull(originalFilename).substring(originalFilename.lastIndexOf("."));
-                    String uuid = UUID.randomUUID().toString();
-                    String fileName = uuid + ext;
-
-                    String s3Path = "archive/" + archive.getId() + "/" + fileName;
-
-                    storageService.upload(s3Path, photo.getInputStream());
+        List<MultipartFile> nonEmptyPhotos = photos.stream()
+                .filter(photo -> !photo.isEmpty())
+                .collect(Collectors.toList());
 
-                    String photoUrl = baseUrl + "/" + s3Path;
+        // 동시에 업로드하고, 하나라도 실패하면 올라간 파일을 지우고 실패 처리
+        List<UploadResult> results = parallelUploadService.uploadAll(nonEmptyPhotos,
+                photo -> archivePhotoPath(archive, photo));
+        if (results.stream().anyMatch(result -> !result.isSuccess())) {
+            parallelUploadService.deleteUploaded(results);
+            log.error("사진 업로드 중 오류 발생: {}", results.stream()
+                    .filter(result -> !result.isSuccess())
+                    .map(UploadResult::getOriginalFilename)
+                    .collect(Collectors.joining(", ")));
+            throw new RuntimeException("사진 업로드 중 오류가 발생했습니다.");
+        }
 
-                    // DB에 저장
-                    ArchivePhotos archivePhoto = ArchivePhotos.builder()
-                            .archive(archive)
-                            .photoUrl(photoUrl)
-                            .photoOrder(order++)
-                            .uploadDate(OffsetDateTime.now())
-                            .build();
+        List<String> photoUrls = new ArrayList<>();
+        List<ArchivePhotos> archivePhotos = new ArrayList<>();
+        OffsetDateTime uploadDate = OffsetDateTime.now();
+        int order = maxOrder + 1;
 
-                    archivePhotosRepository.save(archivePhoto);
-                    photoUrls.add(photoUrl);
-                } catch (Exception e) {
-                    log.error("사진 업로드 중 오류 발생: {}", e.getMessage());
-                    throw new RuntimeException("사진 업로드 중 오류가 발생했습니다.", e);
-                }
-            }
+        for (UploadResult result : results) {
+            archivePhotos.add(ArchivePhotos.builder()
+                    .archive(archive)
+                    .photoUrl(result.getUrl())
+                    .photoOrder(order++)
+                    .uploadDate(uploadDate)
+                    .build());
+            photoUrls.add(result.getUrl());
         }
 
+        archivePhotosRepository.saveAll(archivePhotos);
+
         return photoUrls;
     }
 
@@ -244,34 +239,38 @@ public class ArchiveService {
     private void uploadArchivePhotos(Archive archive, List<MultipartFile> photos) {
         if (photos == null || photos.isEmpty()) return;
 
-        String baseUrl = "https://" + bucketName + ".kr.object.ncloudstorage.com";
-        int order = 0;
-
-        for (MultipartFile photo : photos) {
-            if (!photo.isEmpty()) {
-                try {
-                    String originalFilename = photo.getOriginalFilename();
-                    String ext = Objects.requireNonNull(originalFilename).substring(originalFilename.lastIndexOf("."));
-                    String uuid = UUID.randomUUID().toString();
-                    String fileName = uuid + ext;
-
-                    String s3Path = "archive/" + archive.getId() + "/" + fileName;
+        List<MultipartFile> nonEmptyPhotos = photos.stream()
+                .filter(photo -> !photo.isEmpty())
+                .collect(Collectors.toList());
 
-                    storageService.upload(s3Path, photo.getInputStream());
+        // 동시에 업로드하고, 실패한 사진은 건너뛰어 나머지만 순서대로 저장
+        List<UploadResult> results = parallelUploadService.uploadAll(nonEmptyPhotos,
+                photo -> archivePhotoPath(archive, photo));
 
-                    String photoUrl = baseUrl + "/" + s3Path;
+        OffsetDateTime uploadDate = OffsetDateTime.now();
+        int order = 0;
+        List<ArchivePhotos> archivePhotos = new ArrayList<>();
 
-                    archivePhotosRepository.save(ArchivePhotos.builder()
-                            .archive(archive)
-                            .photoUrl(photoUrl)
-                            .photoOrder(order++)
-                            .uploadDate(OffsetDateTime.now())
-                            .build());
-                } catch (IOException e) {
-                    log.error("사진 업로드 중 오류 발생: {}", e.getMessage());
-                }
+        for (UploadResult result : results) {
+            if (!result.isSuccess()) {
+                log.error("사진 업로드 중 오류 발생: {} ({})", result.getOriginalFilename(), result.getError());
+                continue;
             }
+            archivePhotos.add(ArchivePhotos.builder()
+                    .archive(archive)
+                    .photoUrl(result.getUrl())
+                    .photoOrder(order++)
+                    .uploadDate(uploadDate)
+                    .build());
         }
+
+        archivePhotosRepository.saveAll(archivePhotos);
+    }
+
+    private String archivePhotoPath(Archive archive, MultipartFile photo) {
+        String originalFilename = photo.getOriginalFilename();
+        String ext = Objects.requireNonNull(originalFilename).substring(originalFilename.lastIndexOf("."));
+        return "archive/" + archive.getId() + "/" + UUID.randomUUID() + ext;
     }
 
     private String extractS3PathFromUrl(String photoUrl) {
@@ -1,25 +1,77 @@
 package com.IMJM.chat.client;
 
+import com.IMJM.chat.exception.BatchTranslationFormatException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class HyperClovaTranslationClient {
 
+    // 번역 방향/텍스트와 무관한 시스템 프롬프트 본문 (요청마다 다시 만들지 않도록 상수로 분리)
+    private static final String PROMPT_GUIDELINES =
+            "[번역 임무] \n"
+            + "1. 한국어 미용실 메시지를 다양한 외국어로 번역 (한국어 → 외국어) \n"
+            + "2. 외국인 고객의 메시지를 한국어로 번역 (외국어 → 한국어) \n\n"
+            + "[번역 가이드라인] \n"
+            + "◆ 미용실 메시지 번역 (한국어 → 외국어): \n"
+            + "- 한국 미용 용어와 표현을 외국인 고객이 이해하기 쉬운 표현으로 변환 \n"
+            + "- 시술 과정, 가격, 예약 시간 등 중요 정보를 명확하게 전달 \n"
+            + "- 한국적 서비스 문화(친절함, 존중)의 뉘앙스를 유지하여 번역 \n"
+            + "- 외국인이 생소할 수 있는 한국 특유의 미용 개념은 간략한 설명 추가 \n\n"
+            + "◆ 고객 메시지 번역 (외국어 → 한국어): \n"
+            + "- 외국인 고객의 헤어스타일 요청을 한국 미용실이 이해하기 쉬운 전문 용어로 변환 \n"
+            + "- 외국 헤어스타일 트렌드나 용어를 한국 미용업계에서 통용되는 표현으로 적절히 변환 \n"
+            + "- 문화적 차이로 인한 오해가 생길 수 있는 표현을 자연스럽게 조정 \n"
+            + "- 외국인 특유의 표현 방식을 한국 미용실 맥락에 맞게 조정하되 원래 의도 유지 \n\n"
+            + "◆ 미용 전문 용어 정확한 변환: \n"
+            + "1. 헤어스타일 용어: \n"
+            + "- 한국어: 레이어드컷, 머쉬룸컷, 허쉬컷, 울프컷, 태슬컷, 히메컷 등 \n"
+            + "- 영어: layered cut, mushroom cut, hush cut, wolf cut, tassel cut, hime cut 등 \n"
+            + "2. 염색 용어: \n"
+            + "- 한국어: 발레아쥬, 옴브레, 하이라이트, 로우라이트, 베이스, 탈색, 톤다운 등 \n"
+            + "- 영어: balayage, ombre, highlights, lowlights, base color, bleaching, tone-down 등 \n"
+            + "3. 펌 용어: \n"
+            + "- 한국어: 볼륨펌, C컬, S컬, 디지털펌, 에어펌, 매직스트레이트, 셋팅펌 등 \n"
+            + "- 영어: volume perm, C-curl, S-curl, digital perm, air perm, magic straight, setting perm 등 \n"
+            + "4. 트리트먼트 용어: \n"
+            + "- 한국어: 두피케어, 단백질 트리트먼트, 케라틴 트리트먼트, 모발 영양 공급 등 \n"
+            + "- 영어: scalp care, protein treatment, keratin treatment, hair nourishment 등 \n\n"
+            + "◆ 특수 상황 처리: \n"
+            + "- 고객의 불만 사항은 부드럽게 유지하되 내용은 정확히 전달 \n"
+            + "- 알레르기나 긴급 상황 관련 내용은 최우선으로 명확하게 번역 \n"
+            + "- 애매한 표현은 가능한 옵션을 함께 제시하는 방식으로 번역 \n"
+            + "- 이모티콘과 줄임말은 각 문화권에 맞게 자연스럽게 변환 \n\n";
+
+    private static final String PROMPT_HEADER =
+            "당신은 헤어스타일과 미용 분야에 특화된 전문 번역가입니다. 미용실과 다국적 고객 간의 원활한 소통을 돕는 양방향 번역 서비스를 제공합니다. \n\n";
+
+    // 묶음 번역 응답의 줄머리 번호: "[3] ..."
+    private static final Pattern NUMBERED_SEGMENT = Pattern.compile("(?m)^[ \\t]*\\[(\\d+)]\\s?");
+
     private final RestTemplate restTemplate;
 
+    // 애플리케이션 공용 ObjectMapper 재사용 (SSE 이벤트마다 새로 만들지 않음)
+    private final ObjectMapper objectMapper;
+
     @Value("${hyperclovax.api.url}")
     private String apiUrl;
 
@@ -30,6 +82,46 @@ public class HyperClovaTranslationClient {
      * 하이퍼클로바X API를 이용한 텍스트 번역
      */
     public String translate(String text, String sourceLanguage, String targetLanguage) {
+        String systemContent = PROMPT_HEADER
+                + "[번역 방향] " + sourceLanguage + "에서 " + targetLanguage + "로 번역해주세요.\n\n"
+                + PROMPT_GUIDELINES
+                + "번역할 텍스트: \"" + text + "\"\n\n"
+                + "위 텍스트를 " + sourceLanguage + "에서 " + targetLanguage + "로 번역하되, 미용실과 고객 간의 원활한 소통이 이루어질 수 있도록 전문성과 문화적 맥락을 모두 고려해 번역해주세요. 번역 결과만 제공해주세요.";
+
+        return execute(systemContent, text);
+    }
+
+    /**
+     * 같은 언어 쌍의 여러 메시지를 한 번의 호출로 번역한다.
+     * 입력을 [1], [2] ... 번호로 한 줄에 하나씩 묶어 보내고, 응답을 같은 번호 기준으로 다시 나눈다.
+     * 줄바꿈이 있는 메시지는 묶을 수 없다 (IllegalArgumentException, 호출 측에서 따로 번역).
+     * 응답의 번호가 입력과 맞지 않으면 BatchTranslationFormatException.
+     */
+    public List<String> translateBatch(List<String> texts, String sourceLanguage, String targetLanguage) {
+        StringBuilder numbered = new StringBuilder();
+        for (int i = 0; i < texts.size(); i++) {
+            String text = texts.get(i);
+            if (text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+                throw new IllegalArgumentException("Multi-line text cannot be batched: [" + (i + 1) + "]");
+            }
+            numbered.append('[').append(i + 1).append("] ")
+                    .append(text)
+                    .append('\n');
+        }
+
+        String systemContent = PROMPT_HEADER
+                + "[번역 방향] " + sourceLanguage + "에서 " + targetLanguage + "로 번역해주세요.\n\n"
+                + PROMPT_GUIDELINES
+                + "[묶음 번역 형식] \n"
+                + "- 사용자 메시지에는 [1]부터 [" + texts.size() + "]까지 번호가 붙은 서로 다른 메시지가 한 줄에 하나씩 있습니다. \n"
+                + "- 각 메시지를 독립적으로 " + sourceLanguage + "에서 " + targetLanguage + "로 번역해주세요. \n"
+                + "- 입력과 같은 번호를 붙여 \"[번호] 번역문\" 형식으로 한 줄에 하나씩, 번호 순서대로 번역 결과만 제공해주세요.";
+
+        String response = execute(systemContent, numbered.toString());
+        return splitNumbered(response, texts.size());
+    }
+
+    private String execute(String systemContent, String userContent) {
         try {
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
@@ -39,46 +131,11 @@ public class HyperClovaTranslationClient {
 
             Map<String, Object> systemPrompt = new HashMap<>();
             systemPrompt.put("role", "system");
-            systemPrompt.put("content", "당신은 헤어스타일과 미용 분야에 특화된 전문 번역가입니다. 미용실과 다국적 고객 간의 원활한 소통을 돕는 양방향 번역 서비스를 제공합니다. \n\n"
-                    + "[번역 방향] " + sourceLanguage + "에서 " + targetLanguage + "로 번역해주세요.\n\n"
-                    + "[번역 임무] \n"
-                    + "1. 한국어 미용실 메시지를 다양한 외국어로 번역 (한국어 → 외국어) \n"
-                    + "2. 외국인 고객의 메시지를 한국어로 번역 (외국어 → 한국어) \n\n"
-                    + "[번역 가이드라인] \n"
-                    + "◆ 미용실 메시지 번역 (한국어 → 외국어): \n"
-                    + "- 한국 미용 용어와 표현을 외국인 고객이 이해하기 쉬운 표현으로 변환 \n"
-                    + "- 시술 과정, 가격, 예약 시간 등 중요 정보를 명확하게 전달 \n"
-                    + "- 한국적 서비스 문화(친절함, 존중)의 뉘앙스를 유지하여 번역 \n"
-                    + "- 외국인이 생소할 수 있는 한국 특유의 미용 개념은 간략한 설명 추가 \n\n"
-                    + "◆ 고객 메시지 번역 (외국어 → 한국어): \n"
-                    + "- 외국인 고객의 헤어스타일 요청을 한국 미용실이 이해하기 쉬운 전문 용어로 변환 \n"
-                    + "- 외국 헤어스타일 트렌드나 용어를 한국 미용업계에서 통용되는 표현으로 적절히 변환 \n"
-                    + "- 문화적 차이로 인한 오해가 생길 수 있는 표현을 자연스럽게 조정 \n"
-                    + "- 외국인 특유의 표현 방식을 한국 미용실 맥락에 맞게 조정하되 원래 의도 유지 \n\n"
-                    + "◆ 미용 전문 용어 정확한 변환: \n"
-                    + "1. 헤어스타일 용어: \n"
-                    + "- 한국어: 레이어드컷, 머쉬룸컷, 허쉬컷, 울프컷, 태슬컷, 히메컷 등 \n"
-                    + "- 영어: layered cut, mushroom cut, hush cut, wolf cut, tassel cut, hime cut 등 \n"
-                    + "2. 염색 용어: \n"
-                    + "- 한국어: 발레아쥬, 옴브레, 하이라이트, 로우라이트, 베이스, 탈색, 톤다운 등 \n"
-                    + "- 영어: balayage, ombre, highlights, lowlights, base color, bleaching, tone-down 등 \n"
-                    + "3. 펌 용어: \n"
-                    + "- 한국어: 볼륨펌, C컬, S컬, 디지털펌, 에어펌, 매직스트레이트, 셋팅펌 등 \n"
-                    + "- 영어: volume perm, C-curl, S-curl, digital perm, air perm, magic straight, setting perm 등 \n"
-                    + "4. 트리트먼트 용어: \n"
-                    + "- 한국어: 두피케어, 단백질 트리트먼트, 케라틴 트리트먼트, 모발 영양 공급 등 \n"
-                    + "- 영어: scalp care, protein treatment, keratin treatment, hair nourishment 등 \n\n"
-                    + "◆ 특수 상황 처리: \n"
-                    + "- 고객의 불만 사항은 부드럽게 유지하되 내용은 정확히 전달 \n"
-                    + "- 알레르기나 긴급 상황 관련 내용은 최우선으로 명확하게 번역 \n"
-                    + "- 애매한 표현은 가능한 옵션을 함께 제시하는 방식으로 번역 \n"
-                    + "- 이모티콘과 줄임말은 각 문화권에 맞게 자연스럽게 변환 \n\n"
-                    + "번역할 텍스트: \"" + text + "\"\n\n"
-                    + "위 텍스트를 " + sourceLanguage + "에서 " + targetLanguage + "로 번역하되, 미용실과 고객 간의 원활한 소통이 이루어질 수 있도록 전문성과 문화적 맥락을 모두 고려해 번역해주세요. 번역 결과만 제공해주세요.");
+            systemPrompt.put("content", systemContent);
 
             Map<String, Object> userPrompt = new HashMap<>();
             userPrompt.put("role", "user");
-            userPrompt.put("content", text);
+            userPrompt.put("content", userContent);
 
             Map<String, Object> requestBody = new HashMap<>();
             requestBody.put("messages", new Object[]{systemPrompt, userPrompt});
@@ -93,50 +150,107 @@ public class HyperClovaTranslationClient {
             requestBody.put("includeAiFilters", false);
             requestBody.put("seed", 0);
 
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-
-            // String으로 응답 받기
-            String response = restTemplate.postForObject(apiUrl, entity, String.class);
-
-            // SSE 형식의 응답 파싱
-            String translatedText = parseSSEResponse(response);
-            return translatedText;
+            // 응답 본문을 문자열로 모으지 않고 SSE 이벤트를 도착하는 대로 파싱
+            return restTemplate.execute(
+                    apiUrl,
+                    HttpMethod.POST,
+                    request -> {
+                        request.getHeaders().putAll(headers);
+                        objectMapper.writeValue(request.getBody(), requestBody);
+                    },
+                    this::readEventStream
+            );
 
         } catch (Exception e) {
             throw new RuntimeException("Translation error: " + e.getMessage(), e);
         }
     }
 
-    // SSE 응답 파싱 메소드 추가
-    private String parseSSEResponse(String sseResponse) {
-        if (sseResponse == null || sseResponse.isEmpty()) {
-            return "";
+    /**
+     * "[번호] 번역문" 형식의 응답을 번호별로 나눈다. 번호가 빠지거나 중복되면 예외.
+     */
+    static List<String> splitNumbered(String response, int expected) {
+        String[] segments = new String[expected];
+        Matcher matcher = NUMBERED_SEGMENT.matcher(response == null ? "" : response);
+
+        int previousIndex = -1;
+        int previousEnd = 0;
+        while (matcher.find()) {
+            if (previousIndex >= 0) {
+                segments[previousIndex] = response.substring(previousEnd, matcher.start()).strip();
+            }
+            int number = Integer.parseInt(matcher.group(1));
+            if (number < 1 || number > expected || segments[number - 1] != null) {
+                throw new BatchTranslationFormatException("Unexpected segment number in batch response: " + number);
+            }
+            segments[number - 1] = "";
+            previousIndex = number - 1;
+            previousEnd = matcher.end();
+        }
+        if (previousIndex >= 0) {
+            segments[previousIndex] = response.substring(previousEnd).strip();
+        }
+
+        for (int i = 0; i < expected; i++) {
+            if (segments[i] == null || segments[i].isEmpty()) {
+                throw new BatchTranslationFormatException("Missing segment [" + (i + 1) + "] in batch response");
+            }
         }
+        return Arrays.asList(segments);
+    }
+
+    /**
+     * SSE 스트림 파싱: token 이벤트는 누적하고, result 이벤트(최종 결과)를 받으면 즉시 읽기를 중단한다.
+     */
+    private String readEventStream(ClientHttpResponse response) throws IOException {
+        StringBuilder streamed = new StringBuilder();
+        String event = null;
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(response.getBody(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    event = null;   // 이벤트 구분선
+                    continue;
+                }
+                if (line.startsWith("event:")) {
+                    event = line.substring(6).trim();
+                    continue;
+                }
+                if (!line.startsWith("data:") || line.contains("[DONE]")) {
+                    continue;
+                }
+
+                String content = parseContent(line.substring(5).trim());
+
+                if ("error".equals(event)) {
+                    throw new IOException("HyperClova X stream error: " + line.substring(5).trim());
+                }
+
+                if ("result".equals(event)) {
+                    // 최종 결과: 나머지 스트림은 읽지 않음
+                    return content != null ? content : streamed.toString();
+                }
 
-        String[] lines = sseResponse.split("\n");
-        String finalMessage = "";
-        Set<String> uniqueContents = new HashSet<>();
-
-        for (String line : lines) {
-            if (line.startsWith("data:") && !line.contains("[DONE]")) {
-                try {
-                    String jsonData = line.substring(5).trim();
-                    ObjectMapper mapper = new ObjectMapper();
-                    JsonNode root = mapper.readTree(jsonData);
-
-                    if (root.has("message") && root.get("message").has("content")) {
-                        String content = root.get("message").get("content").asText();
-                        if (content != null && !content.isEmpty() && !uniqueContents.contains(content)) {
-                            finalMessage = content;
-                            uniqueContents.add(content);
-                        }
-                    }
-                } catch (Exception e) {
-                    log.error("Error parsing SSE response", e);
+                if (content != null && !content.isEmpty()) {
+                    streamed.append(content);
                 }
             }
         }
 
-        return finalMessage;
+        // result 이벤트 없이 스트림이 끝난 경우 누적된 토큰 사용
+        return streamed.toString();
+    }
+
+    private String parseContent(String jsonData) {
+        try {
+            JsonNode root = objectMapper.readTree(jsonData);
+            JsonNode content = root.path("message").path("content");
+            return content.isMissingNode() ? null : content.asText();
+        } catch (Exception e) {
+            log.error("Error parsing SSE response", e);
+            return null;
+        }
     }
 }
@@ -4,14 +4,18 @@ import com.IMJM.admin.repository.BlacklistRepository;
 import com.IMJM.admin.repository.SalonPhotosRepository;
 import com.IMJM.chat.dto.ChatMessageDto;
 import com.IMJM.chat.dto.ChatRoomDto;
+import com.IMJM.chat.dto.ChatSyncResponseDto;
 import com.IMJM.chat.exception.ChatRoomNotFountException;
 import com.IMJM.chat.repository.ChatRoomRepository;
 import com.IMJM.chat.service.ChatService;
+import com.IMJM.chat.service.ReadReceiptAggregator;
 import com.IMJM.common.entity.ChatRoom;
 import com.IMJM.common.entity.SalonPhotos;
+import com.IMJM.common.page.CursorPageResponseDto;
 import com.IMJM.user.dto.CustomOAuth2UserDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.MessageMapping;
@@ -21,6 +25,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.OffsetDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -32,6 +37,7 @@ import java.util.Map;
 public class ChatController {
 
     private final ChatService chatService;
+    private final ReadReceiptAggregator readReceiptAggregator;
     private final ChatRoomRepository chatRoomRepository;
     private final SimpMessagingTemplate messagingTemplate;
     private final BlacklistRepository blacklistRepository;
@@ -94,16 +100,8 @@ public class ChatController {
     @GetMapping("/rooms/user")
     public ResponseEntity<List<ChatRoomDto>> getUserChatRooms(@AuthenticationPrincipal CustomOAuth2UserDto userDetails) {
         String userId = userDetails.getId();
-        List<ChatRoomDto> chatRooms = chatService.getUserChatRooms(userId);
-
-        // 각 채팅방에 대해 미용실 프로필 URL 추가
-        chatRooms.forEach(room -> {
-            List<SalonPhotos> salonPhotos = salonPhotosRepository.findBySalon_IdOrderByPhotoOrderAsc(room.getSalonId());
-            String salonProfileUrl = !salonPhotos.isEmpty() ? salonPhotos.get(0).getPhotoUrl() : null;
-            room.setSalonProfileUrl(salonProfileUrl);
-        });
-
-        return ResponseEntity.ok(chatRooms);
+        // 미용실 프로필 URL 은 서비스에서 한 번에 조회해 채운다
+        return ResponseEntity.ok(chatService.getUserChatRooms(userId));
     }
 
     // 채팅방 목록 조회 (미용실)
@@ -118,18 +116,32 @@ public class ChatController {
         return ResponseEntity.ok(chatService.getChatRoom(userId, salonId));
     }
 
-    // 채팅방 메시지 목록 조회
+    // 채팅방 메시지 목록 조회 (beforeId 가 없으면 최신 메시지부터)
     @GetMapping("/messages/{chatRoomId}")
-    public ResponseEntity<List<ChatMessageDto>> getChatMessages(@PathVariable Long chatRoomId) {
-        return ResponseEntity.ok(chatService.getChatMessages(chatRoomId));
+    public ResponseEntity<CursorPageResponseDto<ChatMessageDto>> getChatMessages(
+            @PathVariable Long chatRoomId,
+            @RequestParam(required = false) Long beforeId,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(chatService.getChatMessages(chatRoomId, beforeId, size));
+    }
+
+    // 재연결 동기화: 마지막으로 받은 메시지 id(sinceId) 또는 시각(since) 이후 변경분만 조회
+    // 직전 응답의 nextSinceId 와 serverTime 을 함께 넘기면 번역/안 읽은 수도 바뀐 것만 받는다
+    @GetMapping("/sync")
+    public ResponseEntity<ChatSyncResponseDto> syncChats(
+            @AuthenticationPrincipal CustomOAuth2UserDto userDetails,
+            @RequestParam(required = false) Long sinceId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime since) {
+        return ResponseEntity.ok(chatService.syncChats(userDetails.getId(), "USER", sinceId, since));
     }
 
     // 메시지 읽음 처리
     @PutMapping("/messages/read/{chatRoomId}")
     public ResponseEntity<Map<String, Boolean>> markMessagesAsRead(
             @PathVariable Long chatRoomId,
-            @RequestParam String senderType) {
-        chatService.markMessagesAsRead(chatRoomId, senderType);
+            @RequestParam String senderType,
+            @RequestParam(required = false) Long lastMessageId) {
+        readReceiptAggregator.submit(chatRoomId, senderType, lastMessageId);
         Map<String, Boolean> response = new HashMap<>();
         response.put("success", true);
         return ResponseEntity.ok(response);
@@ -163,6 +175,11 @@ public class ChatController {
 
         List<Map<String, String>> results = chatService.uploadMultipleChatImages(files, chatRoomId);
 
+        // 모두 실패한 경우만 오류, 일부 실패는 항목별 status 로 전달
+        boolean allFailed = results.stream().noneMatch(result -> "uploaded".equals(result.get("status")));
+        if (allFailed) {
+            return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(results);
+        }
         return ResponseEntity.ok(results);
     }
 
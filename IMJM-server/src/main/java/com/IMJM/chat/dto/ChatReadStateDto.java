@@ -0,0 +1,17 @@
+package com.IMJM.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 채팅방별 안 읽은 수: 상대방 쪽 값으로 내가 보낸 메시지의 읽음 여부를 갱신할 수 있다
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatReadStateDto {
+    private Long chatRoomId;
+    private int unreadForUser;
+    private int unreadForSalon;
+}
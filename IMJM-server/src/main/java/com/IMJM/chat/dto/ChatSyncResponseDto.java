@@ -0,0 +1,24 @@
+package com.IMJM.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+// 재연결 동기화 응답: nextSinceId 를 다음 동기화 요청의 sinceId 로 넘기면 된다
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatSyncResponseDto {
+    private Long nextSinceId;
+    private boolean hasMore;
+    private OffsetDateTime serverTime;
+    private List<ChatMessageDto> messages;  // sinceId 이후 새 메시지 (id 순)
+    private List<ChatMessageDto> updatedMessages;  // 이미 받은 메시지 중 since 이후 번역이 바뀐 메시지
+    private List<ChatRoomDto> rooms;        // 요약이 바뀐 채팅방
+    private List<ChatReadStateDto> readStates;
+}
@@ -0,0 +1,20 @@
+package com.IMJM.chat.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TranslationUpdateDto {
+
+    public static final String TYPE = "translation-updated";
+
+    @Builder.Default
+    private String type = TYPE;
+    private Long id;            // 번역이 갱신된 메시지 ID
+    private Long chatRoomId;
+    private String translatedMessage;
+    private String translationStatus;
+}
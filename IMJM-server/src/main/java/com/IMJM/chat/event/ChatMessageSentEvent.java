@@ -0,0 +1,17 @@
+package com.IMJM.chat.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 메시지 저장 트랜잭션 커밋 후 양쪽 참여자에게 메시지 프레임을 보내도록 알리는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class ChatMessageSentEvent {
+
+    private final String userId;
+    private final String salonId;
+    // 프레임 payload (사용자/관리자 쪽 ChatMessageDto)
+    private final Object message;
+}
@@ -0,0 +1,20 @@
+package com.IMJM.chat.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 메시지 저장 트랜잭션 커밋 후 비동기 번역을 요청하는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class ChatTranslationRequestedEvent {
+
+    private final Long messageId;
+    private final Long chatRoomId;
+    private final String userId;
+    private final String salonId;
+    private final String message;
+    private final String sourceLanguage;
+    private final String targetLanguage;
+}
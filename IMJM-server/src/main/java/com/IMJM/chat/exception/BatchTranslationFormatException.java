@@ -0,0 +1,7 @@
+package com.IMJM.chat.exception;
+
+public class BatchTranslationFormatException extends RuntimeException {
+    public BatchTranslationFormatException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.IMJM.chat.repository;
+
+import com.IMJM.common.entity.ChatMessageArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Repository
+public interface ChatMessageArchiveRepository extends JpaRepository<ChatMessageArchive, Long> {
+
+    Optional<ChatMessageArchive> findByPartitionMonth(LocalDate partitionMonth);
+
+    boolean existsByStatus(String status);
+}
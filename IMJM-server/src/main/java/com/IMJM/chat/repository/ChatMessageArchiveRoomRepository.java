@@ -0,0 +1,19 @@
+package com.IMJM.chat.repository;
+
+import com.IMJM.common.entity.ChatMessageArchiveRoom;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ChatMessageArchiveRoomRepository extends JpaRepository<ChatMessageArchiveRoom, Long> {
+
+    // 채팅방의 보관 범위를 최신 월부터 (완료된 보관만)
+    @Query("SELECT ar FROM ChatMessageArchiveRoom ar JOIN FETCH ar.archive a " +
+            "WHERE ar.chatRoomId = :chatRoomId AND a.status = 'DONE' " +
+            "ORDER BY ar.maxSentAt DESC")
+    List<ChatMessageArchiveRoom> findByChatRoomIdNewestFirst(@Param("chatRoomId") Long chatRoomId);
+}
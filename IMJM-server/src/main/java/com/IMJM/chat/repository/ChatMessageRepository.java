@@ -1,33 +1,86 @@
 package com.IMJM.chat.repository;
 
 import com.IMJM.common.entity.ChatMessage;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 @Repository
 public interface ChatMessageRepository  extends JpaRepository<ChatMessage, Long> {
 
-    List<ChatMessage> findByChatRoomIdOrderBySentAtAsc(Long chatRoomId);
-
+    // 읽음 처리: 상대방이 보낸 메시지 중 클라이언트가 본 마지막 메시지(upToMessageId)까지만
     @Modifying
-    @Query("UPDATE ChatMessage c SET c.isRead = true WHERE c.chatRoom.id = :chatRoomId AND c.senderType = :senderType AND c.isRead = false")
-    void updateMessagesAsRead(Long chatRoomId, String senderType);
+    @Query("UPDATE ChatMessage c SET c.isRead = true WHERE c.chatRoom.id = :chatRoomId AND c.senderType = :senderType " +
+            "AND c.isRead = false AND c.id <= :upToMessageId")
+    int updateMessagesAsReadUpTo(@Param("chatRoomId") Long chatRoomId,
+                                 @Param("senderType") String senderType,
+                                 @Param("upToMessageId") Long upToMessageId);
 
     @Query("SELECT COUNT(cm) FROM ChatMessage cm WHERE cm.chatRoom.id = :chatRoomId AND cm.senderType = :senderType AND cm.isRead = false")
     int countByReadFalseAndSenderType(@Param("chatRoomId") Long chatRoomId, @Param("senderType") String senderType);
 
-    Optional<ChatMessage> findTopByChatRoomIdOrderBySentAtDesc(Long chatRoomId);
+    // 키셋 페이징: 최신 메시지부터 (sent_at, id) 역순 - idx_chat_message_room_sent_at_id 사용
+    @Query("SELECT cm FROM ChatMessage cm LEFT JOIN FETCH cm.chatRoom " +
+            "WHERE cm.chatRoom.id = :chatRoomId " +
+            "ORDER BY cm.sentAt DESC, cm.id DESC")
+    List<ChatMessage> findLatestByChatRoomId(@Param("chatRoomId") Long chatRoomId, Pageable pageable);
 
-    @Query("SELECT cm FROM ChatMessage cm LEFT JOIN FETCH cm.chatRoom WHERE cm.chatRoom.id = :chatRoomId ORDER BY cm.sentAt ASC")
-    List<ChatMessage> findByChatRoomIdWithChatRoomOrderBySentAtAsc(@Param("chatRoomId") Long chatRoomId);
+    // 키셋 페이징: 커서 메시지 (sentAt, id) 보다 이전 메시지
+    @Query("SELECT cm FROM ChatMessage cm LEFT JOIN FETCH cm.chatRoom " +
+            "WHERE cm.chatRoom.id = :chatRoomId " +
+            "AND (cm.sentAt < :sentAt OR (cm.sentAt = :sentAt AND cm.id < :id)) " +
+            "ORDER BY cm.sentAt DESC, cm.id DESC")
+    List<ChatMessage> findByChatRoomIdBefore(@Param("chatRoomId") Long chatRoomId,
+                                             @Param("sentAt") OffsetDateTime sentAt,
+                                             @Param("id") Long id,
+                                             Pageable pageable);
 
     List<ChatMessage> findByChatRoomId(Long chatRoomId);
 
     void deleteByChatRoomId(Long chatRoomId);
-}
\ No newline at end of file
+
+    // 커밋 이후(비동기 번역 완료 시점)에 호출되므로 별도 트랜잭션으로 실행
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query("UPDATE ChatMessage c SET c.translatedMessage = :translatedMessage, c.translationStatus = :translationStatus, " +
+            "c.searchTokens = :searchTokens, c.translationUpdatedAt = :updatedAt WHERE c.id = :id")
+    int updateTranslation(@Param("id") Long id,
+                          @Param("translatedMessage") String translatedMessage,
+                          @Param("translationStatus") String translationStatus,
+                          @Param("searchTokens") String searchTokens,
+                          @Param("updatedAt") OffsetDateTime updatedAt);
+
+    // 재연결 동기화: 여러 채팅방에서 sinceId 이후 메시지를 id 순으로
+    @Query("SELECT cm FROM ChatMessage cm JOIN FETCH cm.chatRoom " +
+            "WHERE cm.chatRoom.id IN :chatRoomIds AND cm.id > :sinceId " +
+            "ORDER BY cm.id ASC")
+    List<ChatMessage> findByChatRoomIdInAfterId(@Param("chatRoomIds") Collection<Long> chatRoomIds,
+                                                @Param("sinceId") Long sinceId,
+                                                Pageable pageable);
+
+    // 재연결 동기화: 이미 받은 메시지(id <= upToId) 중 since 이후 번역이 바뀐 메시지 - idx_chat_message_room_translation_updated_at
+    @Query("SELECT cm FROM ChatMessage cm JOIN FETCH cm.chatRoom " +
+            "WHERE cm.chatRoom.id IN :chatRoomIds AND cm.translationUpdatedAt > :since AND cm.id <= :upToId " +
+            "ORDER BY cm.translationUpdatedAt ASC, cm.id ASC")
+    List<ChatMessage> findTranslationUpdatedSince(@Param("chatRoomIds") Collection<Long> chatRoomIds,
+                                                  @Param("since") OffsetDateTime since,
+                                                  @Param("upToId") Long upToId,
+                                                  Pageable pageable);
+
+    // 시각 기준 동기화 요청을 id 커서로 바꿀 때 사용 (메시지가 없으면 null)
+    @Query("SELECT MAX(cm.id) FROM ChatMessage cm WHERE cm.chatRoom.id IN :chatRoomIds AND cm.sentAt <= :since")
+    Long findMaxIdSentAtOrBefore(@Param("chatRoomIds") Collection<Long> chatRoomIds,
+                                 @Param("since") OffsetDateTime since);
+
+    @Query("SELECT MAX(cm.id) FROM ChatMessage cm WHERE cm.chatRoom.id IN :chatRoomIds")
+    Long findMaxIdByChatRoomIdIn(@Param("chatRoomIds") Collection<Long> chatRoomIds);
+}
@@ -1,9 +1,15 @@
 package com.IMJM.chat.repository;
 
 import com.IMJM.common.entity.ChatRoom;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,7 +18,53 @@ public interface ChatRoomRepository  extends JpaRepository<ChatRoom, Long> {
 
     Optional<ChatRoom> findByUserIdAndSalonId(String userId, String salonId);
 
-    List<ChatRoom> findByUserIdOrderByLastMessageTimeDesc(String userId);
+    // 목록 조회: 사용자/미용실을 함께 가져와 방마다 추가 쿼리가 나가지 않도록 한다
+    @Query("SELECT r FROM ChatRoom r JOIN FETCH r.user JOIN FETCH r.salon WHERE r.user.id = :userId ORDER BY r.lastMessageTime DESC")
+    List<ChatRoom> findWithUserAndSalonByUserIdOrderByLastMessageTimeDesc(@Param("userId") String userId);
 
-    List<ChatRoom> findBySalonIdOrderByLastMessageTimeDesc(String salonId);
+    @Query("SELECT r FROM ChatRoom r JOIN FETCH r.user JOIN FETCH r.salon WHERE r.salon.id = :salonId ORDER BY r.lastMessageTime DESC")
+    List<ChatRoom> findWithUserAndSalonBySalonIdOrderByLastMessageTimeDesc(@Param("salonId") String salonId);
+
+    // 새 메시지 반영: 마지막 메시지 요약과 상대방의 안 읽은 수를 한 번에 원자적으로 갱신
+    @Modifying
+    @Query("UPDATE ChatRoom r SET r.lastMessageTime = :sentAt, r.lastMessagePreview = :preview, r.lastSenderType = :senderType, " +
+            "r.unreadForUser = r.unreadForUser + :userIncrement, r.unreadForSalon = r.unreadForSalon + :salonIncrement, " +
+            "r.unreadUpdatedAt = :sentAt " +
+            "WHERE r.id = :chatRoomId")
+    int recordNewMessage(@Param("chatRoomId") Long chatRoomId,
+                         @Param("sentAt") OffsetDateTime sentAt,
+                         @Param("preview") String preview,
+                         @Param("senderType") String senderType,
+                         @Param("userIncrement") int userIncrement,
+                         @Param("salonIncrement") int salonIncrement);
+
+    // 읽음 처리 시작 시 채팅방 행 잠금: 이후 문장이 동시에 커밋된 새 메시지와 안 읽은 수 증가를 모두 보게 된다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM ChatRoom r WHERE r.id = :chatRoomId")
+    Optional<ChatRoom> findByIdForUpdate(@Param("chatRoomId") Long chatRoomId);
+
+    // 안 읽은 수를 실제 안 읽은 메시지 수로 다시 맞춘다 (읽음 처리 범위 이후에 온 메시지는 남는다)
+    @Modifying
+    @Query(value = """
+    UPDATE chat_room
+    SET unread_for_user = (
+        SELECT COUNT(*) FROM chat_message m
+        WHERE m.chat_room_id = :chatRoomId AND m.sender_type = 'SALON' AND m.is_read = FALSE
+    ),
+    unread_updated_at = :updatedAt
+    WHERE id = :chatRoomId
+    """, nativeQuery = true)
+    int refreshUnreadForUser(@Param("chatRoomId") Long chatRoomId, @Param("updatedAt") OffsetDateTime updatedAt);
+
+    @Modifying
+    @Query(value = """
+    UPDATE chat_room
+    SET unread_for_salon = (
+        SELECT COUNT(*) FROM chat_message m
+        WHERE m.chat_room_id = :chatRoomId AND m.sender_type = 'USER' AND m.is_read = FALSE
+    ),
+    unread_updated_at = :updatedAt
+    WHERE id = :chatRoomId
+    """, nativeQuery = true)
+    int refreshUnreadForSalon(@Param("chatRoomId") Long chatRoomId, @Param("updatedAt") OffsetDateTime updatedAt);
 }
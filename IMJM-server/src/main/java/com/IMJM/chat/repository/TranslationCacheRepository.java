@@ -0,0 +1,28 @@
+package com.IMJM.chat.repository;
+
+import com.IMJM.common.entity.TranslationCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+@Repository
+public interface TranslationCacheRepository extends JpaRepository<TranslationCache, Long> {
+
+    Optional<TranslationCache> findByTextHashAndSourceLanguageAndTargetLanguage(
+            String textHash, String sourceLanguage, String targetLanguage);
+
+    @Modifying
+    @Query("UPDATE TranslationCache t SET t.useCount = t.useCount + :count, t.lastUsedAt = :lastUsedAt WHERE t.id = :id")
+    int incrementUsage(@Param("id") Long id,
+                       @Param("count") int count,
+                       @Param("lastUsedAt") OffsetDateTime lastUsedAt);
+
+    @Modifying
+    @Query("DELETE FROM TranslationCache t WHERE t.lastUsedAt < :threshold")
+    int deleteUnusedSince(@Param("threshold") OffsetDateTime threshold);
+}
@@ -0,0 +1,115 @@
+package com.IMJM.chat.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * 여러 패턴을 한 번의 순회로 찾는 Aho-Corasick 매처.
+ * 패턴과 입력은 호출하는 쪽에서 같은 방식으로 정규화되어 있어야 한다.
+ * 라틴 문자로 시작/끝나는 패턴은 단어 경계에서만 매치한다 ("hi" 는 "this" 안에서 매치되지 않음).
+ * 한글/가나/한자처럼 띄어쓰기 없이 붙여 쓰는 문자는 경계를 보지 않는다.
+ */
+class AhoCorasickMatcher {
+
+    private final Node root = new Node();
+
+    AhoCorasickMatcher(List<String> patterns) {
+        for (int i = 0; i < patterns.size(); i++) {
+            String pattern = patterns.get(i);
+            if (pattern.isEmpty()) {
+                continue;
+            }
+
+            Node node = root;
+            for (int j = 0; j < pattern.length(); j++) {
+                node = node.children.computeIfAbsent(pattern.charAt(j), c -> new Node());
+            }
+            node.outputs.add(new int[]{i, pattern.length()});
+        }
+        buildFailureLinks();
+    }
+
+    /**
+     * 입력에서 발견된 모든(겹치는 것 포함) 패턴 위치를 돌려준다.
+     */
+    List<Match> findAll(CharSequence text) {
+        List<Match> matches = new ArrayList<>();
+        Node node = root;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            while (node != root && !node.children.containsKey(c)) {
+                node = node.fail;
+            }
+            node = node.children.getOrDefault(c, root);
+
+            for (int[] output : node.outputs) {
+                int start = i + 1 - output[1];
+                if (isWordBoundary(text, start) && isWordBoundary(text, i + 1)) {
+                    matches.add(new Match(start, i + 1, output[0]));
+                }
+            }
+        }
+        return matches;
+    }
+
+    // position 앞뒤 글자가 모두 라틴 글자면 단어 중간이다
+    private static boolean isWordBoundary(CharSequence text, int position) {
+        return position == 0
+                || position == text.length()
+                || !isLatinLetter(text.charAt(position - 1))
+                || !isLatinLetter(text.charAt(position));
+    }
+
+    private static boolean isLatinLetter(char c) {
+        return Character.isLetter(c) && Character.UnicodeScript.of(c) == Character.UnicodeScript.LATIN;
+    }
+
+    private void buildFailureLinks() {
+        Queue<Node> queue = new ArrayDeque<>();
+        for (Node child : root.children.values()) {
+            child.fail = root;
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            for (Map.Entry<Character, Node> entry : node.children.entrySet()) {
+                char c = entry.getKey();
+                Node child = entry.getValue();
+
+                Node fail = node.fail;
+                while (fail != root && !fail.children.containsKey(c)) {
+                    fail = fail.fail;
+                }
+                Node target = fail.children.get(c);
+                child.fail = (target != null && target != child) ? target : root;
+                // 접미사로 끝나는 패턴도 함께 보고되도록 출력 목록을 이어 붙인다
+                child.outputs.addAll(child.fail.outputs);
+                queue.add(child);
+            }
+        }
+    }
+
+    static class Match {
+        final int start;
+        final int end;
+        final int patternIndex;
+
+        Match(int start, int end, int patternIndex) {
+            this.start = start;
+            this.end = end;
+            this.patternIndex = patternIndex;
+        }
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private final List<int[]> outputs = new ArrayList<>();
+        private Node fail;
+    }
+}
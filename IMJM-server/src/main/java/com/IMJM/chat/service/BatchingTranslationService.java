@@ -0,0 +1,212 @@
+package com.IMJM.chat.service;
+
+import com.IMJM.chat.exception.BatchTranslationFormatException;
+import com.IMJM.chat.exception.TranslationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 같은 (원본 언어, 대상 언어) 번역 요청을 잠깐(maxDelay) 또는 maxSize 개까지 모아
+ * 하이퍼클로바X에 번호 붙은 묶음 요청 한 번으로 보낸다.
+ *
+ * 같은 언어 쌍으로 진행 중인 호출이 없으면 기다리지 않고 바로 보낸다 (한가할 때 지연 없음).
+ * 호출이 진행 중일 때 들어온 요청부터 묶음을 열고, 묶음의 첫 요청 스레드(리더)가 기다렸다가 직접 호출하며
+ * 나머지는 결과만 기다린다.
+ * 여러 줄 메시지는 한 줄에 하나씩 번호를 붙이는 묶음 형식에 넣을 수 없으므로 항상 따로 보낸다.
+ * 별도 스케줄러 스레드가 없으므로 번역 스레드 풀이 모두 대기 상태가 되어도 교착되지 않는다.
+ * 응답 번호가 맞지 않으면 묶음을 개별 번역으로 대체한다.
+ */
+@Slf4j
+public class BatchingTranslationService implements TranslationService {
+
+    private final HyperClovaXTranslationService delegate;
+    private final int maxSize;
+    private final long maxDelayMillis;
+
+    private final Object lock = new Object();
+    private final Map<String, Batch> openBatches = new HashMap<>();
+    // 언어 쌍별로 호출 중(묶음 대기 포함)인 리더 수
+    private final Map<String, Integer> inFlight = new HashMap<>();
+
+    private final Counter batchedCalls;
+    private final Counter singleCalls;
+    private final Counter fallbackCalls;
+    private final DistributionSummary batchSize;
+
+    public BatchingTranslationService(HyperClovaXTranslationService delegate,
+                                      int maxSize,
+                                      long maxDelayMillis,
+                                      MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+        this.maxDelayMillis = maxDelayMillis;
+        this.batchedCalls = meterRegistry.counter("translation.batch.calls", "mode", "batched");
+        this.singleCalls = meterRegistry.counter("translation.batch.calls", "mode", "single");
+        this.fallbackCalls = meterRegistry.counter("translation.batch.calls", "mode", "fallback");
+        this.batchSize = DistributionSummary.builder("translation.batch.size")
+                .description("하이퍼클로바X 호출 한 번에 묶인 메시지 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String translate(String text, String sourceLanguage, String targetLanguage) throws TranslationException {
+        if (isMultiLine(text)) {
+            singleCalls.increment();
+            return delegate.translate(text, sourceLanguage, targetLanguage);
+        }
+
+        String pair = sourceLanguage.toLowerCase(Locale.ROOT) + "|" + targetLanguage.toLowerCase(Locale.ROOT);
+        Request request = new Request(text);
+
+        Batch batch;
+        boolean leader;
+        boolean immediate = false;
+        synchronized (lock) {
+            batch = openBatches.get(pair);
+            leader = batch == null;
+            if (leader) {
+                batch = new Batch(sourceLanguage, targetLanguage);
+                immediate = !inFlight.containsKey(pair);
+                if (!immediate) {
+                    openBatches.put(pair, batch);
+                }
+                inFlight.merge(pair, 1, Integer::sum);
+            }
+            batch.requests.add(request);
+
+            // 가득 차면 더 이상 받지 않고 리더를 깨운다
+            if (!immediate && batch.requests.size() >= maxSize) {
+                openBatches.remove(pair);
+                batch.full.complete(null);
+            }
+        }
+
+        if (leader) {
+            try {
+                if (!immediate) {
+                    awaitFullOrTimeout(batch);
+                    synchronized (lock) {
+                        openBatches.remove(pair, batch);
+                    }
+                }
+                dispatch(batch);
+            } finally {
+                synchronized (lock) {
+                    inFlight.computeIfPresent(pair, (key, count) -> count > 1 ? count - 1 : null);
+                }
+            }
+        }
+
+        return await(request, sourceLanguage, targetLanguage);
+    }
+
+    private static boolean isMultiLine(String text) {
+        return text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+    }
+
+    private void awaitFullOrTimeout(Batch batch) {
+        try {
+            batch.full.get(maxDelayMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 대기 시간이 끝나면 모인 만큼만 보낸다
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // full 은 정상 완료만 하므로 도달하지 않음
+        }
+    }
+
+    private void dispatch(Batch batch) {
+        // openBatches 에서 빠진 뒤이므로 더 이상 요청이 추가되지 않는다
+        List<Request> requests = batch.requests;
+        batchSize.record(requests.size());
+
+        if (requests.size() == 1) {
+            singleCalls.increment();
+            translateIndividually(batch, requests);
+            return;
+        }
+
+        List<String> texts = new ArrayList<>(requests.size());
+        for (Request request : requests) {
+            texts.add(request.text);
+        }
+
+        try {
+            List<String> translatedTexts = delegate.translateBatch(texts, batch.sourceLanguage, batch.targetLanguage);
+            batchedCalls.increment();
+            for (int i = 0; i < requests.size(); i++) {
+                requests.get(i).result.complete(translatedTexts.get(i));
+            }
+        } catch (BatchTranslationFormatException e) {
+            // 응답을 번호별로 나눌 수 없으면 개별 번역으로 대체
+            log.warn("묶음 번역 응답 형식 불일치 - 개별 번역으로 대체 (size={}): {}", requests.size(), e.getMessage());
+            fallbackCalls.increment();
+            translateIndividually(batch, requests);
+        } catch (RuntimeException e) {
+            for (Request request : requests) {
+                request.result.completeExceptionally(e);
+            }
+        }
+    }
+
+    private void translateIndividually(Batch batch, List<Request> requests) {
+        for (Request request : requests) {
+            try {
+                request.result.complete(delegate.translate(request.text, batch.sourceLanguage, batch.targetLanguage));
+            } catch (RuntimeException e) {
+                request.result.completeExceptionally(e);
+            }
+        }
+    }
+
+    private String await(Request request, String sourceLanguage, String targetLanguage) {
+        try {
+            return request.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TranslationException translationException) {
+                throw translationException;
+            }
+            throw new TranslationException(
+                    "Failed to translate text: " + e.getCause().getMessage(),
+                    sourceLanguage,
+                    targetLanguage,
+                    request.text,
+                    e.getCause()
+            );
+        }
+    }
+
+    private static class Batch {
+        private final String sourceLanguage;
+        private final String targetLanguage;
+        private final List<Request> requests = new ArrayList<>();
+        private final CompletableFuture<Void> full = new CompletableFuture<>();
+
+        private Batch(String sourceLanguage, String targetLanguage) {
+            this.sourceLanguage = sourceLanguage;
+            this.targetLanguage = targetLanguage;
+        }
+    }
+
+    private static class Request {
+        private final String text;
+        private final CompletableFuture<String> result = new CompletableFuture<>();
+
+        private Request(String text) {
+            this.text = text;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.IMJM.chat.service;
+
+import com.IMJM.chat.exception.TranslationException;
+import com.IMJM.common.entity.TranslationCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 번역 캐시 데코레이터: 메모리(LRU/TTL) → translation_cache 테이블 → 실제 번역 순으로 조회한다.
+ */
+@Slf4j
+public class CachingTranslationService implements TranslationService {
+
+    private final TranslationService delegate;
+    private final TranslationCacheStore cacheStore;
+    private final TranslationLruCache localCache;
+
+    private final Counter localHits;
+    private final Counter storeHits;
+    private final Counter misses;
+
+    public CachingTranslationService(TranslationService delegate,
+                                     TranslationCacheStore cacheStore,
+                                     int localMaxSize,
+                                     Duration localTtl,
+                                     MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.cacheStore = cacheStore;
+        this.localCache = new TranslationLruCache(localMaxSize, localTtl);
+        this.localHits = meterRegistry.counter("translation.cache.requests", "result", "local");
+        this.storeHits = meterRegistry.counter("translation.cache.requests", "result", "db");
+        this.misses = meterRegistry.counter("translation.cache.requests", "result", "miss");
+        meterRegistry.gauge("translation.cache.local.size", localCache, TranslationLruCache::size);
+    }
+
+    @Override
+    public String translate(String text, String sourceLanguage, String targetLanguage) throws TranslationException {
+        String normalizedText = TranslationCacheStore.normalize(text);
+        String source = sourceLanguage.toLowerCase(Locale.ROOT);
+        String target = targetLanguage.toLowerCase(Locale.ROOT);
+        String textHash = TranslationCacheStore.hash(normalizedText);
+        String key = textHash + "|" + source + "|" + target;
+
+        // 1. 메모리 캐시
+        TranslationLruCache.Entry local = localCache.get(key);
+        if (local != null) {
+            localHits.increment();
+            cacheStore.recordHit(local.cacheId);
+            return local.translatedText;
+        }
+
+        // 2. DB 캐시
+        Optional<TranslationCache> stored = findStored(textHash, source, target);
+        if (stored.isPresent()) {
+            storeHits.increment();
+            TranslationCache cache = stored.get();
+            localCache.put(key, cache.getId(), cache.getTranslatedText());
+            cacheStore.recordHit(cache.getId());
+            return cache.getTranslatedText();
+        }
+
+        // 3. 실제 번역 후 두 계층에 저장
+        misses.increment();
+        String translatedText = delegate.translate(text, sourceLanguage, targetLanguage);
+
+        Long cacheId = null;
+        try {
+            cacheId = cacheStore.save(normalizedText, textHash, source, target, translatedText);
+        } catch (Exception e) {
+            // 동시에 같은 문장이 저장된 경우 등: 캐시 저장 실패는 번역 결과에 영향 없음
+            log.debug("번역 캐시 저장 실패 (무시됨): {}", e.getMessage());
+        }
+        localCache.put(key, cacheId, translatedText);
+
+        return translatedText;
+    }
+
+    private Optional<TranslationCache> findStored(String textHash, String source, String target) {
+        try {
+            return cacheStore.find(textHash, source, target);
+        } catch (Exception e) {
+            log.warn("번역 캐시 조회 실패, 번역 API로 진행: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
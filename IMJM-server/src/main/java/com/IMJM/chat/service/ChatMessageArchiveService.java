@@ -0,0 +1,486 @@
+package com.IMJM.chat.service;
+
+import com.IMJM.chat.dto.ChatMessageDto;
+import com.IMJM.chat.dto.ChatPhotoDto;
+import com.IMJM.chat.repository.ChatMessageArchiveRepository;
+import com.IMJM.chat.repository.ChatMessageArchiveRoomRepository;
+import com.IMJM.common.cloud.StorageService;
+import com.IMJM.common.cloud.StorageServiceException;
+import com.IMJM.common.entity.ChatMessageArchive;
+import com.IMJM.common.entity.ChatMessageArchiveRoom;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 오래된 chat_message 월 파티션을 gzip JSON Lines 파일로 오브젝트 스토리지에 옮기고, 이전 메시지 조회 시 다시 읽어 준다.
+ * <p>
+ * 파일은 (chat_room_id, sent_at, id) 순으로 정렬되어 있고 한 줄이 {@link ChatMessageDto} 하나다.
+ * 채팅방마다 gzip 멤버 하나로 이어 쓰므로 파일 전체도 하나의 gzip 으로 읽힌다.
+ * 채팅방별 범위와 멤버의 바이트 위치는 chat_message_archive_room 에 남겨, 이전 메시지 조회 때 그 방 범위만 내려받는다.
+ * 파티션은 오래된 달부터 순서대로 보관하므로, 보관된 메시지보다 이전 메시지는 모두 보관되어 있다.
+ * <p>
+ * 파일을 쓴 뒤 파티션을 분리하기 전까지 읽음/번역 갱신이 들어오면 파일에 빠지므로, 분리한 뒤(잠금 상태) 파일을 쓸 때의
+ * 지문과 비교해 다르면 보관을 취소하고 다음 주기에 다시 쓴다.
+ */
+@Slf4j
+@Service
+public class ChatMessageArchiveService {
+
+    private static final String STORAGE_PREFIX = "chat-archive/";
+    private static final String CONTENT_TYPE = "application/gzip";
+    private static final int FETCH_SIZE = 1000;
+
+    // 읽음/번역 상태까지 포함한 파티션 지문: 파일을 쓴 스냅샷과 분리 직전 내용이 같은지 확인한다
+    private static final String FINGERPRINT_SQL =
+            "SELECT count(*) || ':' || COALESCE(sum(hashtextextended(" +
+                    "m.id::text || ':' || COALESCE(m.is_read::text, '') || ':' || COALESCE(m.translation_status, '') " +
+                    "|| ':' || COALESCE(m.translated_message, ''), 0)), 0) FROM %s m";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    // 파일과 지문을 같은 스냅샷에서 읽는다
+    private final TransactionTemplate snapshotTransaction;
+    private final StorageService storageService;
+    private final ObjectMapper objectMapper;
+    private final ChatMessageArchiveRepository chatMessageArchiveRepository;
+    private final ChatMessageArchiveRoomRepository chatMessageArchiveRoomRepository;
+
+    // "보관 id:채팅방 id" → 그 방의 보관 메시지 (오래된 순)
+    private final Map<String, List<ChatMessageDto>> roomSlices;
+
+    // 보관된 파티션이 하나도 없으면 이전 메시지 조회 시 보관 테이블도 보지 않는다
+    private volatile boolean hasArchives;
+
+    public ChatMessageArchiveService(JdbcTemplate jdbcTemplate,
+                                     TransactionTemplate transactionTemplate,
+                                     StorageService storageService,
+                                     ObjectMapper objectMapper,
+                                     ChatMessageArchiveRepository chatMessageArchiveRepository,
+                                     ChatMessageArchiveRoomRepository chatMessageArchiveRoomRepository,
+                                     @Value("${chat.archive.cache-size}") int cacheSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.snapshotTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshotTransaction.setReadOnly(true);
+        this.storageService = storageService;
+        this.objectMapper = objectMapper;
+        this.chatMessageArchiveRepository = chatMessageArchiveRepository;
+        this.chatMessageArchiveRoomRepository = chatMessageArchiveRoomRepository;
+        // accessOrder = true: 조회할 때마다 최근 사용 순으로 재배치
+        this.roomSlices = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<ChatMessageDto>> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    public void refreshArchiveState() {
+        hasArchives = chatMessageArchiveRepository.existsByStatus(ChatMessageArchive.STATUS_DONE);
+    }
+
+    // 파티션 하나를 보관: 파일 작성 → 업로드 → (범위 기록, 사진 삭제, 파티션 분리/삭제)를 한 트랜잭션으로
+    public boolean archivePartition(YearMonth month, String partitionName) {
+        LocalDate partitionMonth = month.atDay(1);
+        String storagePath = STORAGE_PREFIX + partitionName + ".jsonl.gz";
+
+        if (!claim(partitionMonth, storagePath)) {
+            log.info("다른 노드가 보관 중인 파티션이라 건너뜀: {}", partitionName);
+            return false;
+        }
+
+        Path file = null;
+        try {
+            file = Files.createTempFile(partitionName, ".jsonl.gz");
+            Path archiveFile = file;
+            ArchiveSnapshot snapshot = snapshotTransaction.execute(status -> writeArchiveFile(partitionName, archiveFile));
+
+            try (InputStream in = Files.newInputStream(file)) {
+                storageService.uploadPrivate(storagePath, in, Files.size(file), CONTENT_TYPE);
+            }
+
+            transactionTemplate.executeWithoutResult(status -> complete(partitionMonth, partitionName, snapshot));
+            hasArchives = true;
+            log.info("채팅 메시지 파티션 보관 완료: {} ({}개 채팅방) → {}", partitionName, snapshot.rooms.size(), storagePath);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            // 선점을 풀어 다음 주기에 다시 시도
+            jdbcTemplate.update("DELETE FROM chat_message_archive WHERE partition_month = ? AND status = ?",
+                    partitionMonth, ChatMessageArchive.STATUS_ARCHIVING);
+            log.error("채팅 메시지 파티션 보관 실패: {}", partitionName, e);
+            return false;
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    // 보관된 메시지 중 (sentAt, id) 커서 이전 메시지를 최신순으로 최대 limit 건 (커서가 없으면 가장 최근 보관 메시지부터)
+    public List<ChatMessageDto> findBefore(Long chatRoomId, OffsetDateTime sentAt, Long id, int limit) {
+        if (limit <= 0 || !hasArchives) {
+            return Collections.emptyList();
+        }
+
+        List<ChatMessageDto> result = new ArrayList<>();
+        for (ChatMessageArchiveRoom slice : chatMessageArchiveRoomRepository.findByChatRoomIdNewestFirst(chatRoomId)) {
+            if (sentAt != null && slice.getMinSentAt().isAfter(sentAt)) {
+                continue;
+            }
+
+            List<ChatMessageDto> messages;
+            try {
+                messages = loadSlice(slice);
+            } catch (StorageServiceException e) {
+                // 보관 파일을 못 읽으면 여기까지만 보여 준다 (조회 자체는 실패시키지 않음)
+                log.warn("보관 메시지 조회 실패: roomId={}, archiveId={}", chatRoomId, slice.getArchive().getId(), e);
+                break;
+            }
+            for (int i = messages.size() - 1; i >= 0 && result.size() < limit; i--) {
+                ChatMessageDto message = messages.get(i);
+                if (sentAt == null || isBefore(message, sentAt, id)) {
+                    result.add(message);
+                }
+            }
+            if (result.size() >= limit) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    // 보관된 메시지 한 건 (이전 메시지 조회 커서가 보관된 메시지일 때), 없으면 null
+    public ChatMessageDto findMessage(Long chatRoomId, Long messageId) {
+        if (!hasArchives) {
+            return null;
+        }
+
+        for (ChatMessageArchiveRoom slice : chatMessageArchiveRoomRepository.findByChatRoomIdNewestFirst(chatRoomId)) {
+            if (messageId < slice.getMinMessageId() || messageId > slice.getMaxMessageId()) {
+                continue;
+            }
+            try {
+                for (ChatMessageDto message : loadSlice(slice)) {
+                    if (messageId.equals(message.getId())) {
+                        return message;
+                    }
+                }
+            } catch (StorageServiceException e) {
+                log.warn("보관 메시지 조회 실패: roomId={}, messageId={}", chatRoomId, messageId, e);
+                return null;
+            }
+        }
+        return null;
+    }
+
+    // 다른 노드와 동시에 보관하지 않도록 행 하나로 선점 (멈춘 선점은 하루 뒤 다시 가져간다)
+    private boolean claim(LocalDate partitionMonth, String storagePath) {
+        int claimed = jdbcTemplate.update(
+                "INSERT INTO chat_message_archive (partition_month, storage_path, status, message_count, claimed_at) " +
+                        "VALUES (?, ?, 'ARCHIVING', 0, now()) " +
+                        "ON CONFLICT (partition_month) DO UPDATE SET claimed_at = now() " +
+                        "WHERE chat_message_archive.status = 'ARCHIVING' " +
+                        "AND chat_message_archive.claimed_at < now() - INTERVAL '1 day'",
+                partitionMonth, storagePath);
+        return claimed == 1;
+    }
+
+    private ArchiveSnapshot writeArchiveFile(String partitionName, Path file) {
+        Map<Long, List<ChatPhotoDto>> photosByMessageId = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT p.photo_id, p.chat_message_id, p.photo_url FROM chat_photos p " +
+                        "JOIN " + partitionName + " m ON m.id = p.chat_message_id ORDER BY p.photo_id",
+                (RowCallbackHandler) rs -> photosByMessageId
+                        .computeIfAbsent(rs.getLong("chat_message_id"), messageId -> new ArrayList<>())
+                        .add(ChatPhotoDto.builder()
+                                .photoId(rs.getLong("photo_id"))
+                                .photoUrl(rs.getString("photo_url"))
+                                .build()));
+
+        Map<Long, RoomRange> rooms = new LinkedHashMap<>();
+        try (RoomMemberWriter writer = new RoomMemberWriter(Files.newOutputStream(file))) {
+            jdbcTemplate.query(connection -> {
+                        PreparedStatement statement = connection.prepareStatement(
+                                "SELECT m.id, m.chat_room_id, m.sender_type, m.message, m.is_read, m.sent_at, " +
+                                        "m.translated_message, m.translation_status, r.user_id, r.salon_id " +
+                                        "FROM " + partitionName + " m JOIN chat_room r ON r.id = m.chat_room_id " +
+                                        "ORDER BY m.chat_room_id, m.sent_at, m.id");
+                        // 트랜잭션 안에서 fetch size 를 주면 PostgreSQL 드라이버가 커서로 나눠 읽는다
+                        statement.setFetchSize(FETCH_SIZE);
+                        return statement;
+                    },
+                    (RowCallbackHandler) rs -> {
+                        String senderType = rs.getString("sender_type");
+                        ChatMessageDto message = ChatMessageDto.builder()
+                                .id(rs.getLong("id"))
+                                .chatRoomId(rs.getLong("chat_room_id"))
+                                .senderType(senderType)
+                                .senderId("USER".equals(senderType) ? rs.getString("user_id") : rs.getString("salon_id"))
+                                .message(rs.getString("message"))
+                                .isRead(rs.getBoolean("is_read"))
+                                .sentAt(rs.getObject("sent_at", OffsetDateTime.class))
+                                .translatedMessage(rs.getString("translated_message"))
+                                .translationStatus(rs.getString("translation_status"))
+                                .photos(photosByMessageId.getOrDefault(rs.getLong("id"), Collections.emptyList()))
+                                .build();
+                        try {
+                            RoomRange room = rooms.get(message.getChatRoomId());
+                            if (room == null) {
+                                // 채팅방이 바뀌면 이전 방의 gzip 멤버를 닫고 새 멤버를 시작한다
+                                room = new RoomRange(message.getChatRoomId());
+                                rooms.put(message.getChatRoomId(), room);
+                                writer.startMember(room);
+                            }
+                            writer.writeLine(objectMapper.writeValueAsString(message));
+                            room.add(message);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+            writer.finishMember();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        String fingerprint = jdbcTemplate.queryForObject(String.format(FINGERPRINT_SQL, partitionName), String.class);
+        return new ArchiveSnapshot(rooms.values(), fingerprint);
+    }
+
+    private void complete(LocalDate partitionMonth, String partitionName, ArchiveSnapshot snapshot) {
+        // 분리하면 파티션이 잠겨 더 이상 갱신되지 않는다: 파일을 쓴 뒤 바뀐 내용이 있으면 롤백하고 다음 주기에 다시 쓴다
+        jdbcTemplate.execute("ALTER TABLE chat_message DETACH PARTITION " + partitionName);
+        String fingerprint = jdbcTemplate.queryForObject(String.format(FINGERPRINT_SQL, partitionName), String.class);
+        if (!snapshot.fingerprint.equals(fingerprint)) {
+            throw new IllegalStateException("보관 파일 작성 후 메시지가 갱신되어 보관을 취소합니다: " + partitionName);
+        }
+
+        Collection<RoomRange> rooms = snapshot.rooms;
+        ChatMessageArchive archive = chatMessageArchiveRepository.findByPartitionMonth(partitionMonth)
+                .orElseThrow(() -> new IllegalStateException("보관 선점 정보가 없습니다: " + partitionMonth));
+
+        chatMessageArchiveRoomRepository.saveAll(rooms.stream()
+                .map(room -> room.toEntity(archive))
+                .collect(Collectors.toList()));
+
+        int messageCount = rooms.stream().mapToInt(room -> room.messageCount).sum();
+        jdbcTemplate.update("UPDATE chat_message_archive SET status = ?, message_count = ?, archived_at = now() WHERE id = ?",
+                ChatMessageArchive.STATUS_DONE, messageCount, archive.getId());
+
+        // 파티션 DROP 은 삭제 트리거를 거치지 않으므로 사진 행은 직접 지운다
+        jdbcTemplate.update("DELETE FROM chat_photos p USING " + partitionName + " m WHERE p.chat_message_id = m.id");
+        jdbcTemplate.execute("DROP TABLE " + partitionName);
+    }
+
+    private List<ChatMessageDto> loadSlice(ChatMessageArchiveRoom slice) {
+        String key = slice.getArchive().getId() + ":" + slice.getChatRoomId();
+        List<ChatMessageDto> cached = roomSlices.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        List<ChatMessageDto> messages = slice.getByteOffset() != null
+                ? readRoomMember(slice.getArchive().getStoragePath(), slice.getByteOffset(), slice.getByteLength())
+                : readRoom(slice.getArchive().getStoragePath(), slice.getChatRoomId());
+        roomSlices.put(key, messages);
+        return messages;
+    }
+
+    // 채팅방 gzip 멤버 범위만 내려받는다 (멤버 안의 줄은 모두 이 방의 메시지)
+    private List<ChatMessageDto> readRoomMember(String storagePath, long offset, long length) {
+        ByteArrayOutputStream member = new ByteArrayOutputStream((int) Math.min(length, Integer.MAX_VALUE));
+        storageService.downloadRange(storagePath, offset, length, member);
+
+        List<ChatMessageDto> messages = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(new ByteArrayInputStream(member.toByteArray())), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                messages.add(objectMapper.readValue(line, ChatMessageDto.class));
+            }
+        } catch (IOException e) {
+            throw new StorageServiceException("보관 메시지 읽기 실패: " + storagePath, e);
+        }
+        return Collections.unmodifiableList(messages);
+    }
+
+    // V19 이전에 보관된 파일: 파일 전체를 내려받아 이 방 범위를 찾는다
+    private List<ChatMessageDto> readRoom(String storagePath, Long chatRoomId) {
+        Path file = null;
+        try {
+            file = Files.createTempFile("chat-archive", ".jsonl.gz");
+            try (OutputStream out = Files.newOutputStream(file)) {
+                storageService.download(storagePath, out);
+            }
+
+            List<ChatMessageDto> messages = new ArrayList<>();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+                boolean inRoom = false;
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    ChatMessageDto message = objectMapper.readValue(line, ChatMessageDto.class);
+                    if (chatRoomId.equals(message.getChatRoomId())) {
+                        messages.add(message);
+                        inRoom = true;
+                    } else if (inRoom) {
+                        // 파일이 채팅방 순으로 정렬되어 있으므로 지나치면 끝
+                        break;
+                    }
+                }
+            }
+            return Collections.unmodifiableList(messages);
+        } catch (IOException e) {
+            throw new StorageServiceException("보관 메시지 읽기 실패: " + storagePath, e);
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    private static boolean isBefore(ChatMessageDto message, OffsetDateTime sentAt, Long id) {
+        return message.getSentAt().isBefore(sentAt)
+                || (message.getSentAt().isEqual(sentAt) && id != null && message.getId() < id);
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", file, e);
+        }
+    }
+
+    private static final class ArchiveSnapshot {
+        final Collection<RoomRange> rooms;
+        final String fingerprint;
+
+        ArchiveSnapshot(Collection<RoomRange> rooms, String fingerprint) {
+            this.rooms = rooms;
+            this.fingerprint = fingerprint;
+        }
+    }
+
+    // 채팅방마다 gzip 멤버를 새로 시작하며 JSON Lines 를 쓰고, 멤버의 파일 위치를 방 범위에 기록한다
+    private static final class RoomMemberWriter implements Closeable {
+        private final CountingOutputStream file;
+        private RoomRange current;
+        private GZIPOutputStream member;
+        private Writer writer;
+
+        RoomMemberWriter(OutputStream out) {
+            this.file = new CountingOutputStream(new BufferedOutputStream(out));
+        }
+
+        void startMember(RoomRange room) throws IOException {
+            finishMember();
+            room.byteOffset = file.count;
+            current = room;
+            member = new GZIPOutputStream(file);
+            writer = new OutputStreamWriter(member, StandardCharsets.UTF_8);
+        }
+
+        void writeLine(String line) throws IOException {
+            writer.write(line);
+            writer.write('\n');
+        }
+
+        // 멤버만 마무리하고 파일은 닫지 않는다
+        void finishMember() throws IOException {
+            if (current == null) {
+                return;
+            }
+            writer.flush();
+            member.finish();
+            current.byteLength = file.count - current.byteOffset;
+            current = null;
+            member = null;
+            writer = null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            file.close();
+        }
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+        long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+
+    // 보관 파일 안에서 채팅방 하나의 범위
+    private static final class RoomRange {
+        final Long chatRoomId;
+        long byteOffset;
+        long byteLength;
+        int messageCount;
+        Long minMessageId;
+        Long maxMessageId;
+        OffsetDateTime minSentAt;
+        OffsetDateTime maxSentAt;
+
+        RoomRange(Long chatRoomId) {
+            this.chatRoomId = chatRoomId;
+        }
+
+        // 파일이 (채팅방, sent_at, id) 순이므로 첫 메시지가 가장 오래된 메시지
+        void add(ChatMessageDto message) {
+            if (messageCount == 0) {
+                minSentAt = message.getSentAt();
+            }
+            maxSentAt = message.getSentAt();
+            minMessageId = minMessageId == null ? message.getId() : Math.min(minMessageId, message.getId());
+            maxMessageId = maxMessageId == null ? message.getId() : Math.max(maxMessageId, message.getId());
+            messageCount++;
+        }
+
+        ChatMessageArchiveRoom toEntity(ChatMessageArchive archive) {
+            return ChatMessageArchiveRoom.builder()
+                    .archive(archive)
+                    .chatRoomId(chatRoomId)
+                    .messageCount(messageCount)
+                    .minMessageId(minMessageId)
+                    .maxMessageId(maxMessageId)
+                    .minSentAt(minSentAt)
+                    .maxSentAt(maxSentAt)
+                    .byteOffset(byteOffset)
+                    .byteLength(byteLength)
+                    .build();
+        }
+    }
+}
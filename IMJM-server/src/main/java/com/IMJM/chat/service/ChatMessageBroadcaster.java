@@ -0,0 +1,68 @@
+package com.IMJM.chat.service;
+
+import com.IMJM.chat.event.ChatMessageSentEvent;
+import com.IMJM.config.StompJson;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * 채팅방 양쪽(사용자, 미용실)에게 같은 이벤트를 보낼 때 payload 를 한 번만 직렬화한다.
+ * <p>
+ * convertAndSendToUser 를 두 번 부르면 수신자마다 JSON 을 새로 만들므로, compact JSON 바이트를 한 번 만들고
+ * 같은 byte[] 로 두 메시지를 보낸다. 목적지 규칙은 convertAndSendToUser 와 같다 (/user/{id}{destination}).
+ * <p>
+ * 새 메시지 프레임은 {@link ChatMessageSentEvent} 로 받아 메시지 저장 트랜잭션이 커밋된 뒤에만 보낸다.
+ */
+@Slf4j
+@Component
+public class ChatMessageBroadcaster {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper compactMapper;
+
+    public ChatMessageBroadcaster(SimpMessagingTemplate messagingTemplate, ObjectMapper objectMapper) {
+        this.messagingTemplate = messagingTemplate;
+        this.compactMapper = StompJson.compactMapper(objectMapper);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMessageSent(ChatMessageSentEvent event) {
+        sendToParticipants(event.getUserId(), event.getSalonId(), "/queue/messages", event.getMessage());
+    }
+
+    public void sendToParticipants(String userId, String salonId, String destination, Object payload) {
+        byte[] json;
+        try {
+            json = compactMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            // 직렬화 실패 시 기존 방식으로 (변환기 쪽 오류 처리에 맡김)
+            log.warn("STOMP payload 직렬화 실패, 수신자별 변환으로 전송: {}", destination, e);
+            messagingTemplate.convertAndSendToUser(userId, destination, payload);
+            messagingTemplate.convertAndSendToUser(salonId, destination, payload);
+            return;
+        }
+
+        send(userId, destination, json);
+        send(salonId, destination, json);
+    }
+
+    private void send(String participantId, String destination, byte[] json) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+
+        messagingTemplate.send(
+                messagingTemplate.getUserDestinationPrefix() + StringUtils.replace(participantId, "/", "%2F") + destination,
+                MessageBuilder.createMessage(json, accessor.getMessageHeaders()));
+    }
+}
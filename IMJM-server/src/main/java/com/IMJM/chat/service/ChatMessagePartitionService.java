@@ -0,0 +1,118 @@
+package com.IMJM.chat.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * chat_message 월 파티션 관리 (V12).
+ * <p>
+ * 이번 달부터 months-ahead 개월 뒤까지 파티션을 미리 만들어 두고, after-months 개월보다 오래된 파티션은
+ * {@link ChatMessageArchiveService} 로 보관한다. 월 경계는 Asia/Seoul 자정이다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatMessagePartitionService {
+
+    private static final ZoneId PARTITION_ZONE = ZoneId.of("Asia/Seoul");
+    private static final String PARTITION_PREFIX = "chat_message_p";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChatMessageArchiveService chatMessageArchiveService;
+
+    @Value("${chat.partition.months-ahead}")
+    private int monthsAhead;
+
+    @Value("${chat.archive.enabled}")
+    private boolean archiveEnabled;
+
+    @Value("${chat.archive.after-months}")
+    private int archiveAfterMonths;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        createFuturePartitions();
+        chatMessageArchiveService.refreshArchiveState();
+    }
+
+    @Scheduled(cron = "${chat.partition.cron}", zone = "Asia/Seoul")
+    public void maintainPartitions() {
+        createFuturePartitions();
+        // 다른 노드가 보관한 결과도 반영
+        chatMessageArchiveService.refreshArchiveState();
+        if (archiveEnabled) {
+            archiveExpiredPartitions();
+        }
+    }
+
+    public void createFuturePartitions() {
+        YearMonth current = YearMonth.now(PARTITION_ZONE);
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            String partitionName = partitionName(month);
+            try {
+                jdbcTemplate.execute(String.format(
+                        "CREATE TABLE IF NOT EXISTS %s PARTITION OF chat_message FOR VALUES FROM ('%s') TO ('%s')",
+                        partitionName, monthStart(month), monthStart(month.plusMonths(1))));
+            } catch (DataAccessException e) {
+                // 여러 노드가 동시에 만들 때의 충돌 등: 다음 주기에 다시 확인
+                log.error("채팅 메시지 파티션 생성 실패: {}", partitionName, e);
+            }
+        }
+    }
+
+    // 오래된 달부터 순서대로 보관, 하나라도 실패하면 그 뒤 달은 다음 주기로 미룬다
+    // (보관된 메시지보다 이전 메시지는 모두 보관되어 있어야 이전 메시지 조회가 이어진다)
+    private void archiveExpiredPartitions() {
+        YearMonth cutoff = YearMonth.now(PARTITION_ZONE).minusMonths(archiveAfterMonths);
+
+        List<String> partitionNames = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                        "WHERE i.inhparent = 'chat_message'::regclass ORDER BY c.relname",
+                String.class);
+
+        for (String partitionName : partitionNames) {
+            YearMonth month = parseMonth(partitionName);
+            if (month == null || !month.isBefore(cutoff)) {
+                continue;
+            }
+            if (!chatMessageArchiveService.archivePartition(month, partitionName)) {
+                break;
+            }
+        }
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+    }
+
+    private static YearMonth parseMonth(String partitionName) {
+        if (!partitionName.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(partitionName.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static OffsetDateTime monthStart(YearMonth month) {
+        return month.atDay(1).atStartOfDay(PARTITION_ZONE).toOffsetDateTime();
+    }
+}
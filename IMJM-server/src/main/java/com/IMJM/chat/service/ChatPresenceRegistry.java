@@ -0,0 +1,161 @@
+package com.IMJM.chat.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * STOMP 연결/구독/해제 이벤트로 채우는 접속 현황 레지스트리.
+ * <p>
+ * 클라이언트는 principal 없이 {@code /user/{id}/queue/...} 를 직접 구독하므로 그 구독으로 세션의 주인을 알아내고,
+ * 채팅방 화면은 {@code /topic/chat-room.{roomId}} 를 구독해 지금 열어 둔 방을 알린다.
+ * 조회는 ConcurrentHashMap 읽기만 하므로 메시지 전송 경로에서 락을 잡지 않는다.
+ * <p>
+ * 노드별 상태다. relay 모드에서 다른 노드에 붙은 세션은 보이지 않으므로 호출 측은
+ * "모른다"를 "오프라인"으로 취급해 알림을 만드는 쪽으로 동작해야 한다.
+ */
+@Slf4j
+@Component
+public class ChatPresenceRegistry {
+
+    private static final String USER_DESTINATION_PREFIX = "/user/";
+    public static final String ROOM_TOPIC_PREFIX = "/topic/chat-room.";
+
+    // sessionId → 세션 상태
+    private final ConcurrentHashMap<String, SessionPresence> sessions = new ConcurrentHashMap<>();
+
+    // 참여자 id(사용자 id 또는 미용실 id) → 접속 중인 세션들
+    private final ConcurrentHashMap<String, Set<SessionPresence>> sessionsByParticipant = new ConcurrentHashMap<>();
+
+    public ChatPresenceRegistry(MeterRegistry meterRegistry) {
+        meterRegistry.gaugeMapSize("chat.presence.sessions", Tags.empty(), sessions);
+        meterRegistry.gaugeMapSize("chat.presence.participants", Tags.empty(), sessionsByParticipant);
+    }
+
+    @EventListener
+    public void onConnect(SessionConnectEvent event) {
+        String sessionId = StompHeaderAccessor.wrap(event.getMessage()).getSessionId();
+        if (sessionId != null) {
+            sessions.putIfAbsent(sessionId, new SessionPresence());
+        }
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        String destination = accessor.getDestination();
+        if (sessionId == null || subscriptionId == null || destination == null) {
+            return;
+        }
+
+        SessionPresence presence = sessions.computeIfAbsent(sessionId, id -> new SessionPresence());
+
+        if (destination.startsWith(ROOM_TOPIC_PREFIX)) {
+            Long roomId = parseRoomId(destination.substring(ROOM_TOPIC_PREFIX.length()));
+            if (roomId != null) {
+                presence.rooms.put(subscriptionId, roomId);
+            }
+            return;
+        }
+
+        String participantId = participantOf(destination);
+        if (participantId != null && presence.participantId == null) {
+            presence.participantId = participantId;
+            sessionsByParticipant.compute(participantId, (id, set) -> {
+                Set<SessionPresence> result = set != null ? set : ConcurrentHashMap.newKeySet();
+                result.add(presence);
+                return result;
+            });
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        if (sessionId == null || subscriptionId == null) {
+            return;
+        }
+
+        SessionPresence presence = sessions.get(sessionId);
+        if (presence != null) {
+            presence.rooms.remove(subscriptionId);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        SessionPresence presence = sessions.remove(event.getSessionId());
+        if (presence == null || presence.participantId == null) {
+            return;
+        }
+
+        // 마지막 세션이 끊기면 참여자 항목도 함께 제거
+        sessionsByParticipant.computeIfPresent(presence.participantId, (id, set) -> {
+            set.remove(presence);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    public boolean isOnline(String participantId) {
+        Set<SessionPresence> participantSessions = sessionsByParticipant.get(participantId);
+        return participantSessions != null && !participantSessions.isEmpty();
+    }
+
+    // 참여자의 세션 중 하나라도 해당 채팅방 화면을 열어 두었는지
+    public boolean isWatchingRoom(String participantId, Long chatRoomId) {
+        Set<SessionPresence> participantSessions = sessionsByParticipant.get(participantId);
+        if (participantSessions == null || chatRoomId == null) {
+            return false;
+        }
+        for (SessionPresence presence : participantSessions) {
+            if (presence.rooms.containsValue(chatRoomId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // "/user/{id}/queue/..." → id
+    private static String participantOf(String destination) {
+        if (!destination.startsWith(USER_DESTINATION_PREFIX)) {
+            return null;
+        }
+        int end = destination.indexOf('/', USER_DESTINATION_PREFIX.length());
+        if (end <= USER_DESTINATION_PREFIX.length()) {
+            return null;
+        }
+        String participantId = destination.substring(USER_DESTINATION_PREFIX.length(), end);
+        // principal 기반 "/user/queue/..." 구독은 id가 없다
+        return "queue".equals(participantId) || "topic".equals(participantId) ? null : participantId;
+    }
+
+    private static Long parseRoomId(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            log.debug("채팅방 구독 경로 해석 실패: {}", value);
+            return null;
+        }
+    }
+
+    private static class SessionPresence {
+        // 첫 "/user/{id}/..." 구독에서 결정된다
+        volatile String participantId;
+        // subscriptionId → chatRoomId
+        final ConcurrentHashMap<String, Long> rooms = new ConcurrentHashMap<>();
+    }
+}
@@ -0,0 +1,63 @@
+package com.IMJM.chat.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * V13 이전에 저장된 메시지의 검색 색인(search_tokens) 채우기.
+ * <p>
+ * 한 주기에 BATCH_SIZE 건씩 나눠 처리해 운영 중 부하를 작게 유지하고, 남은 메시지가 없으면 멈춘다.
+ * 같은 값을 다시 쓰는 작업이라 여러 노드가 동시에 돌아도 문제없다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatSearchIndexBackfill {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean completed = false;
+
+    @Scheduled(initialDelayString = "${chat.search.backfill-interval-ms}",
+            fixedDelayString = "${chat.search.backfill-interval-ms}")
+    public void backfill() {
+        if (completed) {
+            return;
+        }
+
+        try {
+            List<Object[]> updates = jdbcTemplate.query(
+                    "SELECT id, sent_at, message, translated_message FROM chat_message " +
+                            "WHERE search_tokens IS NULL LIMIT ?",
+                    (rs, rowNum) -> new Object[]{
+                            ChatSearchTokenizer.indexTokens(rs.getString("message"), rs.getString("translated_message")),
+                            rs.getLong("id"),
+                            rs.getObject("sent_at", OffsetDateTime.class)
+                    },
+                    BATCH_SIZE);
+
+            if (updates.isEmpty()) {
+                completed = true;
+                log.info("채팅 검색 색인 채우기 완료");
+                return;
+            }
+
+            // sent_at 을 함께 걸어 해당 월 파티션만 본다
+            jdbcTemplate.batchUpdate(
+                    "UPDATE chat_message SET search_tokens = ? WHERE id = ? AND sent_at = ?",
+                    updates);
+            log.debug("채팅 검색 색인 채우기: {}건", updates.size());
+        } catch (DataAccessException e) {
+            log.warn("채팅 검색 색인 채우기 실패, 다음 주기에 다시 시도", e);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.IMJM.chat.service;
+
+import java.text.BreakIterator;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 채팅 메시지 검색용 bigram 토크나이저.
+ * <p>
+ * 한국어는 공백 단위 형태소 분리가 안 되므로("예약했어요" 에서 "예약" 검색), 글자/숫자 연속 구간을 두 글자씩 잘라
+ * chat_message.search_tokens 에 공백으로 이어 저장한다. 인덱스는 to_tsvector('simple', search_tokens) GIN (V13).
+ * 검색어도 같은 방식으로 잘라 모든 bigram 이 포함된 메시지를 찾고, 원문 포함 여부는 쿼리에서 다시 확인한다.
+ */
+public final class ChatSearchTokenizer {
+
+    public static final int MIN_QUERY_LENGTH = 2;
+
+    private ChatSearchTokenizer() {
+    }
+
+    // 저장용: 원문과 번역문의 bigram (중복 제거)
+    public static String indexTokens(String message, String translatedMessage) {
+        Set<String> tokens = new LinkedHashSet<>();
+        addTokens(message, true, tokens);
+        addTokens(translatedMessage, true, tokens);
+        return String.join(" ", tokens);
+    }
+
+    // 검색용: plainto_tsquery 에 넘기면 모든 bigram 의 AND 가 된다
+    // 한 글자 구간("펌 예약" 의 "펌")은 넣지 않는다: 색인에는 한 글자 단어만 unigram 으로 있어 "디지털펌" 을 못 찾는다.
+    // 그 글자는 쿼리의 원문 포함 확인(strpos)이 거른다 (isSearchable 이라 bigram 이 하나는 있다)
+    public static String queryTokens(String keyword) {
+        Set<String> tokens = new LinkedHashSet<>();
+        addTokens(keyword, false, tokens);
+        return String.join(" ", tokens);
+    }
+
+    // 원문 포함 여부 확인용 검색어: 색인과 같이 NFKC + 소문자 (쿼리에서는 lower(normalize(message, NFKC)) 와 비교)
+    public static String normalizeKeyword(String keyword) {
+        return normalize(keyword.trim());
+    }
+
+    /**
+     * 원문에서 정규화된 검색어({@link #normalizeKeyword})가 나오는 범위 [시작, 끝) 목록 (겹치지 않게 앞에서부터).
+     * 원문을 글자(grapheme) 단위로 정규화해 비교하고 위치는 원문 기준으로 돌려준다.
+     */
+    public static List<int[]> findMatches(String text, String normalizedKeyword) {
+        if (text == null || normalizedKeyword.isEmpty()) {
+            return List.of();
+        }
+
+        // 정규화된 문자마다 그 문자가 나온 원문 글자의 범위
+        StringBuilder normalized = new StringBuilder(text.length());
+        List<int[]> sourceRanges = new ArrayList<>(text.length());
+        BreakIterator graphemes = BreakIterator.getCharacterInstance(Locale.ROOT);
+        graphemes.setText(text);
+        for (int start = graphemes.first(), end = graphemes.next(); end != BreakIterator.DONE;
+             start = end, end = graphemes.next()) {
+            String part = normalize(text.substring(start, end));
+            for (int i = 0; i < part.length(); i++) {
+                sourceRanges.add(new int[]{start, end});
+            }
+            normalized.append(part);
+        }
+
+        List<int[]> matches = new ArrayList<>();
+        int from = 0;
+        int found;
+        while ((found = normalized.indexOf(normalizedKeyword, from)) >= 0) {
+            int last = found + normalizedKeyword.length() - 1;
+            matches.add(new int[]{sourceRanges.get(found)[0], sourceRanges.get(last)[1]});
+            from = found + normalizedKeyword.length();
+        }
+        return matches;
+    }
+
+    // 한 글자 검색어는 bigram 이 없어 인덱스를 탈 수 없으므로 받지 않는다
+    public static boolean isSearchable(String keyword) {
+        if (keyword == null) {
+            return false;
+        }
+        String normalized = normalize(keyword);
+        int run = 0;
+        for (int i = 0; i < normalized.length(); i++) {
+            run = Character.isLetterOrDigit(normalized.charAt(i)) ? run + 1 : 0;
+            if (run >= MIN_QUERY_LENGTH) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void addTokens(String text, boolean singleCharRuns, Set<String> tokens) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+
+        String normalized = normalize(text);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                addRun(normalized, start, i, singleCharRuns, tokens);
+                start = -1;
+            }
+        }
+    }
+
+    private static void addRun(String text, int start, int end, boolean singleCharRuns, Set<String> tokens) {
+        if (end - start == 1) {
+            if (singleCharRuns) {
+                tokens.add(text.substring(start, end));
+            }
+            return;
+        }
+        for (int i = start; i < end - 1; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+    }
+
+    private static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+}
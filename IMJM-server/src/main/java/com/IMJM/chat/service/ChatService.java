@@ -3,22 +3,30 @@ package com.IMJM.chat.service;
 import com.IMJM.admin.repository.SalonPhotosRepository;
 import com.IMJM.chat.dto.ChatMessageDto;
 import com.IMJM.chat.dto.ChatPhotoDto;
+import com.IMJM.chat.dto.ChatReadStateDto;
 import com.IMJM.chat.dto.ChatRoomDto;
+import com.IMJM.chat.dto.ChatSyncResponseDto;
+import com.IMJM.chat.event.ChatMessageSentEvent;
+import com.IMJM.chat.event.ChatTranslationRequestedEvent;
 import com.IMJM.chat.exception.TranslationException;
 import com.IMJM.chat.repository.*;
+import com.IMJM.common.cloud.ParallelUploadService;
 import com.IMJM.common.cloud.StorageService;
 import com.IMJM.common.entity.*;
-import com.IMJM.notification.service.AlarmService;
+import com.IMJM.common.page.CursorPageResponseDto;
+import com.IMJM.notification.event.AlarmRequestedEvent;
 import com.IMJM.reservation.repository.ReservationRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -30,24 +38,45 @@ public class ChatService {
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final ChatPhotosRepository chatPhotosRepository;
-    private final SimpMessagingTemplate messagingTemplate;
 
     private final ChatUserRepository chatUserRepository;
     private final ChatSalonRepository chatSalonRepository;
 
     private final TranslationService translationService;
 
+    private final LanguageDetector languageDetector;
+
+    private final ChatPresenceRegistry chatPresenceRegistry;
+
+    private final ChatMessageArchiveService chatMessageArchiveService;
+
+    private final ChatMessageBroadcaster chatMessageBroadcaster;
+
     private final ReservationRepository reservationRepository;
 
     private final StorageService storageService;
 
+    private final ParallelUploadService parallelUploadService;
+
     private final SalonPhotosRepository salonPhotosRepository;
 
+    private final ApplicationEventPublisher eventPublisher;
+
     @Value("${ncp.bucket-name}")
     private String bucketName;
 
-    @Autowired
-    private AlarmService alarmService;
+    // 메시지 목록 한 페이지 최대 건수
+    private static final int MAX_MESSAGE_PAGE_SIZE = 100;
+
+    // 재연결 동기화 한 번에 내려주는 최대 메시지 수 (hasMore 면 nextSinceId 로 이어서 요청)
+    private static final int MAX_SYNC_MESSAGES = 500;
+
+    // 변경분 조회 시 since 를 이만큼 앞당긴다: 노드 간 시계 차이와 since 직전에 시작해 늦게 커밋된 갱신을 놓치지 않도록
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(5);
+
+    // true면 메시지를 pending 상태로 먼저 저장/전송하고 번역은 커밋 후 비동기로 처리
+    @Value("${chat.translation.async}")
+    private boolean asyncTranslation;
 
     // 채팅방 생성 또는 조회
     @Transactional
@@ -80,16 +109,33 @@ public class ChatService {
     // 채팅방 목록 조회 (사용자용)
     @Transactional(readOnly = true)
     public List<ChatRoomDto> getUserChatRooms(String userId) {
-        return chatRoomRepository.findByUserIdOrderByLastMessageTimeDesc(userId).stream()
-                .map(chatRoom -> convertToChatRoomDto(chatRoom, "USER"))
-                .collect(Collectors.toList());
+        return toChatRoomDtos(chatRoomRepository.findWithUserAndSalonByUserIdOrderByLastMessageTimeDesc(userId), "USER");
     }
 
     // 채팅방 목록 조회 (미용실용)
     @Transactional(readOnly = true)
     public List<ChatRoomDto> getSalonChatRooms(String salonId) {
-        return chatRoomRepository.findBySalonIdOrderByLastMessageTimeDesc(salonId).stream()
-                .map(chatRoom -> convertToChatRoomDto(chatRoom, "SALON"))
+        return toChatRoomDtos(chatRoomRepository.findWithUserAndSalonBySalonIdOrderByLastMessageTimeDesc(salonId), "SALON");
+    }
+
+    // 채팅방 요약 컬럼 + 미용실 대표 사진(한 번에 조회)으로 목록 DTO 생성
+    private List<ChatRoomDto> toChatRoomDtos(List<ChatRoom> chatRooms, String userType) {
+        if (chatRooms.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Set<String> salonIds = chatRooms.stream()
+                .map(chatRoom -> chatRoom.getSalon().getId())
+                .collect(Collectors.toSet());
+
+        // 사진 순서대로 정렬되어 있으므로 미용실별 첫 사진이 대표 사진
+        Map<String, String> salonProfileUrls = new HashMap<>();
+        for (SalonPhotos photo : salonPhotosRepository.findBySalon_IdInOrderByPhotoOrderAsc(salonIds)) {
+            salonProfileUrls.putIfAbsent(photo.getSalon().getId(), photo.getPhotoUrl());
+        }
+
+        return chatRooms.stream()
+                .map(chatRoom -> convertToChatRoomDto(chatRoom, userType, salonProfileUrls.get(chatRoom.getSalon().getId())))
                 .collect(Collectors.toList());
     }
 
@@ -106,16 +152,37 @@ public class ChatService {
         // 메시지 저장
         ChatMessage savedMessage = saveNewMessage(chatRoom, messageDto, translationResult);
 
-        // 채팅방 마지막 메시지 시간 업데이트
-        chatRoom.updateLastMessageTime(OffsetDateTime.now());
-        chatRoomRepository.save(chatRoom);
+        // 비동기 번역 요청 (트랜잭션 커밋 후 번역 스레드 풀에서 실행)
+        if ("pending".equals(translationResult.translationStatus)) {
+            eventPublisher.publishEvent(new ChatTranslationRequestedEvent(
+                    savedMessage.getId(),
+                    chatRoom.getId(),
+                    chatRoom.getUser().getId(),
+                    chatRoom.getSalon().getId(),
+                    savedMessage.getMessage(),
+                    translationResult.sourceLanguage,
+                    translationResult.targetLanguage
+            ));
+        }
+
+        // 채팅방 요약(마지막 메시지, 상대방 안 읽은 수) 갱신
+        boolean fromUser = "USER".equals(messageDto.getSenderType());
+        chatRoomRepository.recordNewMessage(
+                chatRoom.getId(),
+                savedMessage.getSentAt(),
+                ChatRoom.toPreview(savedMessage.getMessage()),
+                savedMessage.getSenderType(),
+                fromUser ? 0 : 1,
+                fromUser ? 1 : 0
+        );
 
         // 사진 처리 및 응답 DTO 생성
         ChatMessageDto responseDto = createResponseDto(savedMessage, messageDto.getSenderId(),
                 processChatPhotos(savedMessage, messageDto.getPhotos()));
 
-        // 웹소켓으로 메시지 전송
-        sendWebSocketMessage(chatRoom, responseDto);
+        // 웹소켓으로 메시지 전송 (커밋 후: 롤백된 메시지 id 가 나가지 않는다)
+        eventPublisher.publishEvent(new ChatMessageSentEvent(
+                chatRoom.getUser().getId(), chatRoom.getSalon().getId(), responseDto));
 
         // 메시지 저장 및 처리 후, 수신자에게 알림 생성
         String recipientId;
@@ -134,27 +201,26 @@ public class ChatService {
         }
 
         // 알림 생성 (수신자가 발신자가 아닌 경우만)
-        if ("SALON".equals(messageDto.getSenderType())) {
-            try {
-                // 메시지 요약 생성
-                String messagePreview = messageDto.getMessage().length() > 30
-                        ? messageDto.getMessage().substring(0, 30) + "..."
-                        : messageDto.getMessage();
-
-                if (messageDto.getPhotos() != null && !messageDto.getPhotos().isEmpty()) {
-                    messagePreview = "📷 사진을 보냈습니다.";
-                }
-
-                alarmService.createAlarm(
-                        chatRoom.getUser().getId(), // 반드시 User ID
-                        "새 메시지 알림",
-                        senderName + "님이 메시지를 보냈습니다: " + messagePreview,
-                        "CHAT",
-                        chatRoom.getId().intValue()
-                );
-            } catch (Exception e) {
-                System.out.println("⚠️ 알림 생성 중 오류 발생 (무시됨): " + e.getMessage());
+        // 수신자가 이 채팅방을 열어 두었다면 메시지가 이미 실시간으로 보이므로 알림 저장/푸시를 생략한다
+        // 알림은 커밋 후 별도 트랜잭션에서 저장한다 (실패해도 메시지 트랜잭션은 그대로)
+        if ("SALON".equals(messageDto.getSenderType())
+                && !chatPresenceRegistry.isWatchingRoom(chatRoom.getUser().getId(), chatRoom.getId())) {
+            // 메시지 요약 생성
+            String messagePreview = messageDto.getMessage().length() > 30
+                    ? messageDto.getMessage().substring(0, 30) + "..."
+                    : messageDto.getMessage();
+
+            if (messageDto.getPhotos() != null && !messageDto.getPhotos().isEmpty()) {
+                messagePreview = "📷 사진을 보냈습니다.";
             }
+
+            eventPublisher.publishEvent(new AlarmRequestedEvent(
+                    chatRoom.getUser().getId(), // 반드시 User ID
+                    "새 메시지 알림",
+                    senderName + "님이 메시지를 보냈습니다: " + messagePreview,
+                    "CHAT",
+                    chatRoom.getId().intValue()
+            ));
         }
 
 
@@ -169,10 +235,19 @@ public class ChatService {
     private static class TranslationResult {
         final String translatedMessage;
         final String translationStatus;
+        final String sourceLanguage;
+        final String targetLanguage;
 
         TranslationResult(String translatedMessage, String translationStatus) {
+            this(translatedMessage, translationStatus, null, null);
+        }
+
+        TranslationResult(String translatedMessage, String translationStatus,
+                          String sourceLanguage, String targetLanguage) {
             this.translatedMessage = translatedMessage;
             this.translationStatus = translationStatus;
+            this.sourceLanguage = sourceLanguage;
+            this.targetLanguage = targetLanguage;
         }
     }
 
@@ -197,6 +272,16 @@ public class ChatService {
             return new TranslationResult(null, "none");
         }
 
+        // 이미 수신자 언어로 작성된 메시지면 번역하지 않음 (예: 일본어 사용자가 한국어로 입력)
+        if (LanguageDetector.isSameLanguage(languageDetector.detect(message), recipientLanguage)) {
+            return new TranslationResult(null, "none");
+        }
+
+        // 비동기 모드: 번역은 커밋 이후에 수행
+        if (asyncTranslation) {
+            return new TranslationResult(null, "pending", senderLanguage, recipientLanguage);
+        }
+
         try {
             String translatedMessage = translationService.translate(
                     message,
@@ -218,6 +303,8 @@ public class ChatService {
                 .sentAt(OffsetDateTime.now())
                 .translatedMessage(translationResult.translatedMessage)
                 .translationStatus(translationResult.translationStatus)
+                .searchTokens(ChatSearchTokenizer.indexTokens(
+                        messageDto.getMessage(), translationResult.translatedMessage))
                 .build();
 
         return chatMessageRepository.save(chatMessage);
@@ -228,20 +315,21 @@ public class ChatService {
             return new ArrayList<>();
         }
 
-        return photoDtos.stream()
-                .map(photoDto -> {
-                    ChatPhotos photo = ChatPhotos.builder()
-                            .chatMessage(savedMessage)
-                            .photoUrl(photoDto.getPhotoUrl())
-                            .uploadDate(OffsetDateTime.now())
-                            .build();
+        OffsetDateTime uploadDate = OffsetDateTime.now();
+        List<ChatPhotos> photos = photoDtos.stream()
+                .map(photoDto -> ChatPhotos.builder()
+                        .chatMessage(savedMessage)
+                        .photoUrl(photoDto.getPhotoUrl())
+                        .uploadDate(uploadDate)
+                        .build())
+                .collect(Collectors.toList());
 
-                    ChatPhotos savedPhoto = chatPhotosRepository.save(photo);
-                    return ChatPhotoDto.builder()
-                            .photoId(savedPhoto.getPhotoId())
-                            .photoUrl(savedPhoto.getPhotoUrl())
-                            .build();
-                })
+        // 시퀀스 id 라 커밋 시 한 번의 배치 INSERT 로 나간다
+        return chatPhotosRepository.saveAll(photos).stream()
+                .map(savedPhoto -> ChatPhotoDto.builder()
+                        .photoId(savedPhoto.getPhotoId())
+                        .photoUrl(savedPhoto.getPhotoUrl())
+                        .build())
                 .collect(Collectors.toList());
     }
 
@@ -260,28 +348,164 @@ public class ChatService {
                 .build();
     }
 
-    private void sendWebSocketMessage(ChatRoom chatRoom, ChatMessageDto messageDto) {
-        // 사용자에게 전송
-        messagingTemplate.convertAndSendToUser(
-                chatRoom.getUser().getId(),
-                "/queue/messages",
-                messageDto
-        );
+    // 메시지 목록 조회 (키셋 페이징: beforeId 메시지보다 이전 메시지를 최신순으로 size 건)
+    // 운영 DB 의 메시지가 모자라면 보관(아카이브)된 월 파티션에서 이어서 채운다
+    // 보관 파일은 오브젝트 스토리지에서 내려받으므로 트랜잭션으로 감싸지 않는다 (DB 조회는 각 리포지토리 트랜잭션으로 실행)
+    public CursorPageResponseDto<ChatMessageDto> getChatMessages(Long chatRoomId, Long beforeId, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_MESSAGE_PAGE_SIZE);
+        // 다음 페이지 존재 여부를 알기 위해 1건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<ChatMessage> messages;
+        OffsetDateTime cursorSentAt = null;
+        Long cursorId = null;
+        if (beforeId == null) {
+            messages = chatMessageRepository.findLatestByChatRoomId(chatRoomId, limit);
+        } else {
+            Optional<ChatMessage> cursor = chatMessageRepository.findById(beforeId)
+                    .filter(message -> message.getChatRoom().getId().equals(chatRoomId));
+            if (cursor.isPresent()) {
+                cursorSentAt = cursor.get().getSentAt();
+                cursorId = cursor.get().getId();
+                messages = chatMessageRepository.findByChatRoomIdBefore(chatRoomId, cursorSentAt, cursorId, limit);
+            } else {
+                // 커서가 이미 보관된 메시지라면 그 이전 메시지도 모두 보관되어 있다
+                ChatMessageDto archivedCursor = chatMessageArchiveService.findMessage(chatRoomId, beforeId);
+                if (archivedCursor == null) {
+                    return CursorPageResponseDto.<ChatMessageDto>builder()
+                            .pageSize(pageSize)
+                            .hasNext(false)
+                            .contents(Collections.emptyList())
+                            .build();
+                }
+                cursorSentAt = archivedCursor.getSentAt();
+                cursorId = archivedCursor.getId();
+                messages = Collections.emptyList();
+            }
+        }
 
-        // 미용실에게 전송
-        messagingTemplate.convertAndSendToUser(
-                chatRoom.getSalon().getId(),
-                "/queue/messages",
-                messageDto
-        );
+        // 최신순
+        List<ChatMessageDto> contents = new ArrayList<>(toMessageDtos(messages));
+        if (contents.size() <= pageSize) {
+            if (!messages.isEmpty()) {
+                ChatMessage oldest = messages.get(messages.size() - 1);
+                cursorSentAt = oldest.getSentAt();
+                cursorId = oldest.getId();
+            }
+            contents.addAll(chatMessageArchiveService.findBefore(
+                    chatRoomId, cursorSentAt, cursorId, pageSize + 1 - contents.size()));
+        }
+
+        boolean hasNext = contents.size() > pageSize;
+        // 화면에는 오래된 메시지부터 표시
+        List<ChatMessageDto> page = new ArrayList<>(hasNext ? contents.subList(0, pageSize) : contents);
+        Collections.reverse(page);
+
+        return CursorPageResponseDto.<ChatMessageDto>builder()
+                .pageSize(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? page.get(0).getId() : null)
+                .contents(page)
+                .build();
     }
 
-    // 메시지 목록 조회
+    // 재연결 동기화: 참여자의 모든 채팅방에서 sinceId(또는 since 시각) 이후 변경분만 조회
+    // 클라이언트는 구독을 먼저 복구한 뒤 호출하므로, 늦게 커밋되어 id 순서가 어긋난 메시지는 실시간 푸시로 받는다
+    // since 에 직전 응답의 serverTime 을 함께 넘기면 번역이 바뀐 메시지와 안 읽은 수가 바뀐 방만 내려준다
+    // (since 없이 sinceId 만 오면 안 읽은 수는 전체, 번역 변경은 생략)
     @Transactional(readOnly = true)
-    public List<ChatMessageDto> getChatMessages(Long chatRoomId) {
-        // 채팅방의 모든 메시지를 한 번에 조회 (채팅방 정보 포함)
-        List<ChatMessage> messages = chatMessageRepository.findByChatRoomIdWithChatRoomOrderBySentAtAsc(chatRoomId);
+    public ChatSyncResponseDto syncChats(String participantId, String participantType, Long sinceId, OffsetDateTime since) {
+        OffsetDateTime serverTime = OffsetDateTime.now();
+        List<ChatRoom> chatRooms = "USER".equals(participantType)
+                ? chatRoomRepository.findWithUserAndSalonByUserIdOrderByLastMessageTimeDesc(participantId)
+                : chatRoomRepository.findWithUserAndSalonBySalonIdOrderByLastMessageTimeDesc(participantId);
+
+        if (chatRooms.isEmpty()) {
+            return ChatSyncResponseDto.builder()
+                    .nextSinceId(sinceId)
+                    .hasMore(false)
+                    .serverTime(serverTime)
+                    .messages(Collections.emptyList())
+                    .updatedMessages(Collections.emptyList())
+                    .rooms(Collections.emptyList())
+                    .readStates(Collections.emptyList())
+                    .build();
+        }
+
+        List<Long> chatRoomIds = chatRooms.stream()
+                .map(ChatRoom::getId)
+                .collect(Collectors.toList());
+
+        List<ChatMessage> page = Collections.emptyList();
+        List<ChatMessage> translationUpdated = Collections.emptyList();
+        boolean hasMore = false;
+        Long nextSinceId;
+        OffsetDateTime changedSince = since != null ? since.minus(SYNC_OVERLAP) : null;
 
+        if (sinceId == null && since == null) {
+            // 기준점이 없으면 첫 동기화: 메시지 없이 현재 커서와 전체 요약만 내려준다
+            Long maxId = chatMessageRepository.findMaxIdByChatRoomIdIn(chatRoomIds);
+            nextSinceId = maxId != null ? maxId : 0L;
+        } else {
+            Long cursor = sinceId;
+            if (cursor == null) {
+                cursor = chatMessageRepository.findMaxIdSentAtOrBefore(chatRoomIds, since);
+                if (cursor == null) {
+                    cursor = 0L;
+                }
+            }
+
+            List<ChatMessage> messages = chatMessageRepository.findByChatRoomIdInAfterId(
+                    chatRoomIds, cursor, PageRequest.of(0, MAX_SYNC_MESSAGES + 1));
+            hasMore = messages.size() > MAX_SYNC_MESSAGES;
+            page = hasMore ? messages.subList(0, MAX_SYNC_MESSAGES) : messages;
+            nextSinceId = page.isEmpty() ? cursor : page.get(page.size() - 1).getId();
+
+            // 이미 받은 메시지의 번역 변경 (새 메시지는 위 목록에 현재 번역으로 들어 있다)
+            // 최근 변경부터 최대 MAX_SYNC_MESSAGES 건, 넘치는 오래된 변경은 채팅방을 열 때 메시지 목록으로 받는다
+            if (changedSince != null && cursor > 0) {
+                translationUpdated = chatMessageRepository.findTranslationUpdatedSince(
+                        chatRoomIds, changedSince, cursor, PageRequest.of(0, MAX_SYNC_MESSAGES));
+            }
+        }
+
+        // 요약이 바뀐 방: 새 메시지가 있는 방 + (시각 기준이면) 그 이후 마지막 메시지가 갱신된 방
+        // 기준점이 없으면 전체 목록
+        boolean fullSnapshot = sinceId == null && since == null;
+        Set<Long> changedRoomIds = page.stream()
+                .map(message -> message.getChatRoom().getId())
+                .collect(Collectors.toSet());
+        List<ChatRoom> changedRooms = chatRooms.stream()
+                .filter(chatRoom -> fullSnapshot
+                        || changedRoomIds.contains(chatRoom.getId())
+                        || (changedSince != null && chatRoom.getLastMessageTime() != null
+                        && chatRoom.getLastMessageTime().isAfter(changedSince)))
+                .collect(Collectors.toList());
+
+        // 안 읽은 수: 기준 시각이 있으면 그 이후 바뀐 방만
+        List<ChatReadStateDto> readStates = chatRooms.stream()
+                .filter(chatRoom -> changedSince == null
+                        || changedRoomIds.contains(chatRoom.getId())
+                        || (chatRoom.getUnreadUpdatedAt() != null && chatRoom.getUnreadUpdatedAt().isAfter(changedSince)))
+                .map(chatRoom -> ChatReadStateDto.builder()
+                        .chatRoomId(chatRoom.getId())
+                        .unreadForUser(chatRoom.getUnreadForUser())
+                        .unreadForSalon(chatRoom.getUnreadForSalon())
+                        .build())
+                .collect(Collectors.toList());
+
+        return ChatSyncResponseDto.builder()
+                .nextSinceId(nextSinceId)
+                .hasMore(hasMore)
+                .serverTime(serverTime)
+                .messages(toMessageDtos(page))
+                .updatedMessages(toMessageDtos(translationUpdated))
+                .rooms(toChatRoomDtos(changedRooms, participantType))
+                .readStates(readStates)
+                .build();
+    }
+
+    private List<ChatMessageDto> toMessageDtos(List<ChatMessage> messages) {
         if (messages.isEmpty()) {
             return Collections.emptyList();
         }
@@ -291,7 +515,7 @@ public class ChatService {
                 .map(ChatMessage::getId)
                 .collect(Collectors.toList());
 
-        // 모든 사진 정보를 한 번에 조회
+        // 페이지 내 사진 정보를 한 번에 조회
         List<ChatPhotos> allPhotos = chatPhotosRepository.findByChatMessageIdIn(messageIds);
 
         // 메시지 ID를 키로 하는 사진 맵 생성
@@ -337,12 +561,23 @@ public class ChatService {
                 .collect(Collectors.toList());
     }
 
-    // 메시지를 읽음으로 표시
+    // 메시지를 읽음으로 표시 (ReadReceiptAggregator 가 짧은 구간 동안 모은 요청을 한 번에 반영)
     @Transactional
-    public void markMessagesAsRead(Long chatRoomId, String senderType) {
+    public ChatRoom markMessagesAsRead(Long chatRoomId, String readerType, Long upToMessageId) {
+        // 채팅방 행을 먼저 잠가 두어야, 동시에 도착한 메시지의 안 읽은 수 증가가 이 갱신에 덮이지 않는다
+        ChatRoom chatRoom = chatRoomRepository.findByIdForUpdate(chatRoomId)
+                .orElseThrow(() -> new RuntimeException("Chat room not found"));
+
         // 상대방이 보낸 메시지만 읽음 처리
-        String oppositeType = "USER".equals(senderType) ? "SALON" : "USER";
-        chatMessageRepository.updateMessagesAsRead(chatRoomId, oppositeType);
+        String oppositeType = "USER".equals(readerType) ? "SALON" : "USER";
+        chatMessageRepository.updateMessagesAsReadUpTo(chatRoomId, oppositeType, upToMessageId);
+
+        if ("USER".equals(readerType)) {
+            chatRoomRepository.refreshUnreadForUser(chatRoomId, OffsetDateTime.now());
+        } else {
+            chatRoomRepository.refreshUnreadForSalon(chatRoomId, OffsetDateTime.now());
+        }
+        return chatRoom;
     }
 
     // 읽지 않은 메시지 수 카운트
@@ -354,32 +589,16 @@ public class ChatService {
     }
 
     private ChatRoomDto convertToChatRoomDto(ChatRoom chatRoom, String userType) {
-        String salonProfileUrl = null;
         List<SalonPhotos> salonPhotos = salonPhotosRepository.findBySalon_IdOrderByPhotoOrderAsc(chatRoom.getSalon().getId());
-        if (!salonPhotos.isEmpty()) {
-            salonProfileUrl = salonPhotos.get(0).getPhotoUrl();
-        }
-
-        // 마지막 메시지 찾기
-        ChatMessage lastMessage = chatMessageRepository
-                .findTopByChatRoomIdOrderBySentAtDesc(chatRoom.getId())
-                .orElse(null);
-
-        String lastMessageContent = "";
-        boolean hasUnreadMessages = false;
-        int unreadCount = 0;
-
-        if (lastMessage != null) {
-            lastMessageContent = lastMessage.getMessage();
-
-            // 현재 사용자가 받은 메시지 중 읽지 않은 것만 카운트
-            String oppositeType = "USER".equals(userType) ? "SALON" : "USER";
+        String salonProfileUrl = !salonPhotos.isEmpty() ? salonPhotos.get(0).getPhotoUrl() : null;
+        return convertToChatRoomDto(chatRoom, userType, salonProfileUrl);
+    }
 
-            unreadCount = chatMessageRepository.countByReadFalseAndSenderType(
-                    chatRoom.getId(), oppositeType);
-
-            hasUnreadMessages = unreadCount > 0;
-        }
+    private ChatRoomDto convertToChatRoomDto(ChatRoom chatRoom, String userType, String salonProfileUrl) {
+        // 마지막 메시지/안 읽은 수는 chat_room 요약 컬럼 사용 (현재 사용자가 받은 메시지 기준)
+        String lastMessageContent = chatRoom.getLastMessagePreview() != null ? chatRoom.getLastMessagePreview() : "";
+        int unreadCount = "USER".equals(userType) ? chatRoom.getUnreadForUser() : chatRoom.getUnreadForSalon();
+        boolean hasUnreadMessages = unreadCount > 0;
 
         return ChatRoomDto.builder()
                 .id(chatRoom.getId())
@@ -397,37 +616,6 @@ public class ChatService {
                 .build();
     }
 
-    private ChatMessageDto convertToChatMessageDto(ChatMessage message) {
-        // 사진 정보 로드
-        List<ChatPhotoDto> photos = chatPhotosRepository.findByChatMessageId(message.getId()).stream()
-                .map(photo -> ChatPhotoDto.builder()
-                        .photoId(photo.getPhotoId())
-                        .photoUrl(photo.getPhotoUrl())
-                        .build())
-                .collect(Collectors.toList());
-
-        // sender ID 추가 (USER인 경우 user ID, SALON인 경우 salon ID)
-        String senderId;
-        if ("USER".equals(message.getSenderType())) {
-            senderId = message.getChatRoom().getUser().getId();
-        } else {
-            senderId = message.getChatRoom().getSalon().getId();
-        }
-
-        return ChatMessageDto.builder()
-                .id(message.getId())
-                .chatRoomId(message.getChatRoom().getId())
-                .senderType(message.getSenderType())
-                .senderId(senderId)
-                .message(message.getMessage())
-                .isRead(message.getIsRead())
-                .sentAt(message.getSentAt())
-                .translatedMessage(message.getTranslatedMessage())
-                .translationStatus(message.getTranslationStatus())
-                .photos(photos)
-                .build();
-    }
-
     private String getSenderLanguage(String senderType, ChatRoom chatRoom) {
         if ("USER".equals(senderType)) {
             // 사용자가 발신자인 경우 사용자의 언어 반환
@@ -455,13 +643,7 @@ public class ChatService {
         }
 
         try {
-            String originalFilename = file.getOriginalFilename();
-            String ext = Objects.requireNonNull(originalFilename).substring(originalFilename.lastIndexOf("."));
-            String uuid = UUID.randomUUID().toString();
-            String fileName = uuid + ext;
-
-            // chat/{chatRoomId}/{timestamp}_{uuid}.ext 형식의 경로
-            String s3Path = "chat/" + chatRoomId + "/" + System.currentTimeMillis() + "_" + fileName;
+            String s3Path = chatImagePath(file, chatRoomId);
 
             storageService.upload(s3Path, file.getInputStream());
 
@@ -471,17 +653,36 @@ public class ChatService {
         }
     }
 
+    // 여러 장을 동시에 업로드, 결과는 요청 순서 그대로이고 실패한 파일은 status=failed 와 error 로 알려준다
     public List<Map<String, String>> uploadMultipleChatImages(List<MultipartFile> files, Long chatRoomId) {
-        return files.stream()
-                .map(file -> {
-                    String fileUrl = uploadChatImage(file, chatRoomId);
-                    return Map.of(
-                            "fileUrl", fileUrl,
-                            "fileName", file.getOriginalFilename(),
-                            "fileSize", String.valueOf(file.getSize())
-                    );
-                })
+        List<MultipartFile> nonEmptyFiles = files.stream()
+                .filter(file -> !file.isEmpty())
                 .collect(Collectors.toList());
+        if (nonEmptyFiles.isEmpty()) {
+            throw new IllegalArgumentException("파일이 비어있습니다.");
+        }
+
+        return parallelUploadService.uploadAll(nonEmptyFiles, file -> chatImagePath(file, chatRoomId)).stream()
+                .map(result -> result.isSuccess()
+                        ? Map.of(
+                                "status", "uploaded",
+                                "fileUrl", result.getUrl(),
+                                "fileName", String.valueOf(result.getOriginalFilename()),
+                                "fileSize", String.valueOf(result.getSize()))
+                        : Map.of(
+                                "status", "failed",
+                                "error", result.getError(),
+                                "fileName", String.valueOf(result.getOriginalFilename()),
+                                "fileSize", String.valueOf(result.getSize())))
+                .collect(Collectors.toList());
+    }
+
+    // chat/{chatRoomId}/{timestamp}_{uuid}.ext 형식의 경로
+    private String chatImagePath(MultipartFile file, Long chatRoomId) {
+        String originalFilename = file.getOriginalFilename();
+        String ext = Objects.requireNonNull(originalFilename).substring(originalFilename.lastIndexOf("."));
+        String uuid = UUID.randomUUID().toString();
+        return "chat/" + chatRoomId + "/" + System.currentTimeMillis() + "_" + uuid + ext;
     }
 
     // 예약 ID를 통해 채팅방 생성 또는 조회하는 메서드 추가
@@ -0,0 +1,87 @@
+package com.IMJM.chat.service;
+
+import com.IMJM.chat.dto.TranslationUpdateDto;
+import com.IMJM.chat.event.ChatTranslationRequestedEvent;
+import com.IMJM.chat.repository.ChatMessageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 메시지 저장 트랜잭션이 커밋된 뒤 번역을 수행하고,
+ * 결과를 DB에 반영한 다음 양쪽 참여자에게 translation-updated 프레임을 전송한다.
+ */
+@Slf4j
+@Component
+public class ChatTranslationWorker {
+
+    private final TranslationService translationService;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageBroadcaster chatMessageBroadcaster;
+    private final ThreadPoolTaskExecutor translationExecutor;
+
+    public ChatTranslationWorker(TranslationService translationService,
+                                 ChatMessageRepository chatMessageRepository,
+                                 ChatMessageBroadcaster chatMessageBroadcaster,
+                                 @Qualifier("translationExecutor") ThreadPoolTaskExecutor translationExecutor) {
+        this.translationService = translationService;
+        this.chatMessageRepository = chatMessageRepository;
+        this.chatMessageBroadcaster = chatMessageBroadcaster;
+        this.translationExecutor = translationExecutor;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTranslationRequested(ChatTranslationRequestedEvent event) {
+        try {
+            translationExecutor.execute(() -> translate(event));
+        } catch (TaskRejectedException e) {
+            // 번역 대기열이 가득 찬 경우 요청 스레드를 붙잡지 않고 실패로 처리
+            log.warn("번역 대기열이 가득 차 번역을 건너뜁니다. 메시지 ID: {}", event.getMessageId());
+            complete(event, null, "failed");
+        }
+    }
+
+    private void translate(ChatTranslationRequestedEvent event) {
+        String translatedMessage = null;
+        String status;
+
+        try {
+            translatedMessage = translationService.translate(
+                    event.getMessage(),
+                    event.getSourceLanguage(),
+                    event.getTargetLanguage()
+            );
+            status = "completed";
+        } catch (Exception e) {
+            log.warn("메시지 번역 실패. 메시지 ID: {}, 원인: {}", event.getMessageId(), e.getMessage());
+            status = "failed";
+        }
+
+        complete(event, translatedMessage, status);
+    }
+
+    private void complete(ChatTranslationRequestedEvent event, String translatedMessage, String status) {
+        try {
+            // 번역문도 검색되도록 색인 갱신
+            chatMessageRepository.updateTranslation(event.getMessageId(), translatedMessage, status,
+                    ChatSearchTokenizer.indexTokens(event.getMessage(), translatedMessage), OffsetDateTime.now());
+
+            TranslationUpdateDto update = TranslationUpdateDto.builder()
+                    .id(event.getMessageId())
+                    .chatRoomId(event.getChatRoomId())
+                    .translatedMessage(translatedMessage)
+                    .translationStatus(status)
+                    .build();
+
+            chatMessageBroadcaster.sendToParticipants(event.getUserId(), event.getSalonId(), "/queue/messages", update);
+        } catch (Exception e) {
+            log.error("번역 결과 반영 중 오류 발생. 메시지 ID: {}", event.getMessageId(), e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.IMJM.chat.service;
+
+import com.IMJM.chat.exception.TranslationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 용어집 데코레이터: 짧은 메시지가 용어집 항목·이모지·문장부호만으로 이루어져 있으면
+ * LLM 호출 없이 로컬에서 번역하고, 그렇지 않으면 다음 번역 계층으로 넘긴다.
+ */
+public class GlossaryTranslationService implements TranslationService {
+
+    private final TranslationService delegate;
+    private final TranslationGlossary glossary;
+    private final int maxLength;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter skipped;
+
+    public GlossaryTranslationService(TranslationService delegate,
+                                      TranslationGlossary glossary,
+                                      int maxLength,
+                                      MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.glossary = glossary;
+        this.maxLength = maxLength;
+        this.hits = meterRegistry.counter("translation.glossary.requests", "result", "hit");
+        this.misses = meterRegistry.counter("translation.glossary.requests", "result", "miss");
+        this.skipped = meterRegistry.counter("translation.glossary.requests", "result", "skipped");
+        meterRegistry.gauge("translation.glossary.entries", glossary, TranslationGlossary::size);
+    }
+
+    @Override
+    public String translate(String text, String sourceLanguage, String targetLanguage) throws TranslationException {
+        // 긴 메시지는 용어집만으로 덮일 가능성이 거의 없으므로 매칭하지 않는다
+        if (text.length() > maxLength) {
+            skipped.increment();
+            return delegate.translate(text, sourceLanguage, targetLanguage);
+        }
+
+        String translatedText = glossary.translate(text, sourceLanguage, targetLanguage);
+        if (translatedText != null) {
+            hits.increment();
+            return translatedText;
+        }
+
+        misses.increment();
+        return delegate.translate(text, sourceLanguage, targetLanguage);
+    }
+}
@@ -1,25 +1,37 @@
 package com.IMJM.chat.service;
 
 import com.IMJM.chat.client.HyperClovaTranslationClient;
+import com.IMJM.chat.exception.BatchTranslationFormatException;
 import com.IMJM.chat.exception.TranslationException;
-import com.IMJM.chat.service.TranslationService;
-import lombok.RequiredArgsConstructor;
-import org.json.JSONArray;
-import org.json.JSONObject;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+
 import java.text.Normalizer;
+import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 public class HyperClovaXTranslationService implements TranslationService {
 
+    private static final String RESILIENCE_INSTANCE = "hyperclova";
+
     private final HyperClovaTranslationClient hyperClovaClient;
 
+    // 업스트림 장애 시 빠르게 실패시키는 서킷브레이커 / 동시 번역 호출 수 제한
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    public HyperClovaXTranslationService(HyperClovaTranslationClient hyperClovaClient,
+                                         CircuitBreakerRegistry circuitBreakerRegistry,
+                                         BulkheadRegistry bulkheadRegistry) {
+        this.hyperClovaClient = hyperClovaClient;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(RESILIENCE_INSTANCE);
+        this.bulkhead = bulkheadRegistry.bulkhead(RESILIENCE_INSTANCE);
+    }
+
     @Override
     public String translate(String text, String sourceLanguage, String targetLanguage) throws TranslationException {
         // 언어 코드 변환 (필요한 경우)
@@ -27,8 +39,11 @@ public class HyperClovaXTranslationService implements TranslationService {
         String targetLang = convertLanguageCode(targetLanguage);
 
         try {
-            // 클라이언트를 사용하여 번역 수행
-            String translatedText = hyperClovaClient.translate(text, sourceLang, targetLang);
+            // 클라이언트를 사용하여 번역 수행 (서킷 OPEN 상태이거나 동시 호출 한도 초과 시 즉시 예외)
+            String translatedText = circuitBreaker.executeSupplier(
+                    Bulkhead.decorateSupplier(bulkhead,
+                            () -> hyperClovaClient.translate(text, sourceLang, targetLang))
+            );
 
             if (translatedText == null || translatedText.isEmpty()) {
                 throw new TranslationException(
@@ -55,6 +70,36 @@ public class HyperClovaXTranslationService implements TranslationService {
         }
     }
 
+    /**
+     * 같은 언어 쌍의 메시지 여러 개를 한 번의 호출로 번역한다. 결과는 입력 순서와 같다.
+     * 응답 형식이 맞지 않으면 BatchTranslationFormatException 을 그대로 던진다 (호출 측에서 개별 번역으로 대체).
+     */
+    public List<String> translateBatch(List<String> texts, String sourceLanguage, String targetLanguage) throws TranslationException {
+        String sourceLang = convertLanguageCode(sourceLanguage);
+        String targetLang = convertLanguageCode(targetLanguage);
+
+        try {
+            List<String> translatedTexts = circuitBreaker.executeSupplier(
+                    Bulkhead.decorateSupplier(bulkhead,
+                            () -> hyperClovaClient.translateBatch(texts, sourceLang, targetLang))
+            );
+
+            return translatedTexts.stream()
+                    .map(translatedText -> Normalizer.normalize(translatedText, Normalizer.Form.NFC))
+                    .collect(Collectors.toList());
+        } catch (BatchTranslationFormatException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new TranslationException(
+                    "Failed to translate batch: " + e.getMessage(),
+                    sourceLanguage,
+                    targetLanguage,
+                    String.join("\n", texts),
+                    e
+            );
+        }
+    }
+
     // 언어 코드 변환 (예: "ko" -> "한국어")
     private String convertLanguageCode(String code) {
         switch (code.toLowerCase()) {
@@ -74,4 +119,4 @@ public class HyperClovaXTranslationService implements TranslationService {
             default: return code;
         }
     }
-}
\ No newline at end of file
+}
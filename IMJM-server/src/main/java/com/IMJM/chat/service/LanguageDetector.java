@@ -0,0 +1,206 @@
+package com.IMJM.chat.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * 번역 전에 메시지 언어를 가볍게 추정한다.
+ * 1) 문자 스크립트(한글/가나/한자/태국/키릴/라틴) 비율로 1차 판별
+ * 2) 라틴 문자는 베트남어 성조 문자 → 언어별 대표 trigram 점수 순으로 판별
+ * 판별이 애매하면 null 을 돌려주고, 호출하는 쪽은 사용자 설정 언어를 그대로 쓴다.
+ *
+ * 메시지당 할당을 피하기 위해 trigram 을 long 으로 묶어 정렬 배열에서 이진 탐색한다.
+ */
+@Component
+public class LanguageDetector {
+
+    private static final String[] LATIN_LANGUAGES = {"en", "fr", "es", "de", "id", "it"};
+
+    // '_' 는 단어 경계
+    private static final String[][] LATIN_TRIGRAMS = {
+            // en
+            {"_th", "the", "he_", "_an", "and", "nd_", "ing", "ng_", "_to", "to_", "_of", "of_", "_in", "in_",
+                    "is_", "_is", "you", "_yo", "ou_", "_it", "it_", "at_", "_a_", "ion", "tio", "for", "_fo",
+                    "or_", "_ha", "hat", "tha", "thi", "_wi", "wit", "ith", "are", "_ca", "can", "_so", "_my",
+                    "my_", "_me", "me_", "_wh", "ank", "_pl", "lea", "ase", "ple", "_hi", "_i_", "ll_", "ks_"},
+            // fr
+            {"_le", "le_", "_la", "la_", "_de", "de_", "es_", "_et", "et_", "_je", "je_", "_vo", "vou", "ous",
+                    "us_", "_qu", "que", "ue_", "_un", "une", "ne_", "_pa", "pas", "_es", "est", "our", "_po",
+                    "pou", "_ce", "ce_", "ai_", "_ma", "ais", "_bo", "bon", "jou", "our", "ci_", "mer", "erc",
+                    "rci", "_mo", "moi", "oi_", "_tr", "trè", "ès_", "ez_"},
+            // es
+            {"_de", "de_", "_la", "la_", "_el", "el_", "_qu", "que", "ue_", "_en", "en_", "os_", "_lo", "los",
+                    "as_", "_es", "es_", "_un", "una", "_co", "con", "_po", "por", "ara", "_pa", "par", "ión",
+                    "gra", "aci", "cia", "ias", "_gr", "hol", "_ho", "ola", "sta", "est", "_me", "_mi", "_yo",
+                    "yo_", "ño_", "_pe", "pel", "elo", "lo_", "_mu", "muy", "uy_"},
+            // de
+            {"_de", "der", "er_", "die", "ie_", "_di", "und", "_un", "nd_", "ich", "ch_", "_ic", "_ei", "ein",
+                    "sch", "_sc", "en_", "ten", "_da", "das", "_zu", "_ni", "nic", "cht", "ht_", "_is", "ist",
+                    "st_", "_si", "sie", "_mi", "mit", "it_", "auf", "_au", "ung", "ng_", "dan", "ank", "_vi",
+                    "hr_", "_ha", "haa", "aar", "_wi", "wir", "_ge", "gen"},
+            // id
+            {"_ya", "yan", "ang", "ng_", "_da", "dan", "an_", "_di", "di_", "_ak", "aku", "_sa", "say", "aya",
+                    "ya_", "_ti", "ter", "ima", "rim", "kas", "asi", "_ka", "kam", "amu", "mu_", "_te", "eri",
+                    "_ap", "apa", "_in", "ini", "_it", "itu", "tu_", "kan", "_me", "men", "nya", "_bi", "bis",
+                    "isa", "sa_", "_ba", "bag", "agu", "gus"},
+            // it
+            {"_di", "di_", "_il", "il_", "_la", "la_", "_ch", "che", "he_", "_e_", "_un", "per", "_pe", "er_",
+                    "_no", "non", "on_", "one", "ion", "zio", "_co", "con", "_gr", "gra", "raz", "azi", "_bu",
+                    "buo", "uon", "ono", "_ci", "cia", "iao", "ao_", "to_", "_ti", "ett", "_mo", "mol", "olt",
+                    "lto", "_so", "_sa", "_va", "va_"}
+    };
+
+    private static final long[][] LATIN_PROFILES = new long[LATIN_TRIGRAMS.length][];
+
+    static {
+        for (int i = 0; i < LATIN_TRIGRAMS.length; i++) {
+            long[] packed = Arrays.stream(LATIN_TRIGRAMS[i])
+                    .mapToLong(trigram -> pack(trigram.charAt(0), trigram.charAt(1), trigram.charAt(2)))
+                    .distinct()
+                    .sorted()
+                    .toArray();
+            LATIN_PROFILES[i] = packed;
+        }
+    }
+
+    // 주 스크립트로 인정하는 최소 비율
+    private static final double DOMINANT_RATIO = 0.5;
+    // 라틴 문자 n-gram 판별에 필요한 최소 점수와 1, 2위 점수 차이 비율
+    private static final int MIN_LATIN_SCORE = 2;
+    private static final double LATIN_MARGIN = 1.5;
+
+    /**
+     * @return 추정한 언어 코드(ko, ja, zh, th, ru, vi, en, fr, es, de, id, it), 판별이 애매하면 null
+     */
+    public String detect(CharSequence text) {
+        if (text == null || text.isEmpty()) {
+            return null;
+        }
+
+        int hangul = 0, kana = 0, han = 0, thai = 0, cyrillic = 0, latin = 0, vietnamese = 0, letters = 0;
+
+        for (int i = 0; i < text.length(); ) {
+            int cp = Character.codePointAt(text, i);
+            i += Character.charCount(cp);
+
+            if (!Character.isLetter(cp)) {
+                continue;
+            }
+            letters++;
+
+            if ((cp >= 0xAC00 && cp <= 0xD7A3) || (cp >= 0x1100 && cp <= 0x11FF) || (cp >= 0x3130 && cp <= 0x318F)) {
+                hangul++;
+            } else if ((cp >= 0x3040 && cp <= 0x30FF) || (cp >= 0x31F0 && cp <= 0x31FF) || (cp >= 0xFF66 && cp <= 0xFF9D)) {
+                kana++;
+            } else if ((cp >= 0x4E00 && cp <= 0x9FFF) || (cp >= 0x3400 && cp <= 0x4DBF) || (cp >= 0x20000 && cp <= 0x2A6DF)) {
+                han++;
+            } else if (cp >= 0x0E00 && cp <= 0x0E7F) {
+                thai++;
+            } else if (cp >= 0x0400 && cp <= 0x04FF) {
+                cyrillic++;
+            } else if (cp < 0x0250 || (cp >= 0x1E00 && cp <= 0x1EFF)) {
+                latin++;
+                if (isVietnameseLetter(cp)) {
+                    vietnamese++;
+                }
+            }
+        }
+
+        if (letters == 0) {
+            return null;
+        }
+
+        double threshold = letters * DOMINANT_RATIO;
+        // 일본어 문장에는 한자가 섞이므로 가나가 있으면 한자도 일본어로 센다
+        if (kana > 0 && kana + han >= threshold) {
+            return "ja";
+        }
+        if (hangul >= threshold) {
+            return "ko";
+        }
+        if (han >= threshold) {
+            return "zh";
+        }
+        if (thai >= threshold) {
+            return "th";
+        }
+        if (cyrillic >= threshold) {
+            return "ru";
+        }
+        if (latin >= threshold) {
+            if (vietnamese >= 2 || vietnamese * 5 >= latin) {
+                return "vi";
+            }
+            return detectLatin(text);
+        }
+        return null;
+    }
+
+    /**
+     * 언어 코드의 주 언어 부분만 비교한다 (zh 와 zh-cn 은 같은 언어로 본다).
+     */
+    public static boolean isSameLanguage(String detected, String configured) {
+        if (detected == null || configured == null) {
+            return false;
+        }
+        int dash = configured.indexOf('-');
+        String primary = dash < 0 ? configured : configured.substring(0, dash);
+        return detected.equalsIgnoreCase(primary);
+    }
+
+    private String detectLatin(CharSequence text) {
+        int[] scores = new int[LATIN_PROFILES.length];
+
+        // 라틴 소문자만 남기고 나머지는 단어 경계로 보며 3글자 창을 굴린다
+        char c1 = '_';
+        char c2 = '_';
+        for (int i = 0; i <= text.length(); i++) {
+            char c3 = i < text.length() ? Character.toLowerCase(text.charAt(i)) : '_';
+            if (!Character.isLetter(c3)) {
+                c3 = '_';
+            }
+            if (c3 == '_' && c2 == '_') {
+                continue;
+            }
+
+            long trigram = pack(c1, c2, c3);
+            for (int lang = 0; lang < LATIN_PROFILES.length; lang++) {
+                if (Arrays.binarySearch(LATIN_PROFILES[lang], trigram) >= 0) {
+                    scores[lang]++;
+                }
+            }
+            c1 = c2;
+            c2 = c3;
+        }
+
+        int best = -1;
+        int bestScore = 0;
+        int secondScore = 0;
+        for (int lang = 0; lang < scores.length; lang++) {
+            if (scores[lang] > bestScore) {
+                secondScore = bestScore;
+                bestScore = scores[lang];
+                best = lang;
+            } else if (scores[lang] > secondScore) {
+                secondScore = scores[lang];
+            }
+        }
+
+        if (best < 0 || bestScore < MIN_LATIN_SCORE || bestScore < secondScore * LATIN_MARGIN) {
+            return null;
+        }
+        return LATIN_LANGUAGES[best];
+    }
+
+    // 베트남어에만 쓰이는 문자: ă đ ơ ư 및 성조가 붙은 라틴 확장 문자(U+1EA0~U+1EF9)
+    private static boolean isVietnameseLetter(int cp) {
+        int lower = Character.toLowerCase(cp);
+        return lower == 'ă' || lower == 'đ' || lower == 'ơ' || lower == 'ư'
+                || (lower >= 0x1EA0 && lower <= 0x1EF9);
+    }
+
+    private static long pack(char c1, char c2, char c3) {
+        return ((long) c1 << 32) | ((long) c2 << 16) | c3;
+    }
+}
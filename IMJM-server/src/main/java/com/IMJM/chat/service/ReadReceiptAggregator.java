@@ -0,0 +1,100 @@
+package com.IMJM.chat.service;
+
+import com.IMJM.common.entity.ChatRoom;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 읽음 처리 요청을 (채팅방, 읽은 쪽) 단위로 모아 짧은 주기마다 한 번씩 반영한다.
+ * <p>
+ * 클라이언트는 스크롤/포커스/새 메시지마다 읽음 요청을 보내므로, 구간 안의 요청은 가장 큰 메시지 id(high-water)
+ * 하나로 합쳐지고 UPDATE 한 번과 {@code /queue/message-read} 이벤트 한 번으로 처리된다.
+ * 메시지 id 없이 온 요청은 반영 시점까지의 모든 메시지를 읽음 처리한다 (이전 동작과 같고 최대 한 주기만큼 늦다).
+ */
+@Slf4j
+@Component
+public class ReadReceiptAggregator {
+
+    private final ChatService chatService;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    // (채팅방, 읽은 쪽) → 읽음 처리할 마지막 메시지 id
+    private final ConcurrentHashMap<ReadKey, Long> pending = new ConcurrentHashMap<>();
+
+    private final Counter submittedCounter;
+    private final Counter flushedCounter;
+    private final Counter failedCounter;
+
+    public ReadReceiptAggregator(ChatService chatService,
+                                 SimpMessagingTemplate messagingTemplate,
+                                 MeterRegistry meterRegistry) {
+        this.chatService = chatService;
+        this.messagingTemplate = messagingTemplate;
+        this.submittedCounter = meterRegistry.counter("chat.read.receipts", "stage", "submitted");
+        this.flushedCounter = meterRegistry.counter("chat.read.receipts", "stage", "flushed");
+        this.failedCounter = meterRegistry.counter("chat.read.receipts", "stage", "failed");
+        meterRegistry.gaugeMapSize("chat.read.receipts.pending", Tags.empty(), pending);
+    }
+
+    public void submit(Long chatRoomId, String readerType, Long upToMessageId) {
+        String reader = "USER".equals(readerType) ? "USER" : "SALON";
+        long highWater = upToMessageId != null ? upToMessageId : Long.MAX_VALUE;
+        pending.merge(new ReadKey(chatRoomId, reader), highWater, Math::max);
+        submittedCounter.increment();
+    }
+
+    @Scheduled(fixedDelayString = "${chat.read-receipt.flush-interval-ms}")
+    public void flush() {
+        for (ReadKey key : pending.keySet()) {
+            // 꺼내는 사이에 들어온 요청은 다음 주기에 새 항목으로 반영된다
+            Long highWater = pending.remove(key);
+            if (highWater == null) {
+                continue;
+            }
+
+            try {
+                ChatRoom chatRoom = chatService.markMessagesAsRead(key.chatRoomId, key.readerType, highWater);
+                publish(chatRoom);
+                flushedCounter.increment();
+            } catch (Exception e) {
+                failedCounter.increment();
+                log.warn("읽음 처리 반영 실패: roomId={}, reader={}", key.chatRoomId, key.readerType, e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void publish(ChatRoom chatRoom) {
+        messagingTemplate.convertAndSendToUser(
+                chatRoom.getUser().getId(),
+                "/queue/message-read",
+                chatRoom.getId()
+        );
+        messagingTemplate.convertAndSendToUser(
+                chatRoom.getSalon().getId(),
+                "/queue/message-read",
+                chatRoom.getId()
+        );
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static final class ReadKey {
+        private final Long chatRoomId;
+        private final String readerType;
+    }
+}
@@ -0,0 +1,78 @@
+package com.IMJM.chat.service;
+
+import com.IMJM.chat.exception.TranslationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 동일한 (텍스트, 원본 언어, 대상 언어) 번역 요청이 동시에 들어오면
+ * 첫 번째 요청만 실제로 번역하고 나머지는 그 결과(CompletableFuture)를 공유한다.
+ */
+public class SingleFlightTranslationService implements TranslationService {
+
+    private final TranslationService delegate;
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter leaderCalls;
+    private final Counter coalescedCalls;
+
+    public SingleFlightTranslationService(TranslationService delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.leaderCalls = meterRegistry.counter("translation.singleflight.calls", "result", "leader");
+        this.coalescedCalls = meterRegistry.counter("translation.singleflight.calls", "result", "coalesced");
+        meterRegistry.gaugeMapSize("translation.singleflight.inflight", Tags.empty(), inFlight);
+    }
+
+    @Override
+    public String translate(String text, String sourceLanguage, String targetLanguage) throws TranslationException {
+        String key = TranslationCacheStore.normalize(text)
+                + "|" + sourceLanguage.toLowerCase(Locale.ROOT)
+                + "|" + targetLanguage.toLowerCase(Locale.ROOT);
+
+        CompletableFuture<String> call = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(key, call);
+
+        // 이미 같은 번역이 진행 중이면 그 결과를 기다린다
+        if (existing != null) {
+            coalescedCalls.increment();
+            return await(existing, text, sourceLanguage, targetLanguage);
+        }
+
+        leaderCalls.increment();
+        try {
+            String translatedText = delegate.translate(text, sourceLanguage, targetLanguage);
+            call.complete(translatedText);
+            return translatedText;
+        } catch (Throwable e) {
+            // Error 도 넘겨야 기다리는 요청들이 영원히 막히지 않는다
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    private String await(CompletableFuture<String> call, String text, String sourceLanguage, String targetLanguage) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TranslationException translationException) {
+                throw translationException;
+            }
+            throw new TranslationException(
+                    "Failed to translate text: " + e.getCause().getMessage(),
+                    sourceLanguage,
+                    targetLanguage,
+                    text,
+                    e.getCause()
+            );
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.IMJM.chat.service;
+
+import com.IMJM.chat.repository.TranslationCacheRepository;
+import com.IMJM.common.entity.TranslationCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.OffsetDateTime;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * translation_cache 테이블 기반 영구 번역 캐시.
+ * 사용 횟수(use_count)와 마지막 사용 시각(last_used_at)은 메모리에 모았다가 주기적으로 반영한다(write-behind).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TranslationCacheStore {
+
+    private final TranslationCacheRepository translationCacheRepository;
+
+    // translation_cache.id → 아직 DB에 반영되지 않은 사용 횟수
+    private final Map<Long, LongAdder> pendingHits = new ConcurrentHashMap<>();
+
+    @Value("${chat.translation.cache.retention-days}")
+    private int retentionDays;
+
+    @Transactional(readOnly = true)
+    public Optional<TranslationCache> find(String textHash, String sourceLanguage, String targetLanguage) {
+        return translationCacheRepository.findByTextHashAndSourceLanguageAndTargetLanguage(
+                textHash, sourceLanguage, targetLanguage);
+    }
+
+    // 호출한 쪽 트랜잭션과 분리해서 저장 (중복 키 충돌이 채팅 트랜잭션을 롤백시키지 않도록)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Long save(String sourceText, String textHash, String sourceLanguage,
+                     String targetLanguage, String translatedText) {
+        OffsetDateTime now = OffsetDateTime.now();
+
+        TranslationCache cache = TranslationCache.builder()
+                .sourceText(sourceText)
+                .sourceLanguage(sourceLanguage)
+                .targetLanguage(targetLanguage)
+                .translatedText(translatedText)
+                .textHash(textHash)
+                .createdAt(now)
+                .lastUsedAt(now)
+                .useCount(1)
+                .build();
+
+        return translationCacheRepository.save(cache).getId();
+    }
+
+    public void recordHit(Long cacheId) {
+        if (cacheId != null) {
+            pendingHits.computeIfAbsent(cacheId, id -> new LongAdder()).increment();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${chat.translation.cache.flush-interval-ms}")
+    @Transactional
+    public void flushUsage() {
+        if (pendingHits.isEmpty()) {
+            return;
+        }
+
+        OffsetDateTime now = OffsetDateTime.now();
+        int flushed = 0;
+
+        for (Long cacheId : pendingHits.keySet()) {
+            LongAdder hits = pendingHits.remove(cacheId);
+            if (hits == null) {
+                continue;
+            }
+            int count = (int) hits.sum();
+            if (count > 0) {
+                translationCacheRepository.incrementUsage(cacheId, count, now);
+                flushed++;
+            }
+        }
+
+        log.debug("번역 캐시 사용 횟수 반영 완료: {}건", flushed);
+    }
+
+    // 오랫동안 사용되지 않은 번역 삭제 (idx_last_used 인덱스 사용)
+    @Scheduled(cron = "0 30 4 * * *")
+    @Transactional
+    public void purgeUnused() {
+        int deleted = translationCacheRepository.deleteUnusedSince(OffsetDateTime.now().minusDays(retentionDays));
+        log.info("미사용 번역 캐시 삭제: {}건", deleted);
+    }
+
+    // 공백/유니코드 정규화: 같은 문장이 같은 키를 갖도록
+    public static String normalize(String text) {
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC);
+        return normalized.strip().replaceAll("\\s+", " ");
+    }
+
+    public static String hash(String normalizedText) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(normalizedText.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
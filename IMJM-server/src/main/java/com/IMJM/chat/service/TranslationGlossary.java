@@ -0,0 +1,178 @@
+package com.IMJM.chat.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 미용 용어/정형 문구 다국어 용어집.
+ * 메시지 전체가 용어집 항목과 이모지·문장부호·숫자·공백만으로 이루어진 경우에만 로컬에서 번역한다.
+ *
+ * 리소스 형식: [{"ko": ["레이어드컷", "레이어드 컷"], "en": ["layered cut"], ...}, ...]
+ * 언어별 첫 번째 값이 번역 결과로 쓰이는 대표 표기이고, 나머지는 매칭에만 쓰이는 별칭이다.
+ */
+public class TranslationGlossary {
+
+    // 언어 → 용어집 항목 인덱스별 대표 표기
+    private final Map<String, Map<Integer, String>> canonicalTerms = new HashMap<>();
+    // 원본 언어별 매처와 패턴 → 항목 인덱스 매핑
+    private final Map<String, AhoCorasickMatcher> matchers = new HashMap<>();
+    private final Map<String, List<Integer>> patternEntries = new HashMap<>();
+
+    private final int size;
+
+    TranslationGlossary(List<Map<String, List<String>>> entries) {
+        Map<String, List<String>> patternsByLanguage = new HashMap<>();
+        // 언어별 패턴 → 처음 나온 항목 인덱스 (같은 패턴이 두 항목을 가리키면 번역 방향에 따라 결과가 달라진다)
+        Map<String, Map<String, Integer>> seenPatterns = new HashMap<>();
+
+        for (int entryIndex = 0; entryIndex < entries.size(); entryIndex++) {
+            for (Map.Entry<String, List<String>> terms : entries.get(entryIndex).entrySet()) {
+                if (terms.getValue() == null || terms.getValue().isEmpty()) {
+                    continue;
+                }
+                String language = terms.getKey().toLowerCase(Locale.ROOT);
+
+                canonicalTerms.computeIfAbsent(language, l -> new HashMap<>())
+                        .put(entryIndex, Normalizer.normalize(terms.getValue().get(0), Normalizer.Form.NFC));
+
+                for (String term : terms.getValue()) {
+                    String pattern = fold(term);
+                    Integer previous = seenPatterns.computeIfAbsent(language, l -> new HashMap<>())
+                            .putIfAbsent(pattern, entryIndex);
+                    if (previous != null) {
+                        throw new IllegalArgumentException(String.format(
+                                "용어집 %s 표기 '%s' 가 항목 %d, %d 에 중복되어 있습니다.",
+                                language, term, previous, entryIndex));
+                    }
+                    patternsByLanguage.computeIfAbsent(language, l -> new ArrayList<>()).add(pattern);
+                    patternEntries.computeIfAbsent(language, l -> new ArrayList<>()).add(entryIndex);
+                }
+            }
+        }
+
+        patternsByLanguage.forEach((language, patterns) -> matchers.put(language, new AhoCorasickMatcher(patterns)));
+        this.size = entries.size();
+    }
+
+    public static TranslationGlossary load(ObjectMapper objectMapper, Resource resource) {
+        try (InputStream inputStream = resource.getInputStream()) {
+            List<Map<String, List<String>>> entries = objectMapper.readValue(inputStream, new TypeReference<>() {});
+            return new TranslationGlossary(entries);
+        } catch (IOException e) {
+            throw new UncheckedIOException("용어집을 읽을 수 없습니다: " + resource.getDescription(), e);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 메시지 전체를 용어집으로 번역한다. 용어집으로 덮이지 않는 글자가 하나라도 있으면 null.
+     */
+    public String translate(String text, String sourceLanguage, String targetLanguage) {
+        String source = sourceLanguage.toLowerCase(Locale.ROOT);
+        String target = targetLanguage.toLowerCase(Locale.ROOT);
+
+        AhoCorasickMatcher matcher = matchers.get(source);
+        Map<Integer, String> targetTerms = canonicalTerms.get(target);
+        if (matcher == null || targetTerms == null) {
+            return null;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).strip();
+        String folded = fold(normalized);
+        List<Integer> entryIndexes = patternEntries.get(source);
+
+        // 시작 위치별로 가장 긴 매치만 남긴다 (leftmost-longest)
+        AhoCorasickMatcher.Match[] longestAt = new AhoCorasickMatcher.Match[folded.length()];
+        for (AhoCorasickMatcher.Match match : matcher.findAll(folded)) {
+            AhoCorasickMatcher.Match current = longestAt[match.start];
+            if (current == null || match.end > current.end) {
+                longestAt[match.start] = match;
+            }
+        }
+
+        StringBuilder result = new StringBuilder(normalized.length() * 2);
+        int i = 0;
+        while (i < normalized.length()) {
+            AhoCorasickMatcher.Match match = longestAt[i];
+            if (match != null) {
+                String term = targetTerms.get(entryIndexes.get(match.patternIndex));
+                if (term == null) {
+                    return null;
+                }
+                appendTerm(result, term);
+                i = match.end;
+                continue;
+            }
+
+            int codePoint = normalized.codePointAt(i);
+            if (!isPassThrough(codePoint)) {
+                return null;
+            }
+            result.appendCodePoint(codePoint);
+            i += Character.charCount(codePoint);
+        }
+        return result.toString();
+    }
+
+    // 붙여 쓴 용어("레이어드컷C컬")를 띄어쓰기 언어로 옮길 때 단어가 붙지 않도록 공백을 넣는다
+    private static void appendTerm(StringBuilder result, String term) {
+        if (!result.isEmpty()
+                && isLatinLetterOrDigit(result.charAt(result.length() - 1))
+                && isLatinLetterOrDigit(term.charAt(0))) {
+            result.append(' ');
+        }
+        result.append(term);
+    }
+
+    private static boolean isLatinLetterOrDigit(char c) {
+        return Character.isDigit(c)
+                || (Character.isLetter(c) && Character.UnicodeScript.of(c) == Character.UnicodeScript.LATIN);
+    }
+
+    // 번역하지 않고 그대로 옮겨도 되는 글자: 공백, 숫자, 문장부호, 이모지 등 기호
+    private static boolean isPassThrough(int codePoint) {
+        if (Character.isWhitespace(codePoint) || Character.isDigit(codePoint)) {
+            return true;
+        }
+        return switch (Character.getType(codePoint)) {
+            case Character.CONNECTOR_PUNCTUATION,
+                 Character.DASH_PUNCTUATION,
+                 Character.START_PUNCTUATION,
+                 Character.END_PUNCTUATION,
+                 Character.INITIAL_QUOTE_PUNCTUATION,
+                 Character.FINAL_QUOTE_PUNCTUATION,
+                 Character.OTHER_PUNCTUATION,
+                 Character.MATH_SYMBOL,
+                 Character.CURRENCY_SYMBOL,
+                 Character.MODIFIER_SYMBOL,
+                 Character.OTHER_SYMBOL,
+                 Character.NON_SPACING_MARK,
+                 Character.ENCLOSING_MARK,
+                 Character.FORMAT -> true;
+            default -> false;
+        };
+    }
+
+    // 대소문자 무시 매칭용. 글자 수가 바뀌지 않도록 한 글자씩 소문자로 바꾼다
+    private static String fold(String value) {
+        char[] chars = Normalizer.normalize(value, Normalizer.Form.NFC).toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,59 @@
+package com.IMJM.chat.service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 번역 결과 메모리 캐시 (LRU + TTL)
+ */
+class TranslationLruCache {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LinkedHashMap<String, Entry> entries;
+
+    TranslationLruCache(int maxSize, Duration ttl) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+        // accessOrder = true: 조회할 때마다 최근 사용 순으로 재배치
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > TranslationLruCache.this.maxSize;
+            }
+        };
+    }
+
+    synchronized Entry get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt < System.currentTimeMillis()) {
+            entries.remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    synchronized void put(String key, Long cacheId, String translatedText) {
+        entries.put(key, new Entry(cacheId, translatedText, System.currentTimeMillis() + ttlMillis));
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    static final class Entry {
+        final Long cacheId;          // translation_cache.id (사용 횟수 집계용, 저장 실패 시 null)
+        final String translatedText;
+        final long expiresAt;
+
+        Entry(Long cacheId, String translatedText, long expiresAt) {
+            this.cacheId = cacheId;
+            this.translatedText = translatedText;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -61,17 +61,30 @@ public class NCPObjectStorageService implements StorageService {
                 filePath, // 업로드 파일의 이름 및 디렉토리 경로
                 fileIn, // 업로드 할 파일의 InputStream
                 objectMetadata // 업로드에 필요한 부가 정보
-        );
+        ).withCannedAcl(CannedAccessControlList.PublicRead); // 공개 읽기 권한을 업로드 요청에 함께 실어 한 번에 처리
 
         try {
             s3.putObject(putObjectRequest);
-            s3.setObjectAcl(bucketName, filePath, CannedAccessControlList.PublicRead);
 
         } catch (Exception e) {
             throw new StorageServiceException(e);
         }
     }
 
+    @Override
+    public void uploadPrivate(String filePath, InputStream fileIn, long contentLength, String contentType) {
+
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentType(contentType);
+        objectMetadata.setContentLength(contentLength);
+
+        try {
+            s3.putObject(new PutObjectRequest(bucketName, filePath, fileIn, objectMetadata));
+        } catch (Exception e) {
+            throw new StorageServiceException(e);
+        }
+    }
+
     @Override
     public void download(String filePath, OutputStream fileOut) {
         try {
@@ -93,6 +106,18 @@ public class NCPObjectStorageService implements StorageService {
         }
     }
 
+    @Override
+    public void downloadRange(String filePath, long offset, long length, OutputStream fileOut) {
+        GetObjectRequest request = new GetObjectRequest(bucketName, filePath)
+                .withRange(offset, offset + length - 1);
+        try (S3Object s3Object = s3.getObject(request);
+             S3ObjectInputStream in = s3Object.getObjectContent()) {
+            in.transferTo(fileOut);
+        } catch (Exception e) {
+            throw new StorageServiceException(e);
+        }
+    }
+
     @Override
     public void delete(String filePath) {
         try {
@@ -0,0 +1,187 @@
+package com.IMJM.common.cloud;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * 여러 파일을 uploadExecutor 에서 동시에 업로드한다.
+ * <p>
+ * 요청 하나가 동시에 넣는 업로드 수는 max-concurrent-per-request 로, 전체는 uploadExecutor 크기로 제한된다.
+ * 파일별 timeout 은 큐 대기 시간을 빼고 업로드를 시작한 시점부터 재고,
+ * 요청 전체는 호출 시점부터 request-timeout-seconds 안에 끝낸다 (그때까지 시작하지 못한 파일은 실패, 업로드하지 않음).
+ * timeout 으로 실패 처리된 뒤 늦게 끝난 업로드는 결과에 없으므로 바로 지운다.
+ * 결과는 입력 순서 그대로이며, 실패한 파일(예외, timeout 초과, 풀/큐 포화)은 예외 대신 실패 결과로 돌려준다.
+ */
+@Slf4j
+@Service
+public class ParallelUploadService {
+
+    private final StorageService storageService;
+    private final ThreadPoolTaskExecutor uploadExecutor;
+    private final long timeoutSeconds;
+    private final long requestTimeoutSeconds;
+    private final int maxConcurrentPerRequest;
+    private final String baseUrl;
+
+    public ParallelUploadService(StorageService storageService,
+                                 @Qualifier("uploadExecutor") ThreadPoolTaskExecutor uploadExecutor,
+                                 @Value("${ncp.upload.timeout-seconds}") long timeoutSeconds,
+                                 @Value("${ncp.upload.request-timeout-seconds}") long requestTimeoutSeconds,
+                                 @Value("${ncp.upload.max-concurrent-per-request}") int maxConcurrentPerRequest,
+                                 @Value("${ncp.bucket-name}") String bucketName) {
+        this.storageService = storageService;
+        this.uploadExecutor = uploadExecutor;
+        this.timeoutSeconds = timeoutSeconds;
+        this.requestTimeoutSeconds = requestTimeoutSeconds;
+        this.maxConcurrentPerRequest = maxConcurrentPerRequest;
+        this.baseUrl = "https://" + bucketName + ".kr.object.ncloudstorage.com";
+    }
+
+    // pathResolver 는 요청 스레드에서 먼저 호출되므로 파일명/확장자 검증 예외는 그대로 호출자에게 전달된다
+    public List<UploadResult> uploadAll(List<MultipartFile> files, Function<MultipartFile, String> pathResolver) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(requestTimeoutSeconds);
+        List<String> paths = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            paths.add(pathResolver.apply(file));
+        }
+
+        // 업로드가 끝나거나 timeout 으로 실패하면 permit 을 돌려받아 다음 파일을 넣는다
+        Semaphore permits = new Semaphore(maxConcurrentPerRequest);
+        List<CompletableFuture<Void>> futures = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            MultipartFile file = files.get(i);
+            String path = paths.get(i);
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            futures.add(future);
+
+            if (!acquire(permits, deadline)) {
+                future.completeExceptionally(new RequestDeadlineException());
+                continue;
+            }
+            future.whenComplete((ignored, error) -> permits.release());
+            try {
+                uploadExecutor.execute(() -> uploadWithTimeout(file, path, future));
+            } catch (TaskRejectedException e) {
+                future.completeExceptionally(e);
+            }
+        }
+
+        List<UploadResult> results = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            MultipartFile file = files.get(i);
+            String path = paths.get(i);
+            CompletableFuture<Void> future = futures.get(i);
+            awaitUntil(future, deadline);
+            try {
+                future.join();
+                results.add(UploadResult.success(file.getOriginalFilename(), file.getSize(), path, baseUrl + "/" + path));
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                String error = cause instanceof RequestDeadlineException ? "요청 업로드 시간 초과 (" + requestTimeoutSeconds + "초)"
+                        : cause instanceof TimeoutException ? "업로드 시간 초과 (" + timeoutSeconds + "초)"
+                        : cause instanceof TaskRejectedException ? "업로드 대기열 초과"
+                        : "업로드 실패";
+                log.warn("파일 업로드 실패: {} → {}", file.getOriginalFilename(), path, cause);
+                results.add(UploadResult.failure(file.getOriginalFilename(), file.getSize(), path, error));
+            }
+        }
+        return results;
+    }
+
+    // 일부만 성공해 전체를 되돌려야 할 때 업로드된 파일 정리
+    public void deleteUploaded(List<UploadResult> results) {
+        for (UploadResult result : results) {
+            if (!result.isSuccess()) {
+                continue;
+            }
+            try {
+                storageService.delete(result.getPath());
+            } catch (StorageServiceException e) {
+                log.warn("업로드 파일 정리 실패: {}", result.getPath(), e);
+            }
+        }
+    }
+
+    // 풀 스레드에서 시작할 때 timeout 을 건다. 시간이 지나면 결과만 실패로 끝내고 진행 중인 업로드는 그대로 둔다
+    private void uploadWithTimeout(MultipartFile file, String path, CompletableFuture<Void> future) {
+        // 큐에서 기다리는 사이 요청 시간이 지나 이미 실패로 끝났으면 시작하지 않는다
+        if (future.isDone()) {
+            return;
+        }
+        future.orTimeout(timeoutSeconds, TimeUnit.SECONDS);
+        try {
+            upload(file, path);
+            if (!future.complete(null)) {
+                // 실패로 보고된 뒤 늦게 끝난 업로드: 결과에 없으므로 호출자가 지울 수 없다
+                deleteLateUpload(path);
+            }
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    private void deleteLateUpload(String path) {
+        try {
+            storageService.delete(path);
+            log.info("시간 초과 후 끝난 업로드 삭제: {}", path);
+        } catch (StorageServiceException e) {
+            log.warn("시간 초과 후 끝난 업로드 삭제 실패: {}", path, e);
+        }
+    }
+
+    // 요청 시간 안에 permit 을 받지 못하면 false
+    private static boolean acquire(Semaphore permits, long deadline) {
+        try {
+            return permits.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // 요청 시간이 다 되면 아직 끝나지 않은 파일을 실패로 끝낸다 (업로드 중이면 끝난 뒤 deleteLateUpload 로 지운다)
+    private static void awaitUntil(CompletableFuture<Void> future, long deadline) {
+        try {
+            future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            // 실패 결과는 호출한 쪽에서 join 으로 처리한다
+        } catch (TimeoutException e) {
+            future.completeExceptionally(new RequestDeadlineException());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.completeExceptionally(new RequestDeadlineException());
+        }
+    }
+
+    private void upload(MultipartFile file, String path) {
+        try (InputStream in = file.getInputStream()) {
+            storageService.upload(path, in);
+        } catch (IOException e) {
+            throw new StorageServiceException("파일 읽기 실패: " + file.getOriginalFilename(), e);
+        }
+    }
+
+    // 요청 전체 시간(request-timeout-seconds) 초과
+    private static final class RequestDeadlineException extends RuntimeException {
+        RequestDeadlineException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -5,7 +5,11 @@ import java.io.OutputStream;
 
 public interface StorageService {
     void upload(String filePath, InputStream fileIn);
+    // 공개 읽기 권한 없이 업로드 (채팅 보관 파일 등 내부용)
+    void uploadPrivate(String filePath, InputStream fileIn, long contentLength, String contentType);
     void download(String filePath, OutputStream fileOut);
+    // 파일의 [offset, offset + length) 바이트만 받는다
+    void downloadRange(String filePath, long offset, long length, OutputStream fileOut);
     void delete(String filePath);
 
     void deleteFolder(String prefix);
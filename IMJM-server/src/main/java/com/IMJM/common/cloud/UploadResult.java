@@ -0,0 +1,29 @@
+package com.IMJM.common.cloud;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 파일 하나의 업로드 결과: 성공하면 url, 실패하면 error 가 채워진다
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class UploadResult {
+
+    private final String originalFilename;
+    private final long size;
+    private final String path;
+    private final String url;
+    private final String error;
+
+    public static UploadResult success(String originalFilename, long size, String path, String url) {
+        return new UploadResult(originalFilename, size, path, url, null);
+    }
+
+    public static UploadResult failure(String originalFilename, long size, String path, String error) {
+        return new UploadResult(originalFilename, size, path, null, error);
+    }
+
+    public boolean isSuccess() {
+        return url != null;
+    }
+}
@@ -13,8 +13,10 @@ import java.time.OffsetDateTime;
 @Table(name = "alarm")
 public class Alarm {
 
+    // pooled 시퀀스: 여러 알림을 배치 INSERT 로 저장할 수 있도록 (V11)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "alarm_seq")
+    @SequenceGenerator(name = "alarm_seq", sequenceName = "alarm_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
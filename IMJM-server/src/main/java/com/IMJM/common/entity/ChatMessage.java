@@ -38,6 +38,14 @@ public class ChatMessage {
     @Column(name = "translation_status", length = 10)
     private String translationStatus = "none";
 
+    // 번역 결과가 반영된 시각 (재연결 동기화 변경분 조회용)
+    @Column(name = "translation_updated_at")
+    private OffsetDateTime translationUpdatedAt;
+
+    // 검색용 bigram (ChatSearchTokenizer), NULL 이면 아직 색인 전
+    @Column(name = "search_tokens", columnDefinition = "TEXT")
+    private String searchTokens;
+
     public void markAsRead() {
         this.isRead = true;
     }
@@ -0,0 +1,42 @@
+package com.IMJM.common.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+// 보관(아카이브)된 chat_message 월 파티션: 내용은 storagePath 의 gzip JSON Lines 파일에 있다
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "chat_message_archive")
+public class ChatMessageArchive {
+
+    public static final String STATUS_ARCHIVING = "ARCHIVING";
+    public static final String STATUS_DONE = "DONE";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "partition_month", nullable = false, unique = true)
+    private LocalDate partitionMonth;
+
+    @Column(name = "storage_path", nullable = false)
+    private String storagePath;
+
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "message_count", nullable = false)
+    private int messageCount;
+
+    @Column(name = "claimed_at", nullable = false)
+    private OffsetDateTime claimedAt;
+
+    @Column(name = "archived_at")
+    private OffsetDateTime archivedAt;
+}
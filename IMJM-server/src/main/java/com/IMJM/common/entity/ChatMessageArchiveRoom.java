@@ -0,0 +1,49 @@
+package com.IMJM.common.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.OffsetDateTime;
+
+// 보관 파일 안에서 채팅방 하나가 차지하는 범위: 이전 메시지 조회 시 어떤 파일을 읽을지 고르는 데 사용
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "chat_message_archive_room")
+public class ChatMessageArchiveRoom {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "archive_id", nullable = false)
+    private ChatMessageArchive archive;
+
+    @Column(name = "chat_room_id", nullable = false)
+    private Long chatRoomId;
+
+    @Column(name = "message_count", nullable = false)
+    private int messageCount;
+
+    @Column(name = "min_message_id", nullable = false)
+    private Long minMessageId;
+
+    @Column(name = "max_message_id", nullable = false)
+    private Long maxMessageId;
+
+    @Column(name = "min_sent_at", nullable = false)
+    private OffsetDateTime minSentAt;
+
+    @Column(name = "max_sent_at", nullable = false)
+    private OffsetDateTime maxSentAt;
+
+    // 보관 파일 안에서 이 채팅방의 gzip 멤버 위치 (V19 이전에 보관된 파일은 null 이라 파일 전체를 읽는다)
+    @Column(name = "byte_offset")
+    private Long byteOffset;
+
+    @Column(name = "byte_length")
+    private Long byteLength;
+}
@@ -13,8 +13,10 @@ import java.time.OffsetDateTime;
 @Table(name = "chat_photos")
 public class ChatPhotos {
 
+    // pooled 시퀀스: 한 메시지의 사진들을 한 번의 배치 INSERT 로 저장 (V11)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "chat_photos_seq")
+    @SequenceGenerator(name = "chat_photos_seq", sequenceName = "chat_photos_photo_id_seq", allocationSize = 50)
     @Column(name = "photo_id")
     private Long photoId;
 
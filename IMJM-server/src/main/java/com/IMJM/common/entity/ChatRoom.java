@@ -14,6 +14,8 @@ import java.time.OffsetDateTime;
 })
 public class ChatRoom {
 
+    public static final int LAST_MESSAGE_PREVIEW_LENGTH = 100;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -32,6 +34,32 @@ public class ChatRoom {
     @Column(name = "last_message_time", nullable = false, columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP")
     private OffsetDateTime lastMessageTime;
 
+    // 채팅방 목록용 요약 (메시지 전송/읽음 처리 시 UPDATE 쿼리로 함께 갱신)
+    @Column(name = "last_message_preview", length = LAST_MESSAGE_PREVIEW_LENGTH)
+    private String lastMessagePreview;
+
+    @Column(name = "last_sender_type", length = 20)
+    private String lastSenderType;
+
+    @Column(name = "unread_for_user", nullable = false)
+    private int unreadForUser;
+
+    @Column(name = "unread_for_salon", nullable = false)
+    private int unreadForSalon;
+
+    // 안 읽은 수가 마지막으로 바뀐 시각 (재연결 동기화 변경분 조회용)
+    @Column(name = "unread_updated_at")
+    private OffsetDateTime unreadUpdatedAt;
+
+    // 글자(코드 포인트) 단위로 자른다: 이모지 같은 서로게이트 쌍이 반으로 잘리지 않고, VARCHAR(100) 의 글자 수와 같다
+    public static String toPreview(String message) {
+        if (message == null || message.length() <= LAST_MESSAGE_PREVIEW_LENGTH
+                || message.codePointCount(0, message.length()) <= LAST_MESSAGE_PREVIEW_LENGTH) {
+            return message;
+        }
+        return message.substring(0, message.offsetByCodePoints(0, LAST_MESSAGE_PREVIEW_LENGTH));
+    }
+
     public void updateLastMessageTime(OffsetDateTime time) {
         this.lastMessageTime = time;
     }
@@ -0,0 +1,19 @@
+package com.IMJM.common.page;
+
+import lombok.*;
+
+import java.util.List;
+
+// 커서(키셋) 기반 페이지 응답: nextCursor 를 다음 요청의 커서로 그대로 넘기면 된다
+@Getter
+@Setter
+@ToString
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPageResponseDto<T> {
+    private int pageSize;
+    private boolean hasNext;
+    private Long nextCursor;
+    private List<T> contents;
+}
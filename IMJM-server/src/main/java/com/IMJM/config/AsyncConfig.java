@@ -0,0 +1,79 @@
+package com.IMJM.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    @Value("${chat.translation.executor.core-pool-size}")
+    private int translationCorePoolSize;
+
+    @Value("${chat.translation.executor.max-pool-size}")
+    private int translationMaxPoolSize;
+
+    @Value("${chat.translation.executor.queue-capacity}")
+    private int translationQueueCapacity;
+
+    @Value("${ncp.upload.executor.core-pool-size}")
+    private int uploadCorePoolSize;
+
+    @Value("${ncp.upload.executor.max-pool-size}")
+    private int uploadMaxPoolSize;
+
+    @Value("${ncp.upload.executor.queue-capacity}")
+    private int uploadQueueCapacity;
+
+    @Value("${reservation.outbox.executor.core-pool-size}")
+    private int reservationEventCorePoolSize;
+
+    @Value("${reservation.outbox.executor.max-pool-size}")
+    private int reservationEventMaxPoolSize;
+
+    @Value("${reservation.outbox.executor.queue-capacity}")
+    private int reservationEventQueueCapacity;
+
+    // 채팅 번역 전용 스레드 풀 (큐가 가득 차면 TaskRejectedException 발생)
+    @Bean(name = "translationExecutor")
+    public ThreadPoolTaskExecutor translationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(translationCorePoolSize);
+        executor.setMaxPoolSize(translationMaxPoolSize);
+        executor.setQueueCapacity(translationQueueCapacity);
+        executor.setThreadNamePrefix("translation-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    // Object Storage 업로드 전용 스레드 풀 (ParallelUploadService)
+    // 큐가 가득 차면 TaskRejectedException, 해당 파일은 실패 결과로 돌려준다
+    // (요청 스레드가 직접 업로드하면 timeout 없이 요청이 묶이므로 CallerRunsPolicy 를 쓰지 않는다)
+    @Bean(name = "uploadExecutor")
+    public ThreadPoolTaskExecutor uploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(uploadCorePoolSize);
+        executor.setMaxPoolSize(uploadMaxPoolSize);
+        executor.setQueueCapacity(uploadQueueCapacity);
+        executor.setThreadNamePrefix("upload-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    // 예약 후속 작업(채팅방, 예약 완료 메시지, 알림) 전용 스레드 풀 (ReservationOutboxService)
+    // 큐가 가득 차면 TaskRejectedException, 처리되지 못한 outbox 행은 폴링이 다시 넣는다
+    @Bean(name = "reservationEventExecutor")
+    public ThreadPoolTaskExecutor reservationEventExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(reservationEventCorePoolSize);
+        executor.setMaxPoolSize(reservationEventMaxPoolSize);
+        executor.setQueueCapacity(reservationEventQueueCapacity);
+        executor.setThreadNamePrefix("reservation-event-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+}
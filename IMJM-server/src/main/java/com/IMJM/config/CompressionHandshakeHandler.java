@@ -0,0 +1,49 @@
+package com.IMJM.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * permessage-deflate(RFC 7692) 협상 on/off.
+ * <p>
+ * 서블릿 컨테이너(Tomcat)가 permessage-deflate 를 지원하므로 클라이언트가 요청하면 기본으로 협상된다.
+ * chat.websocket.compression.enabled=false 이면 요청에서 빼서 압축 없이 연결한다 (CPU 가 더 급한 경우).
+ * 협상 결과는 chat.websocket.handshakes{deflate} 로 센다.
+ */
+public class CompressionHandshakeHandler extends DefaultHandshakeHandler {
+
+    static final String PERMESSAGE_DEFLATE = "permessage-deflate";
+
+    private final boolean compressionEnabled;
+    private final Counter deflateCounter;
+    private final Counter plainCounter;
+
+    public CompressionHandshakeHandler(boolean compressionEnabled, MeterRegistry meterRegistry) {
+        this.compressionEnabled = compressionEnabled;
+        this.deflateCounter = meterRegistry.counter("chat.websocket.handshakes", "deflate", "true");
+        this.plainCounter = meterRegistry.counter("chat.websocket.handshakes", "deflate", "false");
+    }
+
+    @Override
+    protected List<WebSocketExtension> filterRequestedExtensions(ServerHttpRequest request,
+                                                                 List<WebSocketExtension> requestedExtensions,
+                                                                 List<WebSocketExtension> supportedExtensions) {
+        List<WebSocketExtension> requested = compressionEnabled
+                ? requestedExtensions
+                : requestedExtensions.stream()
+                        .filter(extension -> !PERMESSAGE_DEFLATE.equalsIgnoreCase(extension.getName()))
+                        .collect(Collectors.toList());
+
+        List<WebSocketExtension> negotiated = super.filterRequestedExtensions(request, requested, supportedExtensions);
+        boolean deflate = negotiated.stream()
+                .anyMatch(extension -> PERMESSAGE_DEFLATE.equalsIgnoreCase(extension.getName()));
+        (deflate ? deflateCounter : plainCounter).increment();
+        return negotiated;
+    }
+}
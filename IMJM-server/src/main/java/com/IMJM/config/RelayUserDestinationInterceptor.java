@@ -0,0 +1,57 @@
+package com.IMJM.config;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+
+/**
+ * 브로커 릴레이 모드 전용: 클라이언트가 구독하는 "/user/{id}/queue/messages" 형태의 목적지를
+ * 외부 브로커가 이해하는 "/topic/user.{id}.queue.messages" 로 바꾼다.
+ *
+ * 구독(SUBSCRIBE)과 서버 발송(convertAndSendToUser → 브로커 채널) 양쪽에 같은 규칙을 적용하므로
+ * 어느 노드에 연결된 세션이든 브로커의 topic 을 통해 메시지를 받는다.
+ * 클라이언트(stompjs)는 구독 id 로 메시지를 분배하므로 구독 경로를 바꿀 필요가 없다.
+ */
+public class RelayUserDestinationInterceptor implements ChannelInterceptor {
+
+    private static final String USER_PREFIX = "/user/";
+    private static final String TOPIC_PREFIX = "/topic/user.";
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        SimpMessageType messageType = accessor.getMessageType();
+        if (messageType != SimpMessageType.SUBSCRIBE && messageType != SimpMessageType.MESSAGE) {
+            return message;
+        }
+
+        String relayDestination = toRelayDestination(accessor.getDestination());
+        if (relayDestination == null) {
+            return message;
+        }
+
+        accessor.setDestination(relayDestination);
+        return MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders());
+    }
+
+    /**
+     * "/user/{id}/queue/messages" → "/topic/user.{id}.queue.messages"
+     * 사용자 id 가 없는 "/user/queue/..." (Principal 기반 목적지)는 스프링 기본 처리에 맡긴다.
+     */
+    static String toRelayDestination(String destination) {
+        if (destination == null || !destination.startsWith(USER_PREFIX)) {
+            return null;
+        }
+
+        String rest = destination.substring(USER_PREFIX.length());
+        int slash = rest.indexOf('/');
+        if (slash <= 0 || rest.startsWith("queue/") || rest.startsWith("topic/")) {
+            return null;
+        }
+
+        return TOPIC_PREFIX + rest.replace('/', '.');
+    }
+}
@@ -0,0 +1,20 @@
+package com.IMJM.config;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * STOMP 프레임용 compact JSON 설정.
+ * <p>
+ * 스프링 기본 ObjectMapper 설정(날짜 ISO 문자열, time-zone 등)은 그대로 두고 null 필드만 뺀다.
+ * 클라이언트는 없는 필드와 null 을 같게 다루므로(옵셔널 체크) 화면 동작은 그대로다.
+ */
+public final class StompJson {
+
+    private StompJson() {
+    }
+
+    public static ObjectMapper compactMapper(ObjectMapper base) {
+        return base.copy().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    }
+}
@@ -0,0 +1,73 @@
+package com.IMJM.config;
+
+import com.IMJM.chat.service.BatchingTranslationService;
+import com.IMJM.chat.service.CachingTranslationService;
+import com.IMJM.chat.service.GlossaryTranslationService;
+import com.IMJM.chat.service.HyperClovaXTranslationService;
+import com.IMJM.chat.service.SingleFlightTranslationService;
+import com.IMJM.chat.service.TranslationCacheStore;
+import com.IMJM.chat.service.TranslationGlossary;
+import com.IMJM.chat.service.TranslationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.Resource;
+
+import java.time.Duration;
+
+@Configuration
+public class TranslationConfig {
+
+    @Value("${chat.translation.cache.local-max-size}")
+    private int localCacheMaxSize;
+
+    @Value("${chat.translation.cache.local-ttl-minutes}")
+    private long localCacheTtlMinutes;
+
+    @Value("${chat.translation.glossary.location}")
+    private Resource glossaryLocation;
+
+    @Value("${chat.translation.glossary.max-length}")
+    private int glossaryMaxLength;
+
+    @Value("${chat.translation.batch.enabled}")
+    private boolean batchEnabled;
+
+    @Value("${chat.translation.batch.max-size}")
+    private int batchMaxSize;
+
+    @Value("${chat.translation.batch.max-delay-ms}")
+    private long batchMaxDelayMillis;
+
+    @Bean
+    public TranslationGlossary translationGlossary(ObjectMapper objectMapper) {
+        return TranslationGlossary.load(objectMapper, glossaryLocation);
+    }
+
+    // 번역 계층 구성: 용어집 → 동일 요청 병합(single-flight) → 캐시(메모리 → DB) → 묶음 전송 → 하이퍼클로바X
+    @Bean
+    @Primary
+    public TranslationService translationService(HyperClovaXTranslationService hyperClovaXTranslationService,
+                                                 TranslationCacheStore translationCacheStore,
+                                                 TranslationGlossary translationGlossary,
+                                                 MeterRegistry meterRegistry) {
+        TranslationService upstream = batchEnabled
+                ? new BatchingTranslationService(hyperClovaXTranslationService, batchMaxSize, batchMaxDelayMillis, meterRegistry)
+                : hyperClovaXTranslationService;
+
+        TranslationService cached = new CachingTranslationService(
+                upstream,
+                translationCacheStore,
+                localCacheMaxSize,
+                Duration.ofMinutes(localCacheTtlMinutes),
+                meterRegistry
+        );
+
+        TranslationService singleFlight = new SingleFlightTranslationService(cached, meterRegistry);
+
+        return new GlossaryTranslationService(singleFlight, translationGlossary, glossaryMaxLength, meterRegistry);
+    }
+}
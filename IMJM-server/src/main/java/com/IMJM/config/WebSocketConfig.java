@@ -1,26 +1,147 @@
 package com.IMJM.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.converter.ByteArrayMessageConverter;
+import org.springframework.messaging.converter.DefaultContentTypeResolver;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+import java.util.List;
+
 // WebSocketConfig.java 수정
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final WebSocketTransportMetrics webSocketTransportMetrics;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    // simple: 노드 내부 메모리 브로커 (단일 노드), relay: 외부 STOMP 브로커(RabbitMQ) 릴레이 (다중 노드)
+    @Value("${chat.broker.mode}")
+    private String brokerMode;
+
+    @Value("${chat.broker.relay.host}")
+    private String relayHost;
+
+    @Value("${chat.broker.relay.port}")
+    private int relayPort;
+
+    @Value("${chat.broker.relay.login}")
+    private String relayLogin;
+
+    @Value("${chat.broker.relay.passcode}")
+    private String relayPasscode;
+
+    @Value("${chat.broker.relay.virtual-host}")
+    private String relayVirtualHost;
+
+    // permessage-deflate 협상 여부 (CompressionHandshakeHandler)
+    @Value("${chat.websocket.compression.enabled}")
+    private boolean compressionEnabled;
+
+    @Value("${chat.websocket.message-size-limit}")
+    private int messageSizeLimit;
+
+    @Value("${chat.websocket.send-buffer-size-limit}")
+    private int sendBufferSizeLimit;
+
+    @Value("${chat.websocket.send-time-limit-ms}")
+    private int sendTimeLimitMs;
+
+    // 채널별 스레드 풀: 클라이언트 수신(inbound), 클라이언트 송신(outbound)
+    // 알림이 몰려도 채팅 전달이 밀리지 않도록 각각 따로 크기를 잡는다
+    // 서버 발송(broker) 채널은 스레드 풀 없이 호출 스레드에서 바로 브로커로 넘긴다:
+    // 풀을 쓰면 같은 스레드가 연달아 보낸 메시지(메시지 → translation-updated)의 순서가 바뀔 수 있다
+    @Value("${chat.websocket.inbound.core-pool-size}")
+    private int inboundCorePoolSize;
+
+    @Value("${chat.websocket.inbound.max-pool-size}")
+    private int inboundMaxPoolSize;
+
+    @Value("${chat.websocket.inbound.queue-capacity}")
+    private int inboundQueueCapacity;
+
+    @Value("${chat.websocket.outbound.core-pool-size}")
+    private int outboundCorePoolSize;
+
+    @Value("${chat.websocket.outbound.max-pool-size}")
+    private int outboundMaxPoolSize;
+
+    @Value("${chat.websocket.outbound.queue-capacity}")
+    private int outboundQueueCapacity;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         // 메시지 브로커 설정
-        // 클라이언트가 구독할 수 있는 주제 prefix
-        registry.enableSimpleBroker("/topic", "/queue", "/user");
+        if ("relay".equalsIgnoreCase(brokerMode)) {
+            enableBrokerRelay(registry);
+        } else {
+            // 클라이언트가 구독할 수 있는 주제 prefix
+            registry.enableSimpleBroker("/topic", "/queue", "/user");
+        }
         // 메시지 송신 주소 prefix
         registry.setApplicationDestinationPrefixes("/app");
         // 유저별 구독을 위한 prefix
         registry.setUserDestinationPrefix("/user");
+        // 송신 채널 스레드 풀에서도 세션별로 보낸 순서대로 전달
+        registry.setPreservePublishOrder(true);
+    }
+
+    private void enableBrokerRelay(MessageBrokerRegistry registry) {
+        registry.enableStompBrokerRelay("/topic", "/queue")
+                .setRelayHost(relayHost)
+                .setRelayPort(relayPort)
+                .setClientLogin(relayLogin)
+                .setClientPasscode(relayPasscode)
+                .setSystemLogin(relayLogin)
+                .setSystemPasscode(relayPasscode)
+                .setVirtualHost(relayVirtualHost)
+                .setSystemHeartbeatSendInterval(10000)
+                .setSystemHeartbeatReceiveInterval(10000)
+                // 노드 간 사용자 레지스트리 공유: 다른 노드에 연결된 Principal 기반 /user 목적지도 전달
+                .setUserDestinationBroadcast("/topic/unresolved-user-destination")
+                .setUserRegistryBroadcast("/topic/simp-user-registry");
+
+        // "/user/{id}/queue/..." 목적지를 브로커 topic 으로 변환 (서버 발송 쪽)
+        registry.configureBrokerChannel().interceptors(new RelayUserDestinationInterceptor());
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(inboundCorePoolSize)
+                .maxPoolSize(inboundMaxPoolSize)
+                .queueCapacity(inboundQueueCapacity);
+        registration.interceptors(webSocketTransportMetrics.inboundInterceptor());
+
+        // "/user/{id}/queue/..." 목적지를 브로커 topic 으로 변환 (클라이언트 구독 쪽)
+        if ("relay".equalsIgnoreCase(brokerMode)) {
+            registration.interceptors(new RelayUserDestinationInterceptor());
+        }
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundCorePoolSize)
+                .maxPoolSize(outboundMaxPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+        // 세션별 백로그, 목적지별 프레임 수
+        registration.interceptors(webSocketTransportMetrics.outboundInterceptor());
     }
 
     @Override
@@ -28,14 +149,33 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         // 웹소켓 연결 엔드포인트 등록
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns("*")  // CORS 설정
+                .setHandshakeHandler(new CompressionHandshakeHandler(compressionEnabled, meterRegistry))
                 .withSockJS()  // SockJS 지원 활성화
                 .setHeartbeatTime(10000); // 하트비트 간격 설정
     }
 
+    // 객체 payload 는 null 필드를 뺀 compact JSON 으로 (String, byte[] payload 는 그대로 전달)
+    @Override
+    public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+        DefaultContentTypeResolver contentTypeResolver = new DefaultContentTypeResolver();
+        contentTypeResolver.setDefaultMimeType(MimeTypeUtils.APPLICATION_JSON);
+
+        MappingJackson2MessageConverter jsonConverter = new MappingJackson2MessageConverter();
+        jsonConverter.setObjectMapper(StompJson.compactMapper(objectMapper));
+        jsonConverter.setContentTypeResolver(contentTypeResolver);
+
+        messageConverters.add(new StringMessageConverter());
+        messageConverters.add(new ByteArrayMessageConverter());
+        messageConverters.add(jsonConverter);
+        return false;
+    }
+
     @Override
     public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
-        registration.setMessageSizeLimit(8192 * 8) // 메시지 크기 제한 (64KB)
-                .setSendBufferSizeLimit(512 * 1024) // 버퍼 크기 제한 (512KB)
-                .setSendTimeLimit(20000); // 시간 제한 (20초)
+        registration.setMessageSizeLimit(messageSizeLimit) // 메시지 크기 제한 (기본 64KB)
+                .setSendBufferSizeLimit(sendBufferSizeLimit) // 버퍼 크기 제한 (기본 512KB)
+                .setSendTimeLimit(sendTimeLimitMs) // 시간 제한 (기본 20초)
+                // 송신 시간, 송신 제한 초과로 끊긴 세션 기록 (WebSocketTransportMetrics)
+                .addDecoratorFactory(webSocketTransportMetrics.decoratorFactory());
     }
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.IMJM.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * STOMP 채널 스레드 풀 지표: chat.websocket.executor.{queued, active, pool.size}{channel}
+ * <p>
+ * 스레드 풀 빈은 WebSocketConfig 설정으로 만들어지므로 (WebSocketConfig 가 이 빈을 참조하면 순환) 기동 후에 찾아 등록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WebSocketExecutorMetrics {
+
+    private static final Map<String, String> CHANNEL_EXECUTORS = Map.of(
+            "inbound", "clientInboundChannelExecutor",
+            "outbound", "clientOutboundChannelExecutor"
+    );
+
+    private final BeanFactory beanFactory;
+    private final MeterRegistry meterRegistry;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bindExecutorMetrics() {
+        CHANNEL_EXECUTORS.forEach((channel, beanName) -> {
+            if (!beanFactory.containsBean(beanName)) {
+                return;
+            }
+            ThreadPoolTaskExecutor executor = beanFactory.getBean(beanName, ThreadPoolTaskExecutor.class);
+            Gauge.builder("chat.websocket.executor.queued", executor, ThreadPoolTaskExecutor::getQueueSize)
+                    .tag("channel", channel)
+                    .register(meterRegistry);
+            Gauge.builder("chat.websocket.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                    .tag("channel", channel)
+                    .register(meterRegistry);
+            Gauge.builder("chat.websocket.executor.pool.size", executor, ThreadPoolTaskExecutor::getPoolSize)
+                    .tag("channel", channel)
+                    .register(meterRegistry);
+        });
+    }
+}
@@ -0,0 +1,216 @@
+package com.IMJM.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * 웹소켓 전송 구간 지표.
+ * <p>
+ * 세션 백로그 = clientOutboundChannel 에 들어간 프레임 수 - 실제로 소켓에 쓴 프레임 수.
+ * 출력 스레드 풀 대기열과 세션 송신 버퍼(sendBufferSizeLimit)에 쌓인 프레임을 합친 값으로,
+ * 느린 클라이언트가 송신 제한(sendTimeLimit / sendBufferSizeLimit)에 걸려 끊기기 전에 보인다.
+ * <ul>
+ *     <li>chat.websocket.send: 프레임 한 건 소켓 쓰기 시간 (히스토그램)</li>
+ *     <li>chat.websocket.session.backlog: 프레임을 넣을 때의 세션 백로그 (히스토그램), .max 는 현재 최대</li>
+ *     <li>chat.websocket.sessions.dropped{reason}: 송신 제한 초과(send-limit) / 응답 없음 / 전송 오류로 끊긴 세션</li>
+ *     <li>chat.websocket.frames{direction, destination}: 목적지별 프레임 수 (id 는 {id} 로 묶음)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class WebSocketTransportMetrics {
+
+    private static final Pattern USER_ID_SEGMENT = Pattern.compile("^/user/(?!queue/|topic/)[^/]+/");
+    // 릴레이 모드 사용자 목적지 (RelayUserDestinationInterceptor)
+    private static final Pattern RELAY_USER_ID_SEGMENT = Pattern.compile("^/topic/user\\..+?\\.(?=(?:queue|topic)\\.)");
+    // 세션별 목적지 접미사 -user{sessionId} (unresolved-user-destination 같은 이름은 그대로 둔다)
+    private static final Pattern SESSION_SUFFIX = Pattern.compile("-user[0-9A-Za-z][^/]*$");
+    private static final Pattern TRAILING_ID = Pattern.compile("([./])\\d+$");
+
+    private final MeterRegistry meterRegistry;
+    private final Timer sendTimer;
+    private final DistributionSummary backlogSummary;
+
+    private final ConcurrentHashMap<String, SessionStats> sessions = new ConcurrentHashMap<>();
+
+    public WebSocketTransportMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.sendTimer = Timer.builder("chat.websocket.send")
+                .description("웹소켓 프레임 한 건 소켓 쓰기 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.backlogSummary = DistributionSummary.builder("chat.websocket.session.backlog")
+                .description("프레임을 넣을 때 세션에 아직 못 보낸 프레임 수")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        meterRegistry.gaugeMapSize("chat.websocket.sessions", Tags.empty(), sessions);
+        meterRegistry.gauge("chat.websocket.session.backlog.max", Tags.empty(), this, WebSocketTransportMetrics::maxBacklog);
+    }
+
+    public WebSocketHandlerDecoratorFactory decoratorFactory() {
+        return InstrumentedHandler::new;
+    }
+
+    public ChannelInterceptor inboundInterceptor() {
+        return new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                countFrame("inbound", message);
+                return message;
+            }
+        };
+    }
+
+    public ChannelInterceptor outboundInterceptor() {
+        return new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                countFrame("outbound", message);
+                String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+                SessionStats stats = sessionId != null ? sessions.get(sessionId) : null;
+                if (stats != null) {
+                    stats.enqueued.incrementAndGet();
+                    backlogSummary.record(stats.backlog());
+                }
+                return message;
+            }
+        };
+    }
+
+    private void countFrame(String direction, Message<?> message) {
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+        if (type == SimpMessageType.HEARTBEAT) {
+            return;
+        }
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        meterRegistry.counter("chat.websocket.frames",
+                "direction", direction,
+                "type", type != null ? type.name() : "OTHER",
+                "destination", normalizeDestination(destination)).increment();
+    }
+
+    // 지표 태그 수가 사용자/채팅방 수만큼 늘지 않도록 id 부분을 묶는다
+    // /user/abc/queue/messages → /user/{id}/queue/messages, /topic/chat-room.12 → /topic/chat-room.{id}
+    // 릴레이 모드: /topic/user.abc.queue.messages → /topic/user.{id}.queue.messages
+    static String normalizeDestination(String destination) {
+        if (destination == null) {
+            return "none";
+        }
+        String normalized = USER_ID_SEGMENT.matcher(destination).replaceFirst("/user/{id}/");
+        normalized = RELAY_USER_ID_SEGMENT.matcher(normalized).replaceFirst("/topic/user.{id}.");
+        normalized = SESSION_SUFFIX.matcher(normalized).replaceFirst("");
+        return TRAILING_ID.matcher(normalized).replaceFirst("$1{id}");
+    }
+
+    private double maxBacklog() {
+        long max = 0;
+        for (SessionStats stats : sessions.values()) {
+            max = Math.max(max, stats.backlog());
+        }
+        return max;
+    }
+
+    private void dropped(String reason, WebSocketSession session, CloseStatus status) {
+        meterRegistry.counter("chat.websocket.sessions.dropped", "reason", reason).increment();
+        SessionStats stats = sessions.get(session.getId());
+        Principal principal = session.getPrincipal();
+        log.warn("웹소켓 세션 끊김: reason={}, session={}, principal={}, backlog={}, status={}",
+                reason, session.getId(), principal != null ? principal.getName() : null,
+                stats != null ? stats.backlog() : 0, status);
+    }
+
+    private static final class SessionStats {
+        private final AtomicLong enqueued = new AtomicLong();
+        private final AtomicLong flushed = new AtomicLong();
+
+        // 출력 채널을 거치지 않는 프레임(디코딩 오류 ERROR 등)이 있어 음수가 될 수 있다
+        long backlog() {
+            return Math.max(0, enqueued.get() - flushed.get());
+        }
+    }
+
+    // SubProtocolWebSocketHandler 바깥을 감싸 세션을 InstrumentedSession 으로 바꿔 넘긴다
+    // (송신 버퍼 ConcurrentWebSocketSessionDecorator 가 그 바깥을 다시 감싸므로 실제 소켓 쓰기만 측정된다)
+    private final class InstrumentedHandler extends WebSocketHandlerDecorator {
+
+        InstrumentedHandler(WebSocketHandler delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+            sessions.put(session.getId(), new SessionStats());
+            super.afterConnectionEstablished(new InstrumentedSession(session));
+        }
+
+        @Override
+        public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
+            dropped("transport-error", session, null);
+            super.handleTransportError(session, exception);
+        }
+
+        @Override
+        public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+            try {
+                super.afterConnectionClosed(session, closeStatus);
+            } finally {
+                sessions.remove(session.getId());
+            }
+        }
+    }
+
+    private final class InstrumentedSession extends WebSocketSessionDecorator {
+
+        InstrumentedSession(WebSocketSession session) {
+            super(session);
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            long start = System.nanoTime();
+            try {
+                super.sendMessage(message);
+            } finally {
+                sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                SessionStats stats = sessions.get(getId());
+                if (stats != null) {
+                    stats.flushed.incrementAndGet();
+                }
+            }
+        }
+
+        // SubProtocolWebSocketHandler 는 송신 제한 초과와 CONNECT 없는 세션 정리 때 SESSION_NOT_RELIABLE 로 닫는다
+        // (기본은 debug 로그뿐), 못 보낸 프레임이 남아 있으면 송신 제한 초과로 본다
+        @Override
+        public void close(CloseStatus status) throws IOException {
+            if (status.getCode() == CloseStatus.SESSION_NOT_RELIABLE.getCode()) {
+                SessionStats stats = sessions.get(getId());
+                dropped(stats != null && stats.backlog() > 0 ? "send-limit" : "unresponsive", this, status);
+            }
+            super.close(status);
+        }
+    }
+}
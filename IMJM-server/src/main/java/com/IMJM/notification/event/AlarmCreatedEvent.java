@@ -0,0 +1,16 @@
+package com.IMJM.notification.event;
+
+import com.IMJM.notification.dto.AlarmDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 알림 저장 트랜잭션 커밋 후 웹소켓으로 알림을 보내도록 알리는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class AlarmCreatedEvent {
+
+    private final String userId;
+    private final AlarmDto alarm;
+}
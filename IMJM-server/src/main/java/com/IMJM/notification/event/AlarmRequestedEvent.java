@@ -0,0 +1,19 @@
+package com.IMJM.notification.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 트랜잭션 커밋 후 알림을 별도 트랜잭션으로 저장하도록 요청하는 이벤트
+ * (알림 저장 실패가 요청한 트랜잭션을 중단시키지 않는다)
+ */
+@Getter
+@AllArgsConstructor
+public class AlarmRequestedEvent {
+
+    private final String userId;
+    private final String title;
+    private final String content;
+    private final String notificationType;
+    private final Integer referenceId;
+}
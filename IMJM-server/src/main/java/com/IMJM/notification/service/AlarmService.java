@@ -3,13 +3,20 @@ package com.IMJM.notification.service;
 import com.IMJM.common.entity.Alarm;
 import com.IMJM.common.entity.Users;
 import com.IMJM.notification.dto.AlarmDto;
+import com.IMJM.notification.event.AlarmCreatedEvent;
+import com.IMJM.notification.event.AlarmRequestedEvent;
 import com.IMJM.notification.repository.AlarmRepository;
 import com.IMJM.user.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.OffsetDateTime;
 import java.util.List;
@@ -17,12 +24,26 @@ import java.util.stream.Collectors;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class AlarmService {
 
     private final AlarmRepository alarmRepository;
     private final UserRepository userRepository;
     private final SimpMessagingTemplate messagingTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate requiresNewTransaction;
+
+    public AlarmService(AlarmRepository alarmRepository,
+                        UserRepository userRepository,
+                        SimpMessagingTemplate messagingTemplate,
+                        ApplicationEventPublisher eventPublisher,
+                        PlatformTransactionManager transactionManager) {
+        this.alarmRepository = alarmRepository;
+        this.userRepository = userRepository;
+        this.messagingTemplate = messagingTemplate;
+        this.eventPublisher = eventPublisher;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
 
     @Transactional
     public AlarmDto createAlarm(String userId, String title, String content,
@@ -52,14 +73,35 @@ public class AlarmService {
         // DTO 변환
         AlarmDto alarmDto = AlarmDto.fromEntity(alarm);
 
-        // WebSocket을 통해 알림 전송
+        // WebSocket을 통해 알림 전송 (알림 저장이 커밋된 뒤)
+        eventPublisher.publishEvent(new AlarmCreatedEvent(userId, alarmDto));
+
+        return alarmDto;
+    }
+
+    // 요청한 트랜잭션이 커밋된 뒤 새 트랜잭션으로 저장: 알림 실패가 채팅/예약 트랜잭션을 중단시키지 않는다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAlarmRequested(AlarmRequestedEvent event) {
+        try {
+            requiresNewTransaction.executeWithoutResult(status -> createAlarm(
+                    event.getUserId(),
+                    event.getTitle(),
+                    event.getContent(),
+                    event.getNotificationType(),
+                    event.getReferenceId()
+            ));
+        } catch (RuntimeException e) {
+            log.warn("알림 생성 실패 (무시됨). 사용자 ID: {}, 원인: {}", event.getUserId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAlarmCreated(AlarmCreatedEvent event) {
         messagingTemplate.convertAndSendToUser(
-                userId,
+                event.getUserId(),
                 "/queue/notifications",
-                alarmDto
+                event.getAlarm()
         );
-
-        return alarmDto;
     }
 
     @Transactional(readOnly = true)
@@ -1,7 +1,11 @@
 package com.IMJM.reservation.controller;
 
 import com.IMJM.reservation.dto.*;
+import com.IMJM.reservation.service.DuplicateReservationRequestException;
+import com.IMJM.reservation.service.IdempotencyKeyMismatchException;
+import com.IMJM.reservation.service.ReservationIdempotencyService;
 import com.IMJM.reservation.service.ReservationStylistService;
+import com.IMJM.reservation.service.SlotUnavailableException;
 import com.IMJM.user.dto.CustomOAuth2UserDto;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -55,14 +59,53 @@ public class ReservationController {
     @GetMapping("/reservations/available-times")
     public ResponseEntity<?> getAvailableTimes(
             @RequestParam("stylistId") Long stylistId,
-            @RequestParam String date
-
+            @RequestParam String date,
+            @AuthenticationPrincipal CustomOAuth2UserDto customOAuth2UserDto
     ) {
         LocalDate localDate = LocalDate.parse(date);
-        Map<String, List<String>> result = reservationStylistService.getAvailableAndBookedTimeMap(stylistId, localDate);
+        String userId = customOAuth2UserDto != null ? customOAuth2UserDto.getId() : null;
+        Map<String, List<String>> result = reservationStylistService.getAvailableAndBookedTimeMap(stylistId, localDate, userId);
         return ResponseEntity.ok(result);
     }
 
+    @GetMapping("/reservations/earliest-slots")
+    public ResponseEntity<?> getEarliestSlots(
+            @RequestParam String salonId,
+            @RequestParam Long serviceMenuId,
+            @RequestParam(defaultValue = "14") int days,
+            @RequestParam(defaultValue = "5") int limit,
+            @AuthenticationPrincipal CustomOAuth2UserDto customOAuth2UserDto
+    ) {
+        try {
+            String userId = customOAuth2UserDto != null ? customOAuth2UserDto.getId() : null;
+            List<EarliestSlotDto> slots = reservationStylistService.getEarliestSlots(salonId, serviceMenuId, days, limit, userId);
+            return ResponseEntity.ok(slots);
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    // 결제 화면 진입 시 슬롯 홀드 (다른 사용자가 결제 중이거나 이미 예약된 슬롯이면 409)
+    @PostMapping("/reservation/hold")
+    public ResponseEntity<?> holdSlot(@RequestBody SlotHoldRequestDto request,
+                                      @AuthenticationPrincipal CustomOAuth2UserDto customOAuth2UserDto
+    ) {
+        try {
+            SlotHoldDto hold = reservationStylistService.holdSlot(request, customOAuth2UserDto.getId());
+            return ResponseEntity.ok(hold);
+        } catch (SlotUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    @DeleteMapping("/reservation/hold")
+    public ResponseEntity<?> releaseSlot(@RequestBody SlotHoldRequestDto request,
+                                         @AuthenticationPrincipal CustomOAuth2UserDto customOAuth2UserDto
+    ) {
+        reservationStylistService.releaseSlot(request, customOAuth2UserDto.getId());
+        return ResponseEntity.noContent().build();
+    }
+
     @GetMapping("/reservations/service-menus/{salonId}")
     public ResponseEntity<?> getServiceMenu(@PathVariable String salonId) {
         List<ReservationServiceMenuDto> menus = reservationStylistService.getServiceMenusBySalonId(salonId);
@@ -108,22 +151,62 @@ public class ReservationController {
         }
     }
 
+    // Idempotency-Key 가 있으면 같은 키로 다시 온 요청(타임아웃 후 재시도)에 처음 결과를 그대로 돌려준다
     @PostMapping("/reservation/complete")
     public ResponseEntity<?> completeReservation(@RequestBody ReservationRequestDto  request,
+        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
         @AuthenticationPrincipal CustomOAuth2UserDto customOAuth2UserDto
     ) {
+        String userId = customOAuth2UserDto.getId();
+
+        if (idempotencyKey != null && !ReservationIdempotencyService.isValidKey(idempotencyKey)) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("success", false, "message", "잘못된 Idempotency-Key 입니다."));
+        }
+
+        String requestHash = idempotencyKey != null
+                ? reservationStylistService.idempotencyRequestHash(request) : null;
+
         try {
-            String userId = customOAuth2UserDto.getId();
+            if (idempotencyKey != null) {
+                Long replayedId = reservationStylistService.findCompletedReservationId(userId, idempotencyKey, requestHash);
+                if (replayedId != null) {
+                    return ResponseEntity.ok(completedResponse(replayedId, true));
+                }
+            }
+
             log.info("예약 완료 요청: {}", request);
 
-            Long reservationId = reservationStylistService.completeReservation(request, userId);
+            Long reservationId = reservationStylistService.completeReservation(request, userId, idempotencyKey, requestHash);
+            if (idempotencyKey != null) {
+                reservationStylistService.rememberCompletedReservation(userId, idempotencyKey, requestHash, reservationId);
+            }
+
+            return ResponseEntity.ok(completedResponse(reservationId, false));
+        } catch (DuplicateReservationRequestException e) {
+            // 동시에 온 같은 요청이 먼저 커밋된 경우
+            try {
+                Long replayedId = reservationStylistService.findCompletedReservationId(userId, idempotencyKey, requestHash);
+                if (replayedId != null) {
+                    return ResponseEntity.ok(completedResponse(replayedId, true));
+                }
+            } catch (IdempotencyKeyMismatchException mismatch) {
+                return idempotencyKeyMismatch(mismatch);
+            }
 
-            Map<String, Object> successResponse = new HashMap<>();
-            successResponse.put("success", true);
-            successResponse.put("message", "예약이 성공적으로 완료되었습니다.");
-            successResponse.put("reservationId", reservationId);
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
 
-            return ResponseEntity.ok(successResponse);
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+        } catch (IdempotencyKeyMismatchException e) {
+            return idempotencyKeyMismatch(e);
+        } catch (SlotUnavailableException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
         } catch (Exception e) {
             log.error("예약 처리 중 오류 발생", e);
             Map<String, Object> errorResponse = new HashMap<>();
@@ -135,6 +218,24 @@ public class ReservationController {
         }
     }
 
+    // 같은 키를 다른 본문에 다시 쓴 요청: 저장된 예약을 돌려주지 않는다
+    private ResponseEntity<Map<String, Object>> idempotencyKeyMismatch(IdempotencyKeyMismatchException e) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("success", false);
+        errorResponse.put("message", e.getMessage());
+
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(errorResponse);
+    }
+
+    private Map<String, Object> completedResponse(Long reservationId, boolean replayed) {
+        Map<String, Object> successResponse = new HashMap<>();
+        successResponse.put("success", true);
+        successResponse.put("message", "예약이 성공적으로 완료되었습니다.");
+        successResponse.put("reservationId", reservationId);
+        successResponse.put("replayed", replayed);
+        return successResponse;
+    }
+
 
 
 }
@@ -0,0 +1,14 @@
+package com.IMJM.reservation.dto;
+
+import lombok.*;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EarliestSlotDto {
+    private Long stylistId;
+    private String stylistName;
+    private String date;    // yyyy-MM-dd
+    private String time;    // HH:mm
+}
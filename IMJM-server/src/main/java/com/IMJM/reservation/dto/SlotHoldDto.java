@@ -0,0 +1,16 @@
+package com.IMJM.reservation.dto;
+
+import lombok.*;
+
+import java.time.OffsetDateTime;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SlotHoldDto {
+    private Long stylistId;
+    private String reservationDate;
+    private String reservationTime;
+    private OffsetDateTime expiresAt;
+}
@@ -0,0 +1,10 @@
+package com.IMJM.reservation.dto;
+
+import lombok.Data;
+
+@Data
+public class SlotHoldRequestDto {
+    private Long stylistId;
+    private String reservationDate;     // yyyy-MM-dd
+    private String reservationTime;     // HH:mm
+}
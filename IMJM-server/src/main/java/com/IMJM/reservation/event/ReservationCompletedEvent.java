@@ -0,0 +1,15 @@
+package com.IMJM.reservation.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 예약 저장 트랜잭션 커밋 후 후속 작업(reservation_outbox 행)을 바로 처리하도록 알리는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class ReservationCompletedEvent {
+
+    private final Long outboxId;
+    private final Long reservationId;
+}
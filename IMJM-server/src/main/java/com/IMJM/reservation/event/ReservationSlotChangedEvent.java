@@ -0,0 +1,26 @@
+package com.IMJM.reservation.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 예약 생성/일정 변경 트랜잭션 커밋 후 예약 슬롯 비트맵에 반영하는 이벤트.
+ * 새 예약이면 previousDate/previousTime 은 null 이다.
+ */
+@Getter
+@AllArgsConstructor
+public class ReservationSlotChangedEvent {
+
+    private final Long stylistId;
+    private final LocalDate previousDate;
+    private final LocalTime previousTime;
+    private final LocalDate date;
+    private final LocalTime time;
+
+    public static ReservationSlotChangedEvent booked(Long stylistId, LocalDate date, LocalTime time) {
+        return new ReservationSlotChangedEvent(stylistId, null, null, date, time);
+    }
+}
@@ -0,0 +1,23 @@
+package com.IMJM.reservation.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 슬롯 홀드가 DB 에 기록된 뒤 트랜잭션 커밋 후 메모리 홀드 인덱스에 반영하는 이벤트.
+ * 예약 완료 트랜잭션이 롤백되면 발행되지 않아 메모리에 남지 않는다.
+ */
+@Getter
+@AllArgsConstructor
+public class SlotHoldAcquiredEvent {
+
+    private final Long stylistId;
+    private final LocalDate date;
+    private final LocalTime time;
+    private final String userId;
+    private final Instant expiresAt;
+}
@@ -0,0 +1,25 @@
+package com.IMJM.reservation.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 미용실/스타일리스트 영업시간, 휴무일이 바뀌었거나 스타일리스트가 삭제되었을 때
+ * 캐시된 예약 슬롯 비트맵을 버리도록 알리는 이벤트.
+ * 미용실 단위 변경이면 stylistId 는 null 이다.
+ */
+@Getter
+@AllArgsConstructor
+public class StylistScheduleChangedEvent {
+
+    private final String salonId;
+    private final Long stylistId;
+
+    public static StylistScheduleChangedEvent salon(String salonId) {
+        return new StylistScheduleChangedEvent(salonId, null);
+    }
+
+    public static StylistScheduleChangedEvent stylist(String salonId, Long stylistId) {
+        return new StylistScheduleChangedEvent(salonId, stylistId);
+    }
+}
@@ -3,6 +3,8 @@ package com.IMJM.reservation.repository;
 
 import com.IMJM.common.entity.AdminStylist;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,4 +17,10 @@ public interface AdminStylistRepository extends JpaRepository<AdminStylist, Long
 
     Optional<AdminStylist> findByStylistId(Long stylistId);
 
+    @Query("SELECT s FROM AdminStylist s JOIN FETCH s.salon WHERE s.stylistId = :stylistId")
+    Optional<AdminStylist> findWithSalonByStylistId(@Param("stylistId") Long stylistId);
+
+    @Query("SELECT s FROM AdminStylist s JOIN FETCH s.salon WHERE s.salon.id = :salonId ORDER BY s.stylistId")
+    List<AdminStylist> findWithSalonBySalonId(@Param("salonId") String salonId);
+
 }
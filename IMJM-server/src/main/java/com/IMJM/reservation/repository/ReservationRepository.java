@@ -20,6 +20,17 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     @Query("SELECT r.reservationTime FROM Reservation r WHERE r.stylist.stylistId = :stylistId AND r.reservationDate = :date")
     List<LocalTime> findBookedTimesByStylistAndDate(Long stylistId, LocalDate date);
 
+    // [stylistId, reservationDate, reservationTime]
+    @Query("""
+            SELECT r.stylist.stylistId, r.reservationDate, r.reservationTime
+            FROM Reservation r
+            WHERE r.stylist.salon.id = :salonId
+              AND r.reservationDate BETWEEN :startDate AND :endDate
+            """)
+    List<Object[]> findBookedSlotsBySalonAndDateRange(@Param("salonId") String salonId,
+                                                      @Param("startDate") LocalDate startDate,
+                                                      @Param("endDate") LocalDate endDate);
+
     @Query("""
             SELECT r.user.id, COUNT(r)
             FROM Reservation r
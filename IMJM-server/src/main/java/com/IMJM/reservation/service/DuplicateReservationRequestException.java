@@ -0,0 +1,10 @@
+package com.IMJM.reservation.service;
+
+/**
+ * 같은 Idempotency-Key 로 먼저 들어온 예약 요청이 이미 처리되었거나 처리 중일 때
+ */
+public class DuplicateReservationRequestException extends RuntimeException {
+    public DuplicateReservationRequestException(String message) {
+        super(message);
+    }
+}
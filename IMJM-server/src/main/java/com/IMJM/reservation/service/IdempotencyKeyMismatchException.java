@@ -0,0 +1,10 @@
+package com.IMJM.reservation.service;
+
+/**
+ * 이미 쓰인 Idempotency-Key 로 본문이 다른 예약 요청이 들어왔을 때
+ */
+public class IdempotencyKeyMismatchException extends RuntimeException {
+    public IdempotencyKeyMismatchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,67 @@
+package com.IMJM.reservation.service;
+
+import com.IMJM.chat.dto.ChatMessageDto;
+import com.IMJM.chat.dto.ChatRoomDto;
+import com.IMJM.chat.service.ChatService;
+import com.IMJM.common.entity.AdminStylist;
+import com.IMJM.common.entity.Reservation;
+import com.IMJM.reservation.repository.ReservationRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+
+/**
+ * 예약 완료 후속 작업: 채팅방 생성, 미용실 → 사용자 예약 완료 메시지 전송 (알림은 ChatService.sendMessage 가 요청한다).
+ * <p>
+ * {@link ReservationOutboxService} 가 outbox 행을 잠근 트랜잭션 안에서 호출하므로,
+ * 실패하면 채팅방/메시지 저장이 함께 롤백되고 다음 시도에서 처음부터 다시 한다.
+ * 웹소켓 프레임과 알림은 그 트랜잭션(outbox DONE 표시 포함)이 커밋된 뒤에만 나가므로 재시도해도 한 번만 전달된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationCompletedHandler {
+
+    private final ReservationRepository reservationRepository;
+    private final ChatService chatService;
+
+    public void handle(Long reservationId) {
+        Reservation reservation = reservationRepository.findById(reservationId)
+                .orElseThrow(() -> new EntityNotFoundException("예약을 찾을 수 없습니다: " + reservationId));
+
+        String userId = reservation.getUser().getId();
+        AdminStylist stylist = reservation.getStylist();
+        String salonId = stylist.getSalon().getId();
+
+        // 채팅방 생성
+        ChatRoomDto chatRoom = chatService.getChatRoom(userId, salonId);
+        log.info("채팅방 생성 완료. 채팅방 ID: {}", chatRoom.getId());
+
+        // 미용실에서 사용자에게 보내는 메시지
+        String welcomeMessage = String.format(
+                "안녕하세요! 예약이 완료되었습니다.\n" +
+                        "예약 일시: %s월 %s일 %s시\n" +
+                        "담당 스타일리스트: %s\n" +
+                        "시술 종류: %s\n" +
+                        "문의 사항이 있으시면 언제든지 채팅으로 연락주세요😊",
+                reservation.getReservationDate().getMonthValue(),
+                reservation.getReservationDate().getDayOfMonth(),
+                reservation.getReservationTime().getHour(),
+                stylist.getName(),
+                reservation.getReservationServiceName()
+        );
+
+        ChatMessageDto messageDto = ChatMessageDto.builder()
+                .chatRoomId(chatRoom.getId())
+                .senderType("SALON") // 미용실에서 보내는 메시지
+                .senderId(salonId)
+                .message(welcomeMessage)
+                .photos(new ArrayList<>()) // 빈 사진 목록
+                .build();
+
+        chatService.sendMessage(messageDto);
+    }
+}
@@ -0,0 +1,171 @@
+package com.IMJM.reservation.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 예약 완료 요청 멱등 처리 (reservation_idempotency_key, V16).
+ * <p>
+ * 모바일 클라이언트가 타임아웃 뒤 같은 Idempotency-Key 로 다시 보내면, 예약 트랜잭션을 다시 돌지 않고
+ * 메모리 LRU 또는 PK 조회 한 번으로 저장된 예약 ID 를 돌려준다.
+ * <ul>
+ *     <li>claim: 예약 트랜잭션 맨 앞에서 키를 넣는다. 같은 키의 요청이 동시에 오면 뒤 요청은 PK 잠금에서 기다렸다가
+ *     앞 요청이 커밋되면 중복으로 실패하고, 롤백되면 그대로 진행한다</li>
+ *     <li>record: 예약 저장 후 같은 트랜잭션에서 예약 ID 를 채운다 (예약과 함께 커밋/롤백)</li>
+ * </ul>
+ * 키와 함께 요청 본문 해시(V17)를 저장해, 같은 키로 본문이 다른 요청이 오면 저장된 예약 대신
+ * {@link IdempotencyKeyMismatchException} 을 던진다. 키는 사용자별로 구분하고 retention-hours 가 지나면 지운다.
+ */
+@Slf4j
+@Service
+public class ReservationIdempotencyService {
+
+    public static final int MAX_KEY_LENGTH = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final int maxSize;
+    private final LinkedHashMap<String, CompletedRequest> completed;
+
+    @Value("${reservation.idempotency.retention-hours}")
+    private int retentionHours;
+
+    public ReservationIdempotencyService(JdbcTemplate jdbcTemplate,
+                                         ObjectMapper objectMapper,
+                                         @Value("${reservation.idempotency.cache-size}") int cacheSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.maxSize = cacheSize;
+        // accessOrder = true: 조회할 때마다 최근 사용 순으로 재배치
+        this.completed = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompletedRequest> eldest) {
+                return size() > ReservationIdempotencyService.this.maxSize;
+            }
+        };
+    }
+
+    public static boolean isValidKey(String idempotencyKey) {
+        return idempotencyKey != null && !idempotencyKey.isBlank() && idempotencyKey.length() <= MAX_KEY_LENGTH;
+    }
+
+    // 본문의 JSON 을 SHA-256 으로 요약한다 (맵은 키 순서로 정렬해 같은 내용이면 같은 해시)
+    public String requestHash(Object request) {
+        try {
+            byte[] body = objectMapper.writer()
+                    .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                    .writeValueAsBytes(request);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("예약 요청을 직렬화할 수 없습니다.", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 이미 완료된 요청의 예약 ID, 없거나 아직 처리 중이면 null
+     *
+     * @throws IdempotencyKeyMismatchException 같은 키로 저장된 요청과 본문 해시가 다를 때
+     */
+    public Long findReservationId(String userId, String idempotencyKey, String requestHash) {
+        String cacheKey = cacheKey(userId, idempotencyKey);
+        CompletedRequest cached;
+        synchronized (this) {
+            cached = completed.get(cacheKey);
+        }
+
+        if (cached == null) {
+            List<CompletedRequest> stored = jdbcTemplate.query(
+                    "SELECT reservation_id, request_hash FROM reservation_idempotency_key " +
+                            "WHERE user_id = ? AND idempotency_key = ? AND reservation_id IS NOT NULL",
+                    (rs, rowNum) -> new CompletedRequest(rs.getLong("reservation_id"), rs.getString("request_hash")),
+                    userId, idempotencyKey);
+            if (stored.isEmpty()) {
+                return null;
+            }
+            cached = stored.get(0);
+            synchronized (this) {
+                completed.put(cacheKey, cached);
+            }
+        }
+
+        checkSameRequest(cached.requestHash, requestHash);
+        return cached.reservationId;
+    }
+
+    /**
+     * 예약 트랜잭션 안에서 가장 먼저 호출한다.
+     *
+     * @throws DuplicateReservationRequestException 같은 키의 요청이 이미 커밋된 경우
+     */
+    public void claim(String userId, String idempotencyKey, String requestHash) {
+        try {
+            jdbcTemplate.update(
+                    "INSERT INTO reservation_idempotency_key (user_id, idempotency_key, request_hash) VALUES (?, ?, ?)",
+                    userId, idempotencyKey, requestHash);
+        } catch (DuplicateKeyException e) {
+            throw new DuplicateReservationRequestException("이미 처리된 예약 요청입니다.");
+        }
+    }
+
+    public void record(String userId, String idempotencyKey, Long reservationId) {
+        jdbcTemplate.update(
+                "UPDATE reservation_idempotency_key SET reservation_id = ? WHERE user_id = ? AND idempotency_key = ?",
+                reservationId, userId, idempotencyKey);
+    }
+
+    // 커밋된 결과만 넣는다 (예약 트랜잭션이 끝난 뒤 호출)
+    public synchronized void remember(String userId, String idempotencyKey, String requestHash, Long reservationId) {
+        completed.put(cacheKey(userId, idempotencyKey), new CompletedRequest(reservationId, requestHash));
+    }
+
+    @Scheduled(cron = "${reservation.idempotency.purge-cron}", zone = "Asia/Seoul")
+    public void purgeExpiredKeys() {
+        try {
+            int purged = jdbcTemplate.update(
+                    "DELETE FROM reservation_idempotency_key WHERE created_at < now() - make_interval(hours => ?)",
+                    retentionHours);
+            log.info("보관 기간이 지난 예약 멱등 키 삭제: {}건", purged);
+        } catch (DataAccessException e) {
+            log.warn("예약 멱등 키 삭제 실패, 다음 주기에 다시 시도", e);
+        }
+    }
+
+    private static String cacheKey(String userId, String idempotencyKey) {
+        return userId + ":" + idempotencyKey;
+    }
+
+    // 해시가 없는 행은 V17 이전에 저장된 키라 비교하지 않는다
+    private static void checkSameRequest(String storedHash, String requestHash) {
+        if (storedHash != null && !Objects.equals(storedHash, requestHash)) {
+            throw new IdempotencyKeyMismatchException("같은 Idempotency-Key 로 다른 내용의 예약 요청이 들어왔습니다.");
+        }
+    }
+
+    private static final class CompletedRequest {
+        private final Long reservationId;
+        private final String requestHash;
+
+        private CompletedRequest(Long reservationId, String requestHash) {
+            this.reservationId = reservationId;
+            this.requestHash = requestHash;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.IMJM.reservation.service;
+
+import com.IMJM.reservation.event.ReservationCompletedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 예약 후속 작업 outbox (reservation_outbox, V15).
+ * <p>
+ * 예약 트랜잭션은 outbox 행 INSERT 까지만 하고, 채팅방/예약 완료 메시지/알림은 커밋 후
+ * reservationEventExecutor 에서 {@link ReservationCompletedHandler} 로 처리한다.
+ * <ul>
+ *     <li>처리: 행을 FOR UPDATE SKIP LOCKED 로 잠근 트랜잭션 안에서 후속 작업과 DONE 표시를 함께 커밋 (한 번만 반영)</li>
+ *     <li>실패: attempts 를 올리고 base-backoff-seconds * 2^(attempts-1) 뒤로 미룬다, max-attempts 를 넘으면 FAILED</li>
+ *     <li>폴링: 실행기 대기열이 가득 찼거나 노드가 죽어 처리되지 못한 행, 재시도 시각이 된 행을 주기적으로 다시 넣는다</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class ReservationOutboxService {
+
+    public static final String RESERVATION_COMPLETED = "RESERVATION_COMPLETED";
+
+    private static final int POLL_BATCH_SIZE = 100;
+
+    // 바로 처리 경로(커밋 후 이벤트)가 먼저 가져가도록 폴링은 조금 늦게 본다
+    private static final int IMMEDIATE_GRACE_SECONDS = 30;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ReservationCompletedHandler reservationCompletedHandler;
+    private final ThreadPoolTaskExecutor reservationEventExecutor;
+
+    @Value("${reservation.outbox.max-attempts}")
+    private int maxAttempts;
+
+    @Value("${reservation.outbox.base-backoff-seconds}")
+    private long baseBackoffSeconds;
+
+    public ReservationOutboxService(JdbcTemplate jdbcTemplate,
+                                    TransactionTemplate transactionTemplate,
+                                    ReservationCompletedHandler reservationCompletedHandler,
+                                    @Qualifier("reservationEventExecutor") ThreadPoolTaskExecutor reservationEventExecutor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.reservationCompletedHandler = reservationCompletedHandler;
+        this.reservationEventExecutor = reservationEventExecutor;
+    }
+
+    // 예약 트랜잭션 안에서 호출: 예약과 함께 커밋/롤백된다
+    public Long enqueue(Long reservationId, String eventType) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO reservation_outbox (reservation_id, event_type, next_attempt_at) " +
+                        "VALUES (?, ?, now() + make_interval(secs => ?)) RETURNING id",
+                Long.class,
+                reservationId, eventType, IMMEDIATE_GRACE_SECONDS);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReservationCompleted(ReservationCompletedEvent event) {
+        submit(event.getOutboxId());
+    }
+
+    @Scheduled(initialDelayString = "${reservation.outbox.poll-interval-ms}",
+            fixedDelayString = "${reservation.outbox.poll-interval-ms}")
+    public void pollDue() {
+        try {
+            List<Long> dueIds = jdbcTemplate.queryForList(
+                    "SELECT id FROM reservation_outbox " +
+                            "WHERE status = 'PENDING' AND next_attempt_at <= now() " +
+                            "ORDER BY next_attempt_at LIMIT ?",
+                    Long.class, POLL_BATCH_SIZE);
+            for (Long outboxId : dueIds) {
+                if (!submit(outboxId)) {
+                    break;
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("예약 outbox 조회 실패, 다음 주기에 다시 시도", e);
+        }
+    }
+
+    private boolean submit(Long outboxId) {
+        try {
+            reservationEventExecutor.execute(() -> process(outboxId));
+            return true;
+        } catch (TaskRejectedException e) {
+            // 대기열이 가득 차면 요청 스레드를 붙잡지 않고 폴링에 맡긴다
+            log.warn("예약 후속 작업 대기열이 가득 차 폴링으로 미룹니다. outbox ID: {}", outboxId);
+            return false;
+        }
+    }
+
+    void process(Long outboxId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // 다른 스레드/노드가 처리 중이거나 이미 끝난 행이면 비어 있다
+                List<Object[]> rows = jdbcTemplate.query(
+                        "SELECT reservation_id, event_type FROM reservation_outbox " +
+                                "WHERE id = ? AND status = 'PENDING' FOR UPDATE SKIP LOCKED",
+                        (rs, rowNum) -> new Object[]{rs.getLong("reservation_id"), rs.getString("event_type")},
+                        outboxId);
+                if (rows.isEmpty()) {
+                    return;
+                }
+
+                Long reservationId = (Long) rows.get(0)[0];
+                String eventType = (String) rows.get(0)[1];
+                if (RESERVATION_COMPLETED.equals(eventType)) {
+                    reservationCompletedHandler.handle(reservationId);
+                } else {
+                    throw new IllegalStateException("알 수 없는 예약 outbox 이벤트: " + eventType);
+                }
+
+                jdbcTemplate.update(
+                        "UPDATE reservation_outbox SET status = 'DONE', attempts = attempts + 1, " +
+                                "processed_at = now(), last_error = NULL WHERE id = ?",
+                        outboxId);
+            });
+        } catch (Exception e) {
+            recordFailure(outboxId, e);
+        }
+    }
+
+    private void recordFailure(Long outboxId, Exception cause) {
+        try {
+            Integer attempts = jdbcTemplate.queryForObject(
+                    "UPDATE reservation_outbox SET attempts = attempts + 1, " +
+                            "status = CASE WHEN attempts + 1 >= ? THEN 'FAILED' ELSE 'PENDING' END, " +
+                            "next_attempt_at = now() + make_interval(secs => ? * power(2, attempts)), " +
+                            "last_error = ? " +
+                            "WHERE id = ? RETURNING attempts",
+                    Integer.class,
+                    maxAttempts, baseBackoffSeconds, String.valueOf(cause.getMessage()), outboxId);
+
+            if (attempts != null && attempts >= maxAttempts) {
+                log.error("예약 후속 작업 {}회 실패로 중단. outbox ID: {}", attempts, outboxId, cause);
+            } else {
+                log.warn("예약 후속 작업 실패({}회), 다시 시도 예정. outbox ID: {}, 원인: {}",
+                        attempts, outboxId, cause.getMessage());
+            }
+        } catch (DataAccessException e) {
+            // 상태를 못 바꿨으면 PENDING 그대로 남아 폴링에서 다시 처리된다
+            log.error("예약 outbox 실패 기록 실패. outbox ID: {}", outboxId, e);
+        }
+    }
+}
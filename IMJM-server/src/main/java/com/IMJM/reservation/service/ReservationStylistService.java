@@ -4,11 +4,10 @@ import com.IMJM.admin.repository.BlacklistRepository;
 import com.IMJM.admin.repository.CouponRepository;
 import com.IMJM.admin.repository.ReservationCouponRepository;
 import com.IMJM.admin.repository.ServiceMenuRepository;
-import com.IMJM.chat.dto.ChatMessageDto;
-import com.IMJM.chat.dto.ChatRoomDto;
-import com.IMJM.chat.service.ChatService;
 import com.IMJM.common.entity.*;
 import com.IMJM.reservation.dto.*;
+import com.IMJM.reservation.event.ReservationCompletedEvent;
+import com.IMJM.reservation.event.ReservationSlotChangedEvent;
 import com.IMJM.reservation.repository.AdminStylistRepository;
 import com.IMJM.reservation.repository.PaymentRepository;
 import com.IMJM.reservation.repository.PointUsageRepository;
@@ -17,13 +16,14 @@ import com.IMJM.user.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -47,10 +47,26 @@ public class ReservationStylistService {
 
     private final PointUsageRepository pointUsageRepository;
 
-    private final ChatService chatService;
-
     private final BlacklistRepository blacklistRepository;
 
+    private final SlotAvailabilityService slotAvailabilityService;
+
+    private final SlotHoldRegistry slotHoldRegistry;
+
+    private final SlotHoldService slotHoldService;
+
+    private final ReservationOutboxService reservationOutboxService;
+
+    private final ReservationIdempotencyService reservationIdempotencyService;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${reservation.earliest-slots.max-days}")
+    private int earliestSlotMaxDays;
+
+    @Value("${reservation.earliest-slots.max-limit}")
+    private int earliestSlotMaxLimit;
+
     @Transactional(readOnly = true)
     public List<ReservationStylistDto> getStylistsBySalon(String salonId, String userId) {
         boolean isBlacklisted = blacklistRepository.existsByUser_IdAndSalon_Id(userId, salonId);
@@ -66,43 +82,46 @@ public class ReservationStylistService {
                 .orElseThrow(() -> new EntityNotFoundException("해당 스타일리스트가 없습니다."));
     }
 
-    @Transactional(readOnly = true)
-    public Map<String, List<String>> getAvailableAndBookedTimeMap(Long stylistId, LocalDate date) {
-        AdminStylist stylist = adminStylistRepository.findById(stylistId)
-                .orElseThrow(() -> new RuntimeException("스타일리스트를 찾을 수 없습니다."));
-
-        LocalTime salonStart = stylist.getSalon().getStartTime();
-        LocalTime salonEnd = stylist.getSalon().getEndTime();
+    // 슬롯 비트맵 캐시에서 조회 (캐시에 없을 때만 DB 조회), 다른 사용자가 결제 중인 슬롯은 heldTimes 로 분리
+    public Map<String, List<String>> getAvailableAndBookedTimeMap(Long stylistId, LocalDate date, String userId) {
+        StylistDaySlots slots = slotAvailabilityService.getDay(stylistId, date);
+        long[] held = slots.slotMask(slotHoldRegistry.heldTimes(stylistId, date, userId));
 
-        LocalTime stylistStart = stylist.getStartTime();
-        LocalTime stylistEnd = stylist.getEndTime();
-
-        int timeUnit = stylist.getSalon().getTimeUnit();
+        Map<String, List<String>> result = new HashMap<>();
+        result.put("availableTimes", slots.availableTimes(held));
+        result.put("bookedTimes", slots.bookedTimes());
+        result.put("heldTimes", slots.heldTimes(held));
 
-        LocalTime startTime = stylistStart.isBefore(salonStart) ? salonStart : stylistStart;
-        LocalTime endTime = stylistEnd.isAfter(salonEnd) ? salonEnd : stylistEnd;
+        return result;
+    }
 
-        List<LocalTime> bookedTimes = reservationRepository.findBookedTimesByStylistAndDate(stylistId, date);
-        Set<LocalTime> bookedTimeSet = new HashSet<>(bookedTimes);
+    // 시술 메뉴에 소요 시간이 없어 모든 메뉴가 한 슬롯을 차지하므로, 메뉴는 해당 미용실 메뉴인지만 확인한다
+    public List<EarliestSlotDto> getEarliestSlots(String salonId, Long serviceMenuId, int days, int limit, String userId) {
+        if (!serviceMenuRepository.existsByIdAndSalon_Id(serviceMenuId, salonId)) {
+            throw new EntityNotFoundException("서비스 메뉴를 찾을 수 없습니다.");
+        }
 
-        List<String> availableTimes = new ArrayList<>();
-        List<String> bookedTimesFormatted = bookedTimes.stream()
-                .map(time -> time.format(DateTimeFormatter.ofPattern("HH:mm")))
-                .toList();
+        int searchDays = Math.min(Math.max(days, 1), earliestSlotMaxDays);
+        int searchLimit = Math.min(Math.max(limit, 1), earliestSlotMaxLimit);
 
-        LocalTime current = startTime;
-        while (current.plusMinutes(timeUnit).minusNanos(1).isBefore(endTime)) {
-            if (!bookedTimeSet.contains(current)) {
-                availableTimes.add(current.format(DateTimeFormatter.ofPattern("HH:mm")));
-            }
-            current = current.plusMinutes(timeUnit);
-        }
+        return slotAvailabilityService.findEarliestSlots(
+                salonId, LocalDate.now(), LocalTime.now(), searchDays, searchLimit, userId);
+    }
 
-        Map<String, List<String>> result = new HashMap<>();
-        result.put("availableTimes", availableTimes);
-        result.put("bookedTimes", bookedTimesFormatted);
+    public SlotHoldDto holdSlot(SlotHoldRequestDto request, String userId) {
+        return slotHoldService.acquire(
+                request.getStylistId(),
+                LocalDate.parse(request.getReservationDate()),
+                LocalTime.parse(request.getReservationTime()),
+                userId);
+    }
 
-        return result;
+    public void releaseSlot(SlotHoldRequestDto request, String userId) {
+        slotHoldService.release(
+                request.getStylistId(),
+                LocalDate.parse(request.getReservationDate()),
+                LocalTime.parse(request.getReservationTime()),
+                userId);
     }
 
     public List<ReservationServiceMenuDto> getServiceMenusBySalonId(String salonId) {
@@ -171,13 +190,43 @@ public class ReservationStylistService {
     }
 
 
+    // Idempotency-Key 와 함께 저장해 같은 키로 다른 본문이 오면 거절한다
+    public String idempotencyRequestHash(ReservationRequestDto request) {
+        return reservationIdempotencyService.requestHash(request);
+    }
+
+    // 같은 Idempotency-Key 로 이미 완료된 예약 ID (트랜잭션 없이 캐시 또는 PK 조회 한 번)
+    public Long findCompletedReservationId(String userId, String idempotencyKey, String requestHash) {
+        return reservationIdempotencyService.findReservationId(userId, idempotencyKey, requestHash);
+    }
+
+    public void rememberCompletedReservation(String userId, String idempotencyKey, String requestHash,
+                                             Long reservationId) {
+        reservationIdempotencyService.remember(userId, idempotencyKey, requestHash, reservationId);
+    }
+
+    // idempotencyKey 가 null 이면 멱등 처리 없이 예약한다
     @Transactional
-    public Long completeReservation(ReservationRequestDto request, String userId) {
+    public Long completeReservation(ReservationRequestDto request, String userId,
+                                    String idempotencyKey, String requestHash) {
         log.info("예약 완료 처리 시작: {}", request);
 
         try {
+            // 같은 키로 동시에 온 재시도는 여기서 앞 요청이 끝날 때까지 기다린다
+            if (idempotencyKey != null) {
+                reservationIdempotencyService.claim(userId, idempotencyKey, requestHash);
+            }
+
             Users user = findUserById(userId);
             AdminStylist stylist = findStylistById(request.getPaymentRequest().getReservation().getStylistId());
+
+            // 결제/포인트/쿠폰 처리 전에 슬롯 확보 (결제 화면 진입 때 잡은 홀드를 확인하고 연장)
+            slotHoldService.acquire(
+                    stylist.getStylistId(),
+                    LocalDate.parse(request.getPaymentRequest().getReservation().getReservationDate()),
+                    LocalTime.parse(request.getPaymentRequest().getReservation().getReservationTime()),
+                    userId);
+
             ServiceMenu serviceMenu = findServiceMenuById(request.getPaymentRequest().getReservation().getServiceMenuId());
 
             int usedPoints = Optional.ofNullable(request.getPaymentInfo().getPointUsed()).orElse(0);
@@ -188,6 +237,8 @@ public class ReservationStylistService {
             Reservation reservation = createReservation(request, user, stylist, serviceMenu);
             Reservation savedReservation = reservationRepository.save(reservation);
             log.info("예약 정보 저장 완료. 예약 ID: {}", savedReservation.getId());
+            eventPublisher.publishEvent(ReservationSlotChangedEvent.booked(
+                    stylist.getStylistId(), savedReservation.getReservationDate(), savedReservation.getReservationTime()));
 
             Payment payment = createPayment(request, savedReservation);
             Payment savedPayment = paymentRepository.save(payment);
@@ -199,42 +250,22 @@ public class ReservationStylistService {
                 processCouponUsage(request, savedReservation);
             }
 
-            String salonId = stylist.getSalon().getId();
-
-            // 채팅방 생성
-            ChatRoomDto chatRoom = chatService.getChatRoom(userId, salonId);
-            log.info("채팅방 생성 완료. 채팅방 ID: {}", chatRoom.getId());
-
-            // 예약 완료 환영 메시지 전송
-            LocalDate reservationDate = LocalDate.parse(request.getPaymentRequest().getReservation().getReservationDate());
-            LocalTime reservationTime = LocalTime.parse(request.getPaymentRequest().getReservation().getReservationTime());
-            String serviceName = serviceMenu.getServiceName();
-
-            // 미용실에서 사용자에게 보내는 메시지
-            String welcomeMessage = String.format(
-                    "안녕하세요! 예약이 완료되었습니다.\n" +
-                            "예약 일시: %s월 %s일 %s시\n" +
-                            "담당 스타일리스트: %s\n" +
-                            "시술 종류: %s\n" +
-                            "문의 사항이 있으시면 언제든지 채팅으로 연락주세요😊",
-                    reservationDate.getMonthValue(),
-                    reservationDate.getDayOfMonth(),
-                    reservationTime.getHour(),
-                    stylist.getName(),
-                    serviceName
-            );
-
-            ChatMessageDto messageDto = ChatMessageDto.builder()
-                    .chatRoomId(chatRoom.getId())
-                    .senderType("SALON") // 미용실에서 보내는 메시지
-                    .senderId(salonId)
-                    .message(welcomeMessage)
-                    .photos(new ArrayList<>()) // 빈 사진 목록
-                    .build();
-
-            chatService.sendMessage(messageDto);
+            // 채팅방 생성, 예약 완료 메시지, 알림은 커밋 후 비동기로 처리 (실패 시 outbox 에서 재시도)
+            Long outboxId = reservationOutboxService.enqueue(
+                    savedReservation.getId(), ReservationOutboxService.RESERVATION_COMPLETED);
+            eventPublisher.publishEvent(new ReservationCompletedEvent(outboxId, savedReservation.getId()));
+
+            if (idempotencyKey != null) {
+                reservationIdempotencyService.record(userId, idempotencyKey, savedReservation.getId());
+            }
 
             return savedReservation.getId();
+        } catch (SlotUnavailableException e) {
+            log.info("예약 슬롯 확보 실패: {}", e.getMessage());
+            throw e;
+        } catch (DuplicateReservationRequestException e) {
+            log.info("중복 예약 요청: userId={}, key={}", userId, idempotencyKey);
+            throw e;
         } catch (Exception e) {
             log.error("예약 처리 중 오류 발생: {}", e.getMessage(), e);
             throw new RuntimeException("예약 처리 중 오류가 발생했습니다: " + e.getMessage());
@@ -0,0 +1,296 @@
+package com.IMJM.reservation.service;
+
+import com.IMJM.common.entity.AdminStylist;
+import com.IMJM.reservation.dto.EarliestSlotDto;
+import com.IMJM.reservation.event.ReservationSlotChangedEvent;
+import com.IMJM.reservation.event.StylistScheduleChangedEvent;
+import com.IMJM.reservation.repository.AdminStylistRepository;
+import com.IMJM.reservation.repository.ReservationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 스타일리스트-날짜별 예약 슬롯 비트맵({@link StylistDaySlots}) 캐시.
+ * <p>
+ * 캐시에 있으면 DB 조회 없이 비트 연산만으로 예약 가능 시간을 만든다.
+ * 이 노드에서 일어난 예약/일정 변경은 커밋 후 비트맵에 바로 반영하고,
+ * 다른 노드의 변경은 ttl-seconds 가 지나 다시 읽을 때 반영된다 (중복 예약은 reservation 유니크 제약이 막는다).
+ * <p>
+ * 미용실 단위 빠른 예약 검색은 미용실 스타일리스트 목록도 함께 캐시해 두고,
+ * 캐시에 없는 날짜만 기간 전체 예약을 한 번에 읽어 채운 뒤 날짜 순으로 한 번 훑는다.
+ * <p>
+ * 캐시는 ConcurrentHashMap 이라 조회는 잠금 없이 하고, 변경 반영은 키 단위 computeIfPresent 로 한다.
+ * cache-size 를 넘으면 만료된 항목부터, 그래도 넘으면 먼저 읽은 항목부터 지운다.
+ */
+@Slf4j
+@Service
+public class SlotAvailabilityService {
+
+    private final AdminStylistRepository adminStylistRepository;
+    private final ReservationRepository reservationRepository;
+    private final SlotHoldRegistry slotHoldRegistry;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final ConcurrentHashMap<StylistDayKey, Entry> days = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Roster> rosters = new ConcurrentHashMap<>();
+
+    // 변경 이벤트마다 증가: 읽는 도중 변경이 끼어든 결과는 캐시에 넣지 않는다
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    public SlotAvailabilityService(AdminStylistRepository adminStylistRepository,
+                                   ReservationRepository reservationRepository,
+                                   SlotHoldRegistry slotHoldRegistry,
+                                   @Value("${reservation.availability.cache-size}") int cacheSize,
+                                   @Value("${reservation.availability.ttl-seconds}") long ttlSeconds) {
+        this.adminStylistRepository = adminStylistRepository;
+        this.reservationRepository = reservationRepository;
+        this.slotHoldRegistry = slotHoldRegistry;
+        this.maxSize = cacheSize;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    StylistDaySlots getDay(Long stylistId, LocalDate date) {
+        StylistDayKey key = new StylistDayKey(stylistId, date);
+        StylistDaySlots cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long loadedGeneration = generation.get();
+        StylistDaySlots loaded = load(stylistId, date);
+        cache(key, new Entry(loaded, System.currentTimeMillis() + ttlMillis), loadedGeneration);
+        evictIfNeeded();
+        return loaded;
+    }
+
+    /**
+     * from 부터 dayCount 일 동안 미용실 전체 스타일리스트의 예약 가능 슬롯을 이른 순서(날짜, 시간, 스타일리스트 id)로 limit 개.
+     * from 당일은 notBefore 이후 슬롯만 보고, 다른 사용자가 결제 중(홀드)인 슬롯은 뺀다.
+     */
+    public List<EarliestSlotDto> findEarliestSlots(String salonId, LocalDate from, LocalTime notBefore,
+                                                   int dayCount, int limit, String userId) {
+        Roster roster = getRoster(salonId);
+        if (roster.stylists.isEmpty() || dayCount <= 0 || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        StylistDaySlots[][] grid = getSalonDays(salonId, roster, from, dayCount);
+        int notBeforeMinute = notBefore.getHour() * 60 + notBefore.getMinute();
+
+        List<EarliestSlotDto> result = new ArrayList<>(limit);
+        for (int day = 0; day < dayCount && result.size() < limit; day++) {
+            // (분 << 32 | 스타일리스트 순번) 을 정렬하면 시간, 스타일리스트 id 순이 된다
+            long[] candidates = new long[16];
+            int size = 0;
+            LocalDate date = from.plusDays(day);
+            for (int s = 0; s < roster.stylists.size(); s++) {
+                StylistDaySlots slots = grid[day][s];
+                long[] held = slots.slotMask(slotHoldRegistry.heldTimes(
+                        roster.stylists.get(s).getStylistId(), date, userId));
+                int[] minutes = slots.availableMinutes(day == 0 ? notBeforeMinute : 0, held);
+                if (size + minutes.length > candidates.length) {
+                    candidates = Arrays.copyOf(candidates, Math.max(candidates.length * 2, size + minutes.length));
+                }
+                for (int minute : minutes) {
+                    candidates[size++] = ((long) minute << 32) | s;
+                }
+            }
+            Arrays.sort(candidates, 0, size);
+
+            for (int i = 0; i < size && result.size() < limit; i++) {
+                AdminStylist stylist = roster.stylists.get((int) candidates[i]);
+                result.add(EarliestSlotDto.builder()
+                        .stylistId(stylist.getStylistId())
+                        .stylistName(stylist.getName())
+                        .date(date.toString())
+                        .time(StylistDaySlots.label((int) (candidates[i] >>> 32)))
+                        .build());
+            }
+        }
+        return result;
+    }
+
+    // [날짜][스타일리스트] 비트맵, 캐시에 없는 칸은 기간 예약을 한 번에 읽어 채운다
+    private StylistDaySlots[][] getSalonDays(String salonId, Roster roster, LocalDate from, int dayCount) {
+        int stylistCount = roster.stylists.size();
+        StylistDaySlots[][] grid = new StylistDaySlots[dayCount][stylistCount];
+        boolean missing = false;
+
+        for (int day = 0; day < dayCount; day++) {
+            LocalDate date = from.plusDays(day);
+            for (int s = 0; s < stylistCount; s++) {
+                grid[day][s] = get(new StylistDayKey(roster.stylists.get(s).getStylistId(), date));
+                missing |= grid[day][s] == null;
+            }
+        }
+        if (!missing) {
+            return grid;
+        }
+
+        long loadedGeneration = generation.get();
+        Map<StylistDayKey, List<LocalTime>> booked = new HashMap<>();
+        for (Object[] row : reservationRepository.findBookedSlotsBySalonAndDateRange(
+                salonId, from, from.plusDays(dayCount - 1))) {
+            booked.computeIfAbsent(new StylistDayKey((Long) row[0], (LocalDate) row[1]), k -> new ArrayList<>())
+                    .add((LocalTime) row[2]);
+        }
+
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+        for (int day = 0; day < dayCount; day++) {
+            LocalDate date = from.plusDays(day);
+            for (int s = 0; s < stylistCount; s++) {
+                if (grid[day][s] != null) {
+                    continue;
+                }
+                AdminStylist stylist = roster.stylists.get(s);
+                StylistDayKey key = new StylistDayKey(stylist.getStylistId(), date);
+                grid[day][s] = StylistDaySlots.of(stylist, date,
+                        booked.getOrDefault(key, Collections.emptyList()));
+                cache(key, new Entry(grid[day][s], expiresAt), loadedGeneration);
+            }
+        }
+        evictIfNeeded();
+        return grid;
+    }
+
+    private Roster getRoster(String salonId) {
+        Roster cached = rosters.get(salonId);
+        if (cached != null && cached.expiresAt >= System.currentTimeMillis()) {
+            return cached;
+        }
+
+        long loadedGeneration = generation.get();
+        Roster roster = new Roster(adminStylistRepository.findWithSalonBySalonId(salonId),
+                System.currentTimeMillis() + ttlMillis);
+        if (generation.get() == loadedGeneration) {
+            rosters.put(salonId, roster);
+            // 넣는 사이에 일정 변경이 끼어들었으면 되돌린다
+            if (generation.get() != loadedGeneration) {
+                rosters.remove(salonId, roster);
+            }
+        }
+        return roster;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSlotChanged(ReservationSlotChangedEvent event) {
+        generation.incrementAndGet();
+        if (event.getPreviousDate() != null && event.getPreviousTime() != null) {
+            update(new StylistDayKey(event.getStylistId(), event.getPreviousDate()), event.getPreviousTime(), false);
+        }
+        update(new StylistDayKey(event.getStylistId(), event.getDate()), event.getTime(), true);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onScheduleChanged(StylistScheduleChangedEvent event) {
+        generation.incrementAndGet();
+        rosters.remove(event.getSalonId());
+        days.entrySet().removeIf(e -> event.getStylistId() != null
+                ? event.getStylistId().equals(e.getKey().stylistId)
+                : Objects.equals(event.getSalonId(), e.getValue().slots.getSalonId()));
+        log.debug("예약 슬롯 캐시 비움: salonId={}, stylistId={}", event.getSalonId(), event.getStylistId());
+    }
+
+    private StylistDaySlots get(StylistDayKey key) {
+        Entry entry = days.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt < System.currentTimeMillis()) {
+            days.remove(key, entry);
+            return null;
+        }
+        return entry.slots;
+    }
+
+    // 읽기 시작한 뒤 변경 이벤트가 없을 때만 넣는다.
+    // 넣은 직후 다시 확인해, 확인과 넣기 사이에 끼어든 이벤트가 있으면 방금 넣은 항목을 지운다
+    private void cache(StylistDayKey key, Entry entry, long loadedGeneration) {
+        if (generation.get() != loadedGeneration) {
+            return;
+        }
+        days.put(key, entry);
+        if (generation.get() != loadedGeneration) {
+            days.remove(key, entry);
+        }
+    }
+
+    // 캐시에 없는 날짜는 다음 조회 때 DB 에서 읽으므로 그대로 둔다
+    private void update(StylistDayKey key, LocalTime time, boolean booked) {
+        days.computeIfPresent(key, (k, entry) -> new Entry(
+                booked ? entry.slots.withBooked(time) : entry.slots.withReleased(time), entry.expiresAt));
+    }
+
+    // 한 스레드만 정리한다. 만료된 항목을 먼저 지우고, 그래도 넘으면 만료가 이른(먼저 읽은) 항목부터 10% 여유를 두고 지운다
+    private void evictIfNeeded() {
+        if (days.size() <= maxSize || !evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            days.values().removeIf(entry -> entry.expiresAt < now);
+
+            int excess = days.size() - maxSize;
+            if (excess > 0) {
+                List<Map.Entry<StylistDayKey, Entry>> oldest = days.entrySet().stream()
+                        .sorted(Comparator.comparingLong(e -> e.getValue().expiresAt))
+                        .limit(excess + maxSize / 10)
+                        .collect(Collectors.toList());
+                for (Map.Entry<StylistDayKey, Entry> e : oldest) {
+                    days.remove(e.getKey(), e.getValue());
+                }
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private StylistDaySlots load(Long stylistId, LocalDate date) {
+        AdminStylist stylist = adminStylistRepository.findWithSalonByStylistId(stylistId)
+                .orElseThrow(() -> new RuntimeException("스타일리스트를 찾을 수 없습니다."));
+
+        List<LocalTime> bookedTimes = reservationRepository.findBookedTimesByStylistAndDate(stylistId, date);
+
+        return StylistDaySlots.of(stylist, date, bookedTimes);
+    }
+
+    // 미용실 스타일리스트 목록 (salon 까지 읽어 둔 엔티티, stylistId 순)
+    private static final class Roster {
+        private final List<AdminStylist> stylists;
+        private final long expiresAt;
+
+        Roster(List<AdminStylist> stylists, long expiresAt) {
+            this.stylists = stylists;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static final class Entry {
+        private final StylistDaySlots slots;
+        private final long expiresAt;
+
+        Entry(StylistDaySlots slots, long expiresAt) {
+            this.slots = slots;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.IMJM.reservation.service;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 결제 중 슬롯 홀드의 메모리 인덱스 (스타일리스트-날짜 → 시각 → 홀드).
+ * <p>
+ * 원본은 reservation_slot_hold 테이블이고 이 인덱스는 조회용 사본이다({@link SlotHoldService} 가 채움).
+ * 같은 날짜의 홀드 변경은 날짜 키로 고른 스트라이프 잠금 안에서만 하므로,
+ * 인기 슬롯에 요청이 몰려도 다른 날짜/스타일리스트 요청은 기다리지 않는다.
+ */
+@Component
+class SlotHoldRegistry {
+
+    private static final int STRIPES = 64;
+
+    private final Object[] stripes = new Object[STRIPES];
+    private volatile Map<StylistDayKey, Map<LocalTime, SlotHold>> holds = new ConcurrentHashMap<>();
+
+    SlotHoldRegistry() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Object();
+        }
+    }
+
+    Object lockFor(StylistDayKey key) {
+        return stripes[(key.hashCode() & Integer.MAX_VALUE) % STRIPES];
+    }
+
+    // 만료되지 않은 홀드만 돌려준다
+    SlotHold get(StylistDayKey key, LocalTime time) {
+        Map<LocalTime, SlotHold> day = holds.get(key);
+        SlotHold hold = day != null ? day.get(time) : null;
+        return hold != null && !hold.isExpired() ? hold : null;
+    }
+
+    void put(StylistDayKey key, LocalTime time, SlotHold hold) {
+        holds.computeIfAbsent(key, k -> new ConcurrentHashMap<>()).put(time, hold);
+    }
+
+    void remove(StylistDayKey key, LocalTime time) {
+        Map<LocalTime, SlotHold> day = holds.get(key);
+        if (day != null) {
+            day.remove(time);
+        }
+    }
+
+    // 사용자 한 명은 슬롯 하나만 홀드한다: 다른 슬롯을 잡으면 이전 홀드는 버린다
+    void removeUser(String userId) {
+        for (Map<LocalTime, SlotHold> day : holds.values()) {
+            day.values().removeIf(hold -> hold.getUserId().equals(userId));
+        }
+    }
+
+    // exceptUserId 본인의 홀드는 제외 (결제 화면에서 돌아와도 자기 슬롯은 예약 가능으로 보인다)
+    List<LocalTime> heldTimes(Long stylistId, LocalDate date, String exceptUserId) {
+        Map<LocalTime, SlotHold> day = holds.get(new StylistDayKey(stylistId, date));
+        if (day == null || day.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<LocalTime> times = new ArrayList<>(day.size());
+        for (Map.Entry<LocalTime, SlotHold> entry : day.entrySet()) {
+            SlotHold hold = entry.getValue();
+            if (!hold.isExpired() && !hold.getUserId().equals(exceptUserId)) {
+                times.add(entry.getKey());
+            }
+        }
+        return times;
+    }
+
+    // DB 동기화 결과로 통째로 교체 (다른 노드의 홀드 반영, 만료 홀드 정리)
+    void replaceAll(Map<StylistDayKey, Map<LocalTime, SlotHold>> loaded) {
+        holds = loaded;
+    }
+
+    static final class SlotHold {
+        private final String userId;
+        private final Instant expiresAt;
+
+        SlotHold(String userId, Instant expiresAt) {
+            this.userId = userId;
+            this.expiresAt = expiresAt;
+        }
+
+        String getUserId() {
+            return userId;
+        }
+
+        Instant getExpiresAt() {
+            return expiresAt;
+        }
+
+        boolean isExpired() {
+            return !expiresAt.isAfter(Instant.now());
+        }
+    }
+}
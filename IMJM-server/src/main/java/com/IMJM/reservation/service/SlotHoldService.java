@@ -0,0 +1,203 @@
+package com.IMJM.reservation.service;
+
+import com.IMJM.reservation.dto.SlotHoldDto;
+import com.IMJM.reservation.event.ReservationSlotChangedEvent;
+import com.IMJM.reservation.event.SlotHoldAcquiredEvent;
+import com.IMJM.reservation.service.SlotHoldRegistry.SlotHold;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 결제 중 슬롯 홀드.
+ * <p>
+ * 사용자가 결제 화면에 들어갈 때 슬롯을 ttl-seconds 동안 잡아 두어, 같은 슬롯을 고른 두 번째 사용자는
+ * 결제/포인트/쿠폰을 처리하기 전에 바로 거절된다 (예약 저장 시 유니크 제약 실패로 전체가 롤백되는 일을 줄임).
+ * <ul>
+ *     <li>메모리: {@link SlotHoldRegistry} 로 다른 사용자가 잡은 슬롯은 DB 조회 없이 거절하고, 같은 날짜 요청은 스트라이프 잠금으로 한 줄로 세운다</li>
+ *     <li>DB: reservation_slot_hold 가 원본이라 노드가 재시작되어도 홀드가 유지되고 노드 사이 경합도 여기서 정리된다</li>
+ * </ul>
+ * 다른 노드에서 잡은 홀드는 sync-interval-ms 주기 동기화 때 메모리에 반영되고, 만료된 행도 그때 지운다.
+ * 예약 완료 트랜잭션 안에서 잡은 홀드는 커밋된 뒤에만 메모리에 반영한다 (롤백되면 DB 행과 함께 사라진다).
+ */
+@Slf4j
+@Service
+public class SlotHoldService {
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+
+    // 비어 있거나 만료되었거나 본인이 잡은 슬롯일 때만 행이 바뀌고 RETURNING 으로 만료 시각이 돌아온다
+    private static final String UPSERT_HOLD =
+            "INSERT INTO reservation_slot_hold (stylist_id, reservation_date, reservation_time, user_id, expires_at) " +
+                    "VALUES (?, ?, ?, ?, now() + make_interval(secs => CAST(? AS double precision))) " +
+                    "ON CONFLICT (stylist_id, reservation_date, reservation_time) DO UPDATE " +
+                    "SET user_id = EXCLUDED.user_id, expires_at = EXCLUDED.expires_at, created_at = now() " +
+                    "WHERE reservation_slot_hold.expires_at <= now() " +
+                    "OR reservation_slot_hold.user_id = EXCLUDED.user_id " +
+                    "RETURNING expires_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SlotAvailabilityService slotAvailabilityService;
+    private final SlotHoldRegistry slotHoldRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate requiresNewTransaction;
+    private final long ttlSeconds;
+
+    public SlotHoldService(JdbcTemplate jdbcTemplate,
+                           SlotAvailabilityService slotAvailabilityService,
+                           SlotHoldRegistry slotHoldRegistry,
+                           ApplicationEventPublisher eventPublisher,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${reservation.hold.ttl-seconds}") long ttlSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.slotAvailabilityService = slotAvailabilityService;
+        this.slotHoldRegistry = slotHoldRegistry;
+        this.eventPublisher = eventPublisher;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    /**
+     * 슬롯을 홀드하거나 본인 홀드의 만료 시각을 늘린다. 사용자가 잡고 있던 다른 슬롯은 놓는다.
+     *
+     * @throws SlotUnavailableException 예약된 슬롯이거나 다른 사용자가 홀드 중일 때
+     */
+    public SlotHoldDto acquire(Long stylistId, LocalDate date, LocalTime time, String userId) {
+        if (!slotAvailabilityService.getDay(stylistId, date).isAvailable(time)) {
+            throw new SlotUnavailableException("이미 예약되었거나 예약할 수 없는 시간입니다.");
+        }
+
+        StylistDayKey key = new StylistDayKey(stylistId, date);
+        rejectIfHeldByOther(key, time, userId);
+
+        synchronized (slotHoldRegistry.lockFor(key)) {
+            // 잠금을 기다리는 동안 같은 노드의 다른 요청이 먼저 잡았을 수 있다
+            rejectIfHeldByOther(key, time, userId);
+
+            List<OffsetDateTime> expiresAt = jdbcTemplate.query(UPSERT_HOLD,
+                    (rs, rowNum) -> rs.getObject("expires_at", OffsetDateTime.class),
+                    stylistId, date, time, userId, ttlSeconds);
+            if (expiresAt.isEmpty()) {
+                // 다른 노드에서 잡은 홀드 (다음 동기화 전까지는 메모리에 없다)
+                throw new SlotUnavailableException("다른 고객이 결제 중인 시간입니다.");
+            }
+
+            jdbcTemplate.update(
+                    "DELETE FROM reservation_slot_hold WHERE user_id = ? " +
+                            "AND NOT (stylist_id = ? AND reservation_date = ? AND reservation_time = ?)",
+                    userId, stylistId, date, time);
+            // 트랜잭션 밖에서 호출되면 바로, 예약 완료 트랜잭션 안이면 커밋 후에 메모리에 반영된다
+            eventPublisher.publishEvent(new SlotHoldAcquiredEvent(
+                    stylistId, date, time, userId, expiresAt.get(0).toInstant()));
+
+            return SlotHoldDto.builder()
+                    .stylistId(stylistId)
+                    .reservationDate(date.toString())
+                    .reservationTime(time.format(TIME_FORMAT))
+                    .expiresAt(expiresAt.get(0))
+                    .build();
+        }
+    }
+
+    public void release(Long stylistId, LocalDate date, LocalTime time, String userId) {
+        StylistDayKey key = new StylistDayKey(stylistId, date);
+        synchronized (slotHoldRegistry.lockFor(key)) {
+            jdbcTemplate.update(
+                    "DELETE FROM reservation_slot_hold " +
+                            "WHERE stylist_id = ? AND reservation_date = ? AND reservation_time = ? AND user_id = ?",
+                    stylistId, date, time, userId);
+            SlotHold hold = slotHoldRegistry.get(key, time);
+            if (hold != null && hold.getUserId().equals(userId)) {
+                slotHoldRegistry.remove(key, time);
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onHoldAcquired(SlotHoldAcquiredEvent event) {
+        StylistDayKey key = new StylistDayKey(event.getStylistId(), event.getDate());
+        synchronized (slotHoldRegistry.lockFor(key)) {
+            slotHoldRegistry.removeUser(event.getUserId());
+            slotHoldRegistry.put(key, event.getTime(), new SlotHold(event.getUserId(), event.getExpiresAt()));
+        }
+    }
+
+    // 예약이 커밋되면 슬롯은 예약으로 막히므로 홀드는 필요 없다.
+    // 커밋이 끝난 트랜잭션에 참여하면 DELETE 가 커밋되지 않으므로 새 트랜잭션으로 지운다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSlotChanged(ReservationSlotChangedEvent event) {
+        StylistDayKey key = new StylistDayKey(event.getStylistId(), event.getDate());
+        try {
+            synchronized (slotHoldRegistry.lockFor(key)) {
+                requiresNewTransaction.executeWithoutResult(status -> jdbcTemplate.update(
+                        "DELETE FROM reservation_slot_hold " +
+                                "WHERE stylist_id = ? AND reservation_date = ? AND reservation_time = ?",
+                        event.getStylistId(), event.getDate(), event.getTime()));
+                slotHoldRegistry.remove(key, event.getTime());
+            }
+        } catch (DataAccessException e) {
+            log.warn("예약 완료 슬롯 홀드 삭제 실패, 만료 후 정리됩니다. stylistId={}, {} {}",
+                    event.getStylistId(), event.getDate(), event.getTime(), e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        synchronizeHolds();
+    }
+
+    // 만료 홀드 삭제 후 남은 홀드로 메모리 인덱스를 다시 만든다 (재시작 직후 복구, 다른 노드 홀드 반영)
+    @Scheduled(initialDelayString = "${reservation.hold.sync-interval-ms}",
+            fixedDelayString = "${reservation.hold.sync-interval-ms}")
+    public void synchronizeHolds() {
+        try {
+            int purged = jdbcTemplate.update("DELETE FROM reservation_slot_hold WHERE expires_at <= now()");
+            if (purged > 0) {
+                log.debug("만료된 슬롯 홀드 삭제: {}건", purged);
+            }
+
+            Map<StylistDayKey, Map<LocalTime, SlotHold>> loaded = new ConcurrentHashMap<>();
+            jdbcTemplate.query(
+                    "SELECT stylist_id, reservation_date, reservation_time, user_id, expires_at " +
+                            "FROM reservation_slot_hold",
+                    rs -> {
+                        StylistDayKey key = new StylistDayKey(
+                                rs.getLong("stylist_id"), rs.getObject("reservation_date", LocalDate.class));
+                        loaded.computeIfAbsent(key, k -> new ConcurrentHashMap<>()).put(
+                                rs.getObject("reservation_time", LocalTime.class),
+                                new SlotHold(rs.getString("user_id"),
+                                        rs.getObject("expires_at", OffsetDateTime.class).toInstant()));
+                    });
+            slotHoldRegistry.replaceAll(loaded);
+        } catch (DataAccessException e) {
+            log.warn("슬롯 홀드 동기화 실패, 다음 주기에 다시 시도", e);
+        }
+    }
+
+    private void rejectIfHeldByOther(StylistDayKey key, LocalTime time, String userId) {
+        SlotHold hold = slotHoldRegistry.get(key, time);
+        if (hold != null && !hold.getUserId().equals(userId)) {
+            throw new SlotUnavailableException("다른 고객이 결제 중인 시간입니다.");
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.IMJM.reservation.service;
+
+/**
+ * 이미 예약되었거나 다른 사용자가 결제 중(홀드)인 슬롯을 잡으려 할 때
+ */
+public class SlotUnavailableException extends RuntimeException {
+    public SlotUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,31 @@
+package com.IMJM.reservation.service;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * 스타일리스트-날짜 키 (슬롯 비트맵 캐시, 슬롯 홀드 인덱스 공용)
+ */
+final class StylistDayKey {
+
+    final Long stylistId;
+    final LocalDate date;
+
+    StylistDayKey(Long stylistId, LocalDate date) {
+        this.stylistId = stylistId;
+        this.date = date;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof StylistDayKey)) return false;
+        StylistDayKey other = (StylistDayKey) o;
+        return stylistId.equals(other.stylistId) && date.equals(other.date);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(stylistId, date);
+    }
+}
@@ -0,0 +1,240 @@
+package com.IMJM.reservation.service;
+
+import com.IMJM.common.entity.AdminStylist;
+import com.IMJM.common.entity.Salon;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 스타일리스트 하루치 예약 슬롯 비트맵.
+ * <p>
+ * 미용실/스타일리스트 근무 시간이 겹치는 구간을 timeUnit 분 단위 슬롯으로 나눠 슬롯 하나를 비트 하나로 둔다.
+ * <ul>
+ *     <li>open: 근무 슬롯 (미용실 또는 스타일리스트 휴무일이면 비어 있음)</li>
+ *     <li>booked: 슬롯 시작 시각에 잡힌 예약</li>
+ *     <li>bookedMinutes: 하루 1440분 비트맵, 슬롯 경계에 맞지 않는 예약(관리자 일정 변경)까지 포함한 예약 시각</li>
+ * </ul>
+ * 결제 중 홀드는 비트맵에 넣지 않고 조회 때 slotMask 로 만든 비트를 함께 빼서 계산한다.
+ * 예약 반영은 새 객체를 만들어 돌려주므로 캐시에서 꺼낸 객체는 잠금 없이 읽어도 된다.
+ */
+final class StylistDaySlots {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    // "HH:mm" 라벨을 분 단위로 미리 만들어 두고 슬롯 조회 때는 포맷하지 않는다
+    private static final String[] LABELS = new String[MINUTES_PER_DAY];
+
+    static {
+        for (int minute = 0; minute < MINUTES_PER_DAY; minute++) {
+            LABELS[minute] = String.format("%02d:%02d", minute / 60, minute % 60);
+        }
+    }
+
+    private final String salonId;
+    private final int startMinute;
+    private final int timeUnit;
+    private final int slotCount;
+    private final long[] open;
+    private final long[] booked;
+    private final long[] bookedMinutes;
+
+    private StylistDaySlots(String salonId, int startMinute, int timeUnit, int slotCount,
+                            long[] open, long[] booked, long[] bookedMinutes) {
+        this.salonId = salonId;
+        this.startMinute = startMinute;
+        this.timeUnit = timeUnit;
+        this.slotCount = slotCount;
+        this.open = open;
+        this.booked = booked;
+        this.bookedMinutes = bookedMinutes;
+    }
+
+    // stylist 의 salon 은 초기화되어 있어야 한다 (fetch join 으로 읽은 엔티티)
+    static StylistDaySlots of(AdminStylist stylist, LocalDate date, List<LocalTime> bookedTimes) {
+        Salon salon = stylist.getSalon();
+        int unit = salon.getTimeUnit() != null ? salon.getTimeUnit() : 0;
+        int startMinute = 0;
+        int slotCount = 0;
+
+        if (unit > 0 && salon.getStartTime() != null && salon.getEndTime() != null
+                && stylist.getStartTime() != null && stylist.getEndTime() != null) {
+            startMinute = Math.max(minuteOf(salon.getStartTime()), minuteOf(stylist.getStartTime()));
+            int endMinute = Math.min(minuteOf(salon.getEndTime()), minuteOf(stylist.getEndTime()));
+            slotCount = Math.max(0, (endMinute - startMinute) / unit);
+        }
+
+        long[] open = new long[words(slotCount)];
+        // 휴무일 비트: 월요일 0 ~ 일요일 6 (클라이언트 dateUtils.isHoliday 와 같은 기준)
+        int holidayBit = 1 << (date.getDayOfWeek().getValue() - 1);
+        int salonHolidayMask = salon.getHolidayMask() != null ? salon.getHolidayMask() : 0;
+        boolean holiday = (salonHolidayMask & holidayBit) != 0 || (stylist.getHolidayMask() & holidayBit) != 0;
+        if (!holiday) {
+            for (int slot = 0; slot < slotCount; slot++) {
+                open[slot >>> 6] |= 1L << slot;
+            }
+        }
+
+        StylistDaySlots slots = new StylistDaySlots(salon.getId(), startMinute, unit, slotCount,
+                open, new long[open.length], new long[words(MINUTES_PER_DAY)]);
+        for (LocalTime time : bookedTimes) {
+            slots.mark(time, true);
+        }
+        return slots;
+    }
+
+    String getSalonId() {
+        return salonId;
+    }
+
+    // held: slotMask 로 만든 홀드 슬롯 (null 이면 홀드 없음)
+    List<String> availableTimes(long[] held) {
+        List<String> times = new ArrayList<>();
+        for (int word = 0; word < open.length; word++) {
+            long bits = open[word] & ~booked[word] & ~heldWord(held, word);
+            while (bits != 0) {
+                int slot = (word << 6) + Long.numberOfTrailingZeros(bits);
+                times.add(LABELS[startMinute + slot * timeUnit]);
+                bits &= bits - 1;
+            }
+        }
+        return times;
+    }
+
+    // 예약은 없지만 다른 사용자가 결제 중(홀드)인 슬롯
+    List<String> heldTimes(long[] held) {
+        List<String> times = new ArrayList<>();
+        if (held == null) {
+            return times;
+        }
+        for (int word = 0; word < open.length; word++) {
+            long bits = open[word] & ~booked[word] & held[word];
+            while (bits != 0) {
+                int slot = (word << 6) + Long.numberOfTrailingZeros(bits);
+                times.add(LABELS[startMinute + slot * timeUnit]);
+                bits &= bits - 1;
+            }
+        }
+        return times;
+    }
+
+    // fromMinute(하루 중 분) 이후 예약 가능한 슬롯의 시작 분, 오름차순
+    int[] availableMinutes(int fromMinute, long[] held) {
+        int count = 0;
+        for (int word = 0; word < open.length; word++) {
+            count += Long.bitCount(open[word] & ~booked[word] & ~heldWord(held, word));
+        }
+
+        int[] minutes = new int[count];
+        int size = 0;
+        for (int word = 0; word < open.length; word++) {
+            long bits = open[word] & ~booked[word] & ~heldWord(held, word);
+            while (bits != 0) {
+                int minute = startMinute + ((word << 6) + Long.numberOfTrailingZeros(bits)) * timeUnit;
+                if (minute >= fromMinute) {
+                    minutes[size++] = minute;
+                }
+                bits &= bits - 1;
+            }
+        }
+        return size == count ? minutes : Arrays.copyOf(minutes, size);
+    }
+
+    // 근무 슬롯 경계에 맞고 아직 예약되지 않은 시간인지
+    boolean isAvailable(LocalTime time) {
+        int slot = slotOf(minuteOf(time));
+        return slot >= 0 && (open[slot >>> 6] & ~booked[slot >>> 6] & (1L << slot)) != 0;
+    }
+
+    // 시각 목록을 슬롯 비트맵으로 (슬롯 경계에 맞지 않는 시각은 무시), 없으면 null
+    long[] slotMask(Collection<LocalTime> times) {
+        if (times.isEmpty()) {
+            return null;
+        }
+        long[] mask = new long[open.length];
+        for (LocalTime time : times) {
+            int slot = slotOf(minuteOf(time));
+            if (slot >= 0) {
+                mask[slot >>> 6] |= 1L << slot;
+            }
+        }
+        return mask;
+    }
+
+    static String label(int minute) {
+        return LABELS[minute];
+    }
+
+    List<String> bookedTimes() {
+        List<String> times = new ArrayList<>();
+        for (int word = 0; word < bookedMinutes.length; word++) {
+            long bits = bookedMinutes[word];
+            while (bits != 0) {
+                times.add(LABELS[(word << 6) + Long.numberOfTrailingZeros(bits)]);
+                bits &= bits - 1;
+            }
+        }
+        return times;
+    }
+
+    StylistDaySlots withBooked(LocalTime time) {
+        StylistDaySlots copy = copy();
+        copy.mark(time, true);
+        return copy;
+    }
+
+    StylistDaySlots withReleased(LocalTime time) {
+        StylistDaySlots copy = copy();
+        copy.mark(time, false);
+        return copy;
+    }
+
+    private StylistDaySlots copy() {
+        return new StylistDaySlots(salonId, startMinute, timeUnit, slotCount,
+                open, booked.clone(), bookedMinutes.clone());
+    }
+
+    // 새로 만든 객체에만 호출한다 (캐시에 올라간 객체는 바꾸지 않음)
+    private void mark(LocalTime time, boolean value) {
+        int minute = minuteOf(time);
+        set(bookedMinutes, minute, value);
+
+        int slot = slotOf(minute);
+        if (slot >= 0) {
+            set(booked, slot, value);
+        }
+    }
+
+    // 슬롯 시작 시각이면 슬롯 번호, 아니면 -1
+    private int slotOf(int minute) {
+        int offset = minute - startMinute;
+        if (timeUnit <= 0 || offset < 0 || offset % timeUnit != 0 || offset / timeUnit >= slotCount) {
+            return -1;
+        }
+        return offset / timeUnit;
+    }
+
+    private static long heldWord(long[] held, int word) {
+        return held != null ? held[word] : 0L;
+    }
+
+    private static void set(long[] bits, int index, boolean value) {
+        if (value) {
+            bits[index >>> 6] |= 1L << index;
+        } else {
+            bits[index >>> 6] &= ~(1L << index);
+        }
+    }
+
+    private static int minuteOf(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static int words(int bits) {
+        return (bits + 63) >>> 6;
+    }
+}
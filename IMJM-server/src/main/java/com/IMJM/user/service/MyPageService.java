@@ -5,6 +5,8 @@ import com.IMJM.admin.repository.ReviewReplyRepository;
 import com.IMJM.admin.repository.SalonPhotosRepository;
 import com.IMJM.admin.repository.SalonRepository;
 import com.IMJM.common.cloud.NCPObjectStorageService;
+import com.IMJM.common.cloud.ParallelUploadService;
+import com.IMJM.common.cloud.UploadResult;
 import com.IMJM.common.entity.*;
 import com.IMJM.reservation.repository.PaymentRepository;
 import com.IMJM.reservation.repository.PointUsageRepository;
@@ -24,7 +26,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
@@ -47,6 +48,7 @@ public class MyPageService {
     private final ReservationCouponRepository reservationCouponRepository;
     private final ReviewReplyRepository reviewReplyRepository;
     private final SalonPhotosRepository salonPhotosRepository;
+    private final ParallelUploadService parallelUploadService;
 
     @Value("${ncp.bucket-name}")
     private String bucketName;
@@ -162,18 +164,33 @@ public class MyPageService {
     }
 
     private void saveReviewImages(Review review, List<MultipartFile> images) {
-        List<ReviewPhotos> reviewPhotos = new ArrayList<>();
-
-        for (int i = 0; i < images.size(); i++) {
-            MultipartFile image = images.get(i);
+        // 확장자 검증은 업로드 전에 끝나고, 업로드는 동시에 진행된다
+        List<UploadResult> results = parallelUploadService.uploadAll(images,
+                image -> createReviewImagePath(review.getId(), UUID.randomUUID().toString(),
+                        extractFileExtension(image.getOriginalFilename())));
+
+        // 리뷰 사진은 일부만 저장하지 않는다: 하나라도 실패하면 올라간 파일을 지우고 실패 처리
+        List<UploadResult> failed = results.stream()
+                .filter(result -> !result.isSuccess())
+                .collect(Collectors.toList());
+        if (!failed.isEmpty()) {
+            parallelUploadService.deleteUploaded(results);
+            String failedNames = failed.stream()
+                    .map(UploadResult::getOriginalFilename)
+                    .collect(Collectors.joining(", "));
+            log.error("이미지 업로드 실패: {}", failedNames);
+            throw new RuntimeException("이미지 업로드 중 오류가 발생했습니다: " + failedNames);
+        }
 
-            String photoUrl = uploadReviewImageToStorage(review.getId(), image);
+        List<ReviewPhotos> reviewPhotos = new ArrayList<>();
+        OffsetDateTime uploadDate = OffsetDateTime.now();
 
+        for (int i = 0; i < results.size(); i++) {
             ReviewPhotos reviewPhoto = ReviewPhotos.builder()
                     .review(review)
-                    .photoUrl(photoUrl)
+                    .photoUrl(results.get(i).getUrl())
                     .photoOrder(i)
-                    .uploadDate(OffsetDateTime.now())
+                    .uploadDate(uploadDate)
                     .build();
 
             reviewPhotos.add(reviewPhoto);
@@ -182,24 +199,6 @@ public class MyPageService {
         reviewPhotosRepository.saveAll(reviewPhotos);
     }
 
-    private String uploadReviewImageToStorage(Long reviewId, MultipartFile image) {
-        try {
-            String originalFilename = image.getOriginalFilename();
-            String extension = extractFileExtension(originalFilename);
-
-            String uuid = UUID.randomUUID().toString();
-            String newFilename = createReviewImagePath(reviewId, uuid, extension);
-
-            storageService.upload(newFilename, image.getInputStream());
-
-            return getFullImageUrl(newFilename);
-
-        } catch (IOException e) {
-            log.error("이미지 업로드 실패: {}", e.getMessage());
-            throw new RuntimeException("이미지 업로드 중 오류가 발생했습니다: " + e.getMessage());
-        }
-    }
-
     private String extractFileExtension(String originalFilename) {
         if (originalFilename == null || !originalFilename.contains(".")) {
             throw new IllegalArgumentException("유효하지 않은 파일명입니다.");
@@ -244,11 +243,6 @@ public class MyPageService {
         salon.updateScore(averageScore);
     }
 
-    private String getFullImageUrl(String s3Path) {
-        String baseUrl = "https://" + bucketName + ".kr.object.ncloudstorage.com";
-        return baseUrl + "/" + s3Path;
-    }
-
 
     public UserReviewResponseDto getReviewWithPhotos(Long reviewId) {
         Review review = reviewRepository.findByReviewId(reviewId)
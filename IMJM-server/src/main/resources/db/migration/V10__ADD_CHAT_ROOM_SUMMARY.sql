@@ -0,0 +1,35 @@
+-- 채팅방 목록용 요약 컬럼: 메시지 전송/읽음 처리 시 함께 갱신
+ALTER TABLE chat_room
+    ADD COLUMN last_message_preview VARCHAR(100),
+    ADD COLUMN last_sender_type VARCHAR(20),
+    ADD COLUMN unread_for_user INT NOT NULL DEFAULT 0,
+    ADD COLUMN unread_for_salon INT NOT NULL DEFAULT 0;
+
+-- 기존 데이터 채우기: 마지막 메시지
+UPDATE chat_room r
+SET last_message_preview = LEFT(m.message, 100),
+    last_sender_type = m.sender_type
+FROM (
+    SELECT DISTINCT ON (chat_room_id) chat_room_id, message, sender_type
+    FROM chat_message
+    ORDER BY chat_room_id, sent_at DESC, id DESC
+) m
+WHERE m.chat_room_id = r.id;
+
+-- 기존 데이터 채우기: 안 읽은 수 (사용자는 미용실이 보낸 메시지, 미용실은 사용자가 보낸 메시지 기준)
+UPDATE chat_room r
+SET unread_for_user = c.unread_for_user,
+    unread_for_salon = c.unread_for_salon
+FROM (
+    SELECT chat_room_id,
+           COUNT(*) FILTER (WHERE sender_type = 'SALON') AS unread_for_user,
+           COUNT(*) FILTER (WHERE sender_type = 'USER') AS unread_for_salon
+    FROM chat_message
+    WHERE is_read = FALSE
+    GROUP BY chat_room_id
+) c
+WHERE c.chat_room_id = r.id;
+
+-- 목록 조회 정렬용
+CREATE INDEX idx_chat_room_user_last_message ON chat_room (user_id, last_message_time DESC);
+CREATE INDEX idx_chat_room_salon_last_message ON chat_room (salon_id, last_message_time DESC);
@@ -0,0 +1,5 @@
+-- 사진/알림 id 를 pooled 시퀀스(한 번에 50개 할당)로 받도록 변경: IDENTITY 는 Hibernate 배치 INSERT 를 막는다
+-- 컬럼 기본값(nextval)은 그대로 두므로 SQL 로 직접 넣는 행도 계속 동작한다 (한 번에 50씩 건너뛸 뿐)
+-- 현재 값 + 50 부터 새 블록이 시작되므로 기존 id 와 겹치지 않는다
+ALTER SEQUENCE chat_photos_photo_id_seq INCREMENT BY 50;
+ALTER SEQUENCE alarm_id_seq INCREMENT BY 50;
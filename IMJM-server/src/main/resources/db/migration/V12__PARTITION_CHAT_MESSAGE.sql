@@ -0,0 +1,97 @@
+-- chat_message 를 sent_at 기준 월별 범위 파티션 테이블로 전환
+-- 파티션 키(sent_at)가 PK 에 포함되어야 하므로 PK 는 (id, sent_at), chat_photos 의 FK 는 트리거로 대체한다
+-- 다음 달 이후 파티션은 ChatMessagePartitionService 가 미리 만들고, 오래된 파티션은 ChatMessageArchiveService 가 보관한다
+
+-- 1. 기존 테이블 분리 (시퀀스는 새 테이블이 이어서 사용)
+ALTER TABLE chat_photos DROP CONSTRAINT IF EXISTS chat_photos_chat_message_id_fkey;
+ALTER SEQUENCE chat_message_id_seq OWNED BY NONE;
+ALTER TABLE chat_message RENAME TO chat_message_legacy;
+ALTER TABLE chat_message_legacy RENAME CONSTRAINT chat_message_pkey TO chat_message_legacy_pkey;
+DROP INDEX IF EXISTS idx_chat_message_room_sent_at_id;
+
+-- 2. 파티션 테이블
+CREATE TABLE chat_message (
+                              id BIGINT NOT NULL DEFAULT nextval('chat_message_id_seq'),
+                              chat_room_id BIGINT NOT NULL,
+                              sender_type VARCHAR(20) NOT NULL,
+                              message TEXT NOT NULL,
+                              is_read BOOLEAN DEFAULT FALSE,
+                              sent_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                              translated_message TEXT,
+                              translation_status VARCHAR(10) DEFAULT 'none',
+                              PRIMARY KEY (id, sent_at),
+                              FOREIGN KEY (chat_room_id) REFERENCES chat_room(id) ON DELETE CASCADE
+) PARTITION BY RANGE (sent_at);
+
+ALTER SEQUENCE chat_message_id_seq OWNED BY chat_message.id;
+
+CREATE INDEX idx_chat_message_room_sent_at_id ON chat_message (chat_room_id, sent_at, id);
+
+-- 3. 기존 데이터 범위 ~ 3개월 뒤까지 월별 파티션 생성 (월 경계는 Asia/Seoul 자정)
+DO $$
+DECLARE
+    month_start DATE;
+    month_end DATE := (date_trunc('month', now() AT TIME ZONE 'Asia/Seoul') + INTERVAL '4 months')::date;
+BEGIN
+    SELECT COALESCE(date_trunc('month', MIN(sent_at) AT TIME ZONE 'Asia/Seoul'),
+                    date_trunc('month', now() AT TIME ZONE 'Asia/Seoul'))::date
+    INTO month_start
+    FROM chat_message_legacy;
+
+    WHILE month_start < month_end LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF chat_message FOR VALUES FROM (%L) TO (%L)',
+                       'chat_message_p' || to_char(month_start, 'YYYYMM'),
+                       month_start::timestamp AT TIME ZONE 'Asia/Seoul',
+                       (month_start + INTERVAL '1 month')::timestamp AT TIME ZONE 'Asia/Seoul');
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+-- 4. 데이터 이전
+INSERT INTO chat_message (id, chat_room_id, sender_type, message, is_read, sent_at, translated_message, translation_status)
+SELECT id, chat_room_id, sender_type, message, is_read, COALESCE(sent_at, CURRENT_TIMESTAMP), translated_message, translation_status
+FROM chat_message_legacy;
+
+DROP TABLE chat_message_legacy;
+
+-- 5. 메시지 삭제 시 사진 삭제 (기존 FK ON DELETE CASCADE 대체)
+CREATE INDEX IF NOT EXISTS idx_chat_photos_chat_message_id ON chat_photos (chat_message_id);
+
+CREATE FUNCTION delete_chat_message_photos() RETURNS trigger AS $$
+BEGIN
+    DELETE FROM chat_photos WHERE chat_message_id = OLD.id;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql SET search_path FROM CURRENT;
+
+CREATE TRIGGER trg_chat_message_delete_photos
+    AFTER DELETE ON chat_message
+    FOR EACH ROW EXECUTE FUNCTION delete_chat_message_photos();
+
+-- 6. 보관(아카이브)된 월 파티션 목록과 채팅방별 범위
+CREATE TABLE chat_message_archive (
+                                      id BIGSERIAL,
+                                      partition_month DATE NOT NULL,
+                                      storage_path VARCHAR(255) NOT NULL,
+                                      status VARCHAR(20) NOT NULL,
+                                      message_count INT NOT NULL DEFAULT 0,
+                                      claimed_at TIMESTAMP WITH TIME ZONE NOT NULL,
+                                      archived_at TIMESTAMP WITH TIME ZONE,
+                                      PRIMARY KEY (id),
+                                      UNIQUE (partition_month)
+);
+
+CREATE TABLE chat_message_archive_room (
+                                           id BIGSERIAL,
+                                           archive_id BIGINT NOT NULL,
+                                           chat_room_id BIGINT NOT NULL,
+                                           message_count INT NOT NULL,
+                                           min_message_id BIGINT NOT NULL,
+                                           max_message_id BIGINT NOT NULL,
+                                           min_sent_at TIMESTAMP WITH TIME ZONE NOT NULL,
+                                           max_sent_at TIMESTAMP WITH TIME ZONE NOT NULL,
+                                           PRIMARY KEY (id),
+                                           FOREIGN KEY (archive_id) REFERENCES chat_message_archive(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_chat_message_archive_room_room ON chat_message_archive_room (chat_room_id, max_sent_at DESC);
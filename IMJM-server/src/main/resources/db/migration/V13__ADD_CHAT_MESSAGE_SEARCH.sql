@@ -0,0 +1,5 @@
+-- 미용실 채팅 검색: 원문/번역문의 bigram 을 공백으로 이어 저장하고 GIN 인덱스로 조회 (ChatSearchTokenizer)
+-- 저장/번역 완료 시 애플리케이션이 채우고, 기존 메시지는 ChatSearchIndexBackfill 이 채운다 (NULL = 아직 색인 전)
+ALTER TABLE chat_message ADD COLUMN search_tokens TEXT;
+
+CREATE INDEX idx_chat_message_search ON chat_message USING GIN (to_tsvector('simple', search_tokens));
@@ -0,0 +1,16 @@
+-- 결제 중 슬롯 홀드: 결제 화면에 들어간 사용자가 expires_at 까지 해당 슬롯을 먼저 잡아 둔다 (SlotHoldService)
+-- 만료된 행은 INSERT ... ON CONFLICT 에서 새 사용자가 덮어쓰고, 동기화 작업이 주기적으로 지운다
+CREATE TABLE reservation_slot_hold (
+                                       stylist_id BIGINT NOT NULL,
+                                       reservation_date DATE NOT NULL,
+                                       reservation_time TIME NOT NULL,
+                                       user_id VARCHAR(100) NOT NULL,
+                                       expires_at TIMESTAMPTZ NOT NULL,
+                                       created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+                                       PRIMARY KEY (stylist_id, reservation_date, reservation_time),
+                                       FOREIGN KEY (stylist_id) REFERENCES admin_stylist(stylist_id) ON DELETE CASCADE,
+                                       FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_reservation_slot_hold_user ON reservation_slot_hold (user_id);
+CREATE INDEX idx_reservation_slot_hold_expires_at ON reservation_slot_hold (expires_at);
@@ -0,0 +1,18 @@
+-- 예약 후속 작업(채팅방 생성, 예약 완료 메시지, 알림) outbox: 예약 트랜잭션 안에서 함께 저장하고
+-- 커밋 후 ReservationOutboxService 가 비동기로 처리한다. 실패하면 next_attempt_at 에 다시 시도 (max-attempts 초과 시 FAILED)
+CREATE TABLE reservation_outbox (
+                                    id BIGSERIAL PRIMARY KEY,
+                                    reservation_id BIGINT NOT NULL,
+                                    event_type VARCHAR(30) NOT NULL,
+                                    status VARCHAR(20) NOT NULL DEFAULT 'PENDING', -- PENDING, DONE, FAILED
+                                    attempts INT NOT NULL DEFAULT 0,
+                                    next_attempt_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+                                    last_error TEXT,
+                                    created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+                                    processed_at TIMESTAMPTZ,
+                                    FOREIGN KEY (reservation_id) REFERENCES reservation(id) ON DELETE CASCADE,
+                                    CONSTRAINT unique_reservation_outbox UNIQUE (reservation_id, event_type)
+);
+
+-- 처리 대기 중인 행만 색인 (폴링 조회용)
+CREATE INDEX idx_reservation_outbox_pending ON reservation_outbox (next_attempt_at) WHERE status = 'PENDING';
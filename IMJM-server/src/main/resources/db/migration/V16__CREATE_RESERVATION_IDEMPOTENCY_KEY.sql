@@ -0,0 +1,14 @@
+-- 예약 완료 요청 멱등 키 (Idempotency-Key 헤더): 같은 키로 다시 온 요청은 저장된 예약 ID 를 그대로 돌려준다
+-- 예약 트랜잭션 맨 앞에서 reservation_id 없이 넣어 동시에 온 같은 요청을 PK 잠금으로 한 줄로 세우고, 예약 저장 후 채운다
+CREATE TABLE reservation_idempotency_key (
+                                             user_id VARCHAR(100) NOT NULL,
+                                             idempotency_key VARCHAR(100) NOT NULL,
+                                             reservation_id BIGINT,
+                                             created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+                                             PRIMARY KEY (user_id, idempotency_key),
+                                             FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+                                             FOREIGN KEY (reservation_id) REFERENCES reservation(id) ON DELETE CASCADE
+);
+
+-- 보관 기간이 지난 키 삭제용
+CREATE INDEX idx_reservation_idempotency_key_created_at ON reservation_idempotency_key (created_at);
@@ -0,0 +1,3 @@
+-- 같은 Idempotency-Key 로 다른 본문을 보낸 요청을 구분하기 위한 요청 본문 해시 (SHA-256 hex)
+-- 이 컬럼이 생기기 전에 저장된 키는 NULL 이고 비교 없이 저장된 예약 ID 를 돌려준다
+ALTER TABLE reservation_idempotency_key ADD COLUMN request_hash VARCHAR(64);
@@ -0,0 +1,10 @@
+-- 재연결 동기화 변경분 조회용 갱신 시각
+-- 번역 결과가 반영된 시각: 이미 받은 메시지의 번역 변경을 since 이후로 골라낸다
+ALTER TABLE chat_message ADD COLUMN translation_updated_at TIMESTAMPTZ;
+
+CREATE INDEX idx_chat_message_room_translation_updated_at
+    ON chat_message (chat_room_id, translation_updated_at)
+    WHERE translation_updated_at IS NOT NULL;
+
+-- 안 읽은 수가 바뀐 시각: 기존 방은 한 번은 변경분에 포함되도록 현재 시각으로 채운다
+ALTER TABLE chat_room ADD COLUMN unread_updated_at TIMESTAMPTZ DEFAULT now();
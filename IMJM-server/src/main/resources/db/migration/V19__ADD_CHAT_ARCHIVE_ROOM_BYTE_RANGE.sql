@@ -0,0 +1,5 @@
+-- 보관 파일은 채팅방마다 gzip 멤버 하나로 쓰고, 그 위치를 남겨 이전 메시지 조회 때 해당 범위만 내려받는다
+-- 이 컬럼이 생기기 전에 보관된 파일은 NULL 이고 파일 전체를 읽는다
+ALTER TABLE chat_message_archive_room
+    ADD COLUMN byte_offset BIGINT,
+    ADD COLUMN byte_length BIGINT;
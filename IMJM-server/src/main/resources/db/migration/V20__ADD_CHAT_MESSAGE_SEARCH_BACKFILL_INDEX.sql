@@ -0,0 +1,3 @@
+-- ChatSearchIndexBackfill 의 "search_tokens IS NULL LIMIT ?" 조회용 부분 인덱스
+-- 새 메시지는 저장 때 색인되므로 채우기가 끝나면 거의 비어 있다
+CREATE INDEX idx_chat_message_search_tokens_missing ON chat_message (id) WHERE search_tokens IS NULL;
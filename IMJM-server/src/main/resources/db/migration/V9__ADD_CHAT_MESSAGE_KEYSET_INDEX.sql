@@ -0,0 +1,3 @@
+-- 채팅 메시지 키셋 페이징: WHERE chat_room_id = ? AND (sent_at, id) < (?, ?) ORDER BY sent_at DESC, id DESC
+CREATE INDEX idx_chat_message_room_sent_at_id
+    ON chat_message (chat_room_id, sent_at, id);
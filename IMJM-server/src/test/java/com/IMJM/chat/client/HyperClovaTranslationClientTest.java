@@ -0,0 +1,48 @@
+package com.IMJM.chat.client;
+
+import com.IMJM.chat.exception.BatchTranslationFormatException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HyperClovaTranslationClientTest {
+
+    @Test
+    void splitsNumberedSegmentsInOrder() {
+        String response = "[1] Hello\n[2] See you at 3\n[3] Thank you!";
+
+        assertThat(HyperClovaTranslationClient.splitNumbered(response, 3))
+                .containsExactly("Hello", "See you at 3", "Thank you!");
+    }
+
+    @Test
+    void acceptsOutOfOrderNumbersAndIndentedLines() {
+        String response = "  [2] second\n\t[1] first";
+
+        assertThat(HyperClovaTranslationClient.splitNumbered(response, 2))
+                .containsExactly("first", "second");
+    }
+
+    @Test
+    void keepsBracketsThatAreNotAtLineStart() {
+        String response = "[1] Price is [2] items\n[2] ok";
+
+        assertThat(HyperClovaTranslationClient.splitNumbered(response, 2))
+                .containsExactly("Price is [2] items", "ok");
+    }
+
+    @Test
+    void rejectsMissingDuplicateOrOutOfRangeSegments() {
+        assertThatThrownBy(() -> HyperClovaTranslationClient.splitNumbered("[1] a", 2))
+                .isInstanceOf(BatchTranslationFormatException.class);
+        assertThatThrownBy(() -> HyperClovaTranslationClient.splitNumbered("[1] a\n[1] b", 2))
+                .isInstanceOf(BatchTranslationFormatException.class);
+        assertThatThrownBy(() -> HyperClovaTranslationClient.splitNumbered("[1] a\n[3] b", 2))
+                .isInstanceOf(BatchTranslationFormatException.class);
+        assertThatThrownBy(() -> HyperClovaTranslationClient.splitNumbered("[1]\n[2] b", 2))
+                .isInstanceOf(BatchTranslationFormatException.class);
+        assertThatThrownBy(() -> HyperClovaTranslationClient.splitNumbered(null, 1))
+                .isInstanceOf(BatchTranslationFormatException.class);
+    }
+}
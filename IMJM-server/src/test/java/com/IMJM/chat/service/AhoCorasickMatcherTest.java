@@ -0,0 +1,60 @@
+package com.IMJM.chat.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AhoCorasickMatcherTest {
+
+    @Test
+    void findsOverlappingAndSuffixPatterns() {
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("レイヤーカット", "ヤー", "カット", "カール"));
+
+        assertThat(describe(matcher, "レイヤーカット"))
+                .containsExactlyInAnyOrder("0:7:レイヤーカット", "2:4:ヤー", "4:7:カット");
+    }
+
+    @Test
+    void matchesHangulWithoutBoundaries() {
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("레이어드컷", "컷", "c컬"));
+
+        assertThat(describe(matcher, "레이어드컷c컬"))
+                .containsExactlyInAnyOrder("0:5:레이어드컷", "4:5:컷", "5:7:c컬");
+    }
+
+    @Test
+    void latinPatternsMatchOnlyWholeWords() {
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("hi", "cut", "perm"));
+
+        assertThat(matcher.findAll("this")).isEmpty();
+        assertThat(matcher.findAll("haircut")).isEmpty();
+        assertThat(matcher.findAll("permanent")).isEmpty();
+        assertThat(describe(matcher, "hi, cut!")).containsExactlyInAnyOrder("0:2:hi", "4:7:cut");
+    }
+
+    @Test
+    void latinPatternNextToHangulOrDigitIsAWord() {
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("perm", "cắt layer"));
+
+        assertThat(describe(matcher, "2perm펌")).containsExactly("1:5:perm");
+        assertThat(describe(matcher, "cắt layer")).containsExactly("0:9:cắt layer");
+        assertThat(matcher.findAll("cắt layers")).isEmpty();
+    }
+
+    @Test
+    void ignoresEmptyPatterns() {
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("", "a"));
+
+        assertThat(describe(matcher, "a")).containsExactly("0:1:a");
+    }
+
+    // "시작:끝:매치된 글자" 목록
+    private static List<String> describe(AhoCorasickMatcher matcher, String text) {
+        return matcher.findAll(text).stream()
+                .map(m -> m.start + ":" + m.end + ":" + text.substring(m.start, m.end))
+                .collect(Collectors.toList());
+    }
+}
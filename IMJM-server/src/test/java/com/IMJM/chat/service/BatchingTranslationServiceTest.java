@@ -0,0 +1,102 @@
+package com.IMJM.chat.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BatchingTranslationServiceTest {
+
+    // 묶음 대기가 일어나면 테스트 시간 제한에 바로 걸리도록 길게 잡는다
+    private static final long MAX_DELAY_MILLIS = 2_000;
+
+    private final HyperClovaXTranslationService delegate = mock(HyperClovaXTranslationService.class);
+    private final BatchingTranslationService service =
+            new BatchingTranslationService(delegate, 8, MAX_DELAY_MILLIS, new SimpleMeterRegistry());
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void loneRequestIsSentWithoutWaitingForABatch() {
+        when(delegate.translate("안녕", "ko", "en")).thenReturn("Hello");
+
+        long started = System.nanoTime();
+        String translated = service.translate("안녕", "ko", "en");
+
+        assertThat(translated).isEqualTo("Hello");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(MAX_DELAY_MILLIS / 2);
+        verify(delegate, never()).translateBatch(anyList(), anyString(), anyString());
+    }
+
+    @Test
+    void requestsArrivingDuringACallAreBatched() throws Exception {
+        CountDownLatch firstCallStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstCall = new CountDownLatch(1);
+        when(delegate.translate("first", "ko", "en")).thenAnswer(invocation -> {
+            firstCallStarted.countDown();
+            releaseFirstCall.await();
+            return "FIRST";
+        });
+        when(delegate.translateBatch(anyList(), eq("ko"), eq("en"))).thenAnswer(invocation ->
+                invocation.<List<String>>getArgument(0).stream()
+                        .map(String::toUpperCase)
+                        .collect(Collectors.toList()));
+
+        Future<String> first = executor.submit(() -> service.translate("first", "ko", "en"));
+        assertThat(firstCallStarted.await(1, TimeUnit.SECONDS)).isTrue();
+
+        Future<String> second = executor.submit(() -> service.translate("second", "ko", "en"));
+        Future<String> third = executor.submit(() -> service.translate("third", "ko", "en"));
+
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("SECOND");
+        assertThat(third.get(5, TimeUnit.SECONDS)).isEqualTo("THIRD");
+        verify(delegate).translateBatch(anyList(), eq("ko"), eq("en"));
+
+        releaseFirstCall.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("FIRST");
+    }
+
+    @Test
+    void multiLineTextIsNeverBatched() throws Exception {
+        CountDownLatch firstCallStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstCall = new CountDownLatch(1);
+        when(delegate.translate("first", "ko", "en")).thenAnswer(invocation -> {
+            firstCallStarted.countDown();
+            releaseFirstCall.await();
+            return "FIRST";
+        });
+        when(delegate.translate("예약 완료\n감사합니다", "ko", "en")).thenReturn("Booked\nThank you");
+
+        Future<String> first = executor.submit(() -> service.translate("first", "ko", "en"));
+        assertThat(firstCallStarted.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // 같은 언어 쌍 호출이 진행 중이어도 줄바꿈을 지키도록 따로 보낸다
+        assertThat(service.translate("예약 완료\n감사합니다", "ko", "en")).isEqualTo("Booked\nThank you");
+        verify(delegate, never()).translateBatch(anyList(), anyString(), anyString());
+
+        releaseFirstCall.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("FIRST");
+        verify(delegate, timeout(1000)).translate("first", "ko", "en");
+    }
+}
@@ -0,0 +1,140 @@
+package com.IMJM.chat.service;
+
+import com.IMJM.chat.dto.ChatMessageDto;
+import com.IMJM.chat.repository.ChatMessageArchiveRepository;
+import com.IMJM.chat.repository.ChatMessageArchiveRoomRepository;
+import com.IMJM.common.cloud.StorageService;
+import com.IMJM.common.entity.ChatMessageArchive;
+import com.IMJM.common.entity.ChatMessageArchiveRoom;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChatMessageArchiveServiceTest {
+
+    private static final OffsetDateTime MONTH = OffsetDateTime.parse("2025-01-10T12:00:00+09:00");
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final StorageService storageService = mock(StorageService.class);
+    private final ChatMessageArchiveRepository archiveRepository = mock(ChatMessageArchiveRepository.class);
+    private final ChatMessageArchiveRoomRepository archiveRoomRepository = mock(ChatMessageArchiveRoomRepository.class);
+    private final ChatMessageArchiveService service = new ChatMessageArchiveService(mock(JdbcTemplate.class),
+            mock(TransactionTemplate.class), storageService, objectMapper, archiveRepository, archiveRoomRepository, 16);
+
+    private final ChatMessageArchive archive = ChatMessageArchive.builder()
+            .id(1L)
+            .storagePath("chat-archive/chat_message_p202501.jsonl.gz")
+            .status(ChatMessageArchive.STATUS_DONE)
+            .build();
+
+    @Test
+    void readsOnlyTheRoomsGzipMember() throws IOException {
+        // 채팅방 1, 2 가 각각 gzip 멤버 하나인 보관 파일
+        ByteArrayOutputStream file = new ByteArrayOutputStream();
+        writeMember(file, message(1L, 10L), message(1L, 11L));
+        long roomTwoOffset = file.size();
+        writeMember(file, message(2L, 12L), message(2L, 13L), message(2L, 14L));
+        byte[] archiveFile = file.toByteArray();
+        serveRanges(archiveFile);
+
+        when(archiveRepository.existsByStatus(ChatMessageArchive.STATUS_DONE)).thenReturn(true);
+        when(archiveRoomRepository.findByChatRoomIdNewestFirst(2L)).thenReturn(List.of(
+                slice(2L, 12L, 14L, roomTwoOffset, archiveFile.length - roomTwoOffset)));
+        service.refreshArchiveState();
+
+        List<ChatMessageDto> newestFirst = service.findBefore(2L, null, null, 10);
+
+        assertThat(newestFirst).extracting(ChatMessageDto::getId).containsExactly(14L, 13L, 12L);
+        verify(storageService).downloadRange(eq(archive.getStoragePath()), eq(roomTwoOffset),
+                eq(archiveFile.length - roomTwoOffset), any());
+        verify(storageService, never()).download(anyString(), any());
+
+        // 같은 방 범위는 캐시에서
+        assertThat(service.findMessage(2L, 13L).getMessage()).isEqualTo("message 13");
+        verify(storageService, times(1)).downloadRange(anyString(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void wholeFileOfConcatenatedMembersIsStillOneGzipStream() throws IOException {
+        ByteArrayOutputStream file = new ByteArrayOutputStream();
+        writeMember(file, message(1L, 10L));
+        writeMember(file, message(2L, 12L), message(2L, 13L));
+        byte[] archiveFile = file.toByteArray();
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write(archiveFile);
+            out.close();
+            return null;
+        }).when(storageService).download(anyString(), any());
+
+        when(archiveRepository.existsByStatus(ChatMessageArchive.STATUS_DONE)).thenReturn(true);
+        // V19 이전 보관분: 바이트 위치가 없어 파일 전체를 읽는다
+        when(archiveRoomRepository.findByChatRoomIdNewestFirst(2L)).thenReturn(List.of(slice(2L, 12L, 13L, null, null)));
+        service.refreshArchiveState();
+
+        assertThat(service.findBefore(2L, null, null, 10)).extracting(ChatMessageDto::getId).containsExactly(13L, 12L);
+    }
+
+    private void serveRanges(byte[] archiveFile) {
+        doAnswer(invocation -> {
+            long offset = invocation.getArgument(1);
+            long length = invocation.getArgument(2);
+            OutputStream out = invocation.getArgument(3);
+            out.write(archiveFile, (int) offset, (int) length);
+            return null;
+        }).when(storageService).downloadRange(anyString(), anyLong(), anyLong(), any());
+    }
+
+    private void writeMember(OutputStream file, ChatMessageDto... messages) throws IOException {
+        GZIPOutputStream member = new GZIPOutputStream(file);
+        for (ChatMessageDto message : messages) {
+            member.write((objectMapper.writeValueAsString(message) + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+        member.finish();
+    }
+
+    private ChatMessageArchiveRoom slice(Long chatRoomId, Long minId, Long maxId, Long byteOffset, Long byteLength) {
+        return ChatMessageArchiveRoom.builder()
+                .archive(archive)
+                .chatRoomId(chatRoomId)
+                .minMessageId(minId)
+                .maxMessageId(maxId)
+                .minSentAt(MONTH)
+                .maxSentAt(MONTH.plusMinutes(maxId))
+                .byteOffset(byteOffset)
+                .byteLength(byteLength)
+                .build();
+    }
+
+    private static ChatMessageDto message(Long chatRoomId, Long id) {
+        return ChatMessageDto.builder()
+                .id(id)
+                .chatRoomId(chatRoomId)
+                .senderType("USER")
+                .message("message " + id)
+                .sentAt(MONTH.plusMinutes(id))
+                .build();
+    }
+}
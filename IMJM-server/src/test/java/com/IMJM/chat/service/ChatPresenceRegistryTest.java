@@ -0,0 +1,129 @@
+package com.IMJM.chat.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatPresenceRegistryTest {
+
+    private final ChatPresenceRegistry registry = new ChatPresenceRegistry(new SimpleMeterRegistry());
+
+    @Test
+    void ownerComesFromFirstUserDestinationSubscription() {
+        connect("s1");
+        // principal 기반 "/user/queue/..." 구독은 주인을 정하지 않는다
+        subscribe("s1", "sub-0", "/user/queue/errors");
+        assertThat(registry.isOnline("queue")).isFalse();
+
+        subscribe("s1", "sub-1", "/user/user-1/queue/messages");
+        subscribe("s1", "sub-2", "/user/user-2/queue/alarms");
+
+        assertThat(registry.isOnline("user-1")).isTrue();
+        assertThat(registry.isOnline("user-2")).isFalse();
+    }
+
+    @Test
+    void roomTopicSubscribeAndUnsubscribe() {
+        connect("s1");
+        subscribe("s1", "sub-1", "/user/user-1/queue/messages");
+        subscribe("s1", "room-7", ChatPresenceRegistry.ROOM_TOPIC_PREFIX + "7");
+        subscribe("s1", "room-x", ChatPresenceRegistry.ROOM_TOPIC_PREFIX + "not-a-number");
+
+        assertThat(registry.isWatchingRoom("user-1", 7L)).isTrue();
+        assertThat(registry.isWatchingRoom("user-1", 8L)).isFalse();
+        assertThat(registry.isWatchingRoom("user-2", 7L)).isFalse();
+        assertThat(registry.isWatchingRoom("user-1", null)).isFalse();
+
+        unsubscribe("s1", "room-7");
+
+        assertThat(registry.isWatchingRoom("user-1", 7L)).isFalse();
+        assertThat(registry.isOnline("user-1")).isTrue();
+    }
+
+    @Test
+    void roomSubscribedBeforeOwnerIsKnownStillCounts() {
+        // 화면이 채팅방 구독을 먼저 보내도 같은 세션 상태에 쌓인다
+        subscribe("s1", "room-7", ChatPresenceRegistry.ROOM_TOPIC_PREFIX + "7");
+        subscribe("s1", "sub-1", "/user/salon-1/queue/messages");
+
+        assertThat(registry.isWatchingRoom("salon-1", 7L)).isTrue();
+    }
+
+    @Test
+    void participantWithSeveralSessions() {
+        connect("phone");
+        connect("laptop");
+        subscribe("phone", "sub-1", "/user/user-1/queue/messages");
+        subscribe("laptop", "sub-1", "/user/user-1/queue/messages");
+        subscribe("laptop", "room-7", ChatPresenceRegistry.ROOM_TOPIC_PREFIX + "7");
+
+        // 한 세션이라도 방을 열어 두었으면 보고 있는 것
+        assertThat(registry.isWatchingRoom("user-1", 7L)).isTrue();
+
+        disconnect("laptop");
+
+        assertThat(registry.isOnline("user-1")).isTrue();
+        assertThat(registry.isWatchingRoom("user-1", 7L)).isFalse();
+    }
+
+    @Test
+    void participantIsRemovedOnLastDisconnect() {
+        connect("s1");
+        connect("s2");
+        subscribe("s1", "sub-1", "/user/user-1/queue/messages");
+        subscribe("s2", "sub-1", "/user/user-1/queue/messages");
+
+        disconnect("s1");
+        assertThat(registry.isOnline("user-1")).isTrue();
+
+        disconnect("s2");
+        assertThat(registry.isOnline("user-1")).isFalse();
+
+        // 모르는 세션이나 주인 없는 세션의 해제는 무시한다
+        connect("anonymous");
+        disconnect("anonymous");
+        disconnect("unknown");
+        assertThat(registry.isOnline("user-1")).isFalse();
+    }
+
+    private void connect(String sessionId) {
+        registry.onConnect(new SessionConnectEvent(this, message(StompCommand.CONNECT, sessionId, null, null)));
+    }
+
+    private void subscribe(String sessionId, String subscriptionId, String destination) {
+        registry.onSubscribe(new SessionSubscribeEvent(this,
+                message(StompCommand.SUBSCRIBE, sessionId, subscriptionId, destination)));
+    }
+
+    private void unsubscribe(String sessionId, String subscriptionId) {
+        registry.onUnsubscribe(new SessionUnsubscribeEvent(this,
+                message(StompCommand.UNSUBSCRIBE, sessionId, subscriptionId, null)));
+    }
+
+    private void disconnect(String sessionId) {
+        registry.onDisconnect(new SessionDisconnectEvent(this,
+                message(StompCommand.DISCONNECT, sessionId, null, null), sessionId, CloseStatus.NORMAL));
+    }
+
+    private static Message<byte[]> message(StompCommand command, String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        if (subscriptionId != null) {
+            accessor.setSubscriptionId(subscriptionId);
+        }
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
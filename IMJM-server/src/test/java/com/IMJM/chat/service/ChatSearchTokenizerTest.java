@@ -0,0 +1,65 @@
+package com.IMJM.chat.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatSearchTokenizerTest {
+
+    @Test
+    void keywordIsNormalizedLikeTheIndex() {
+        assertThat(ChatSearchTokenizer.normalizeKeyword("  ＬＡＹＥＲ ｶｯﾄ ")).isEqualTo("layer カット");
+        assertThat(ChatSearchTokenizer.queryTokens("ＬＡＹＥＲ"))
+                .isEqualTo(ChatSearchTokenizer.queryTokens("layer"));
+    }
+
+    @Test
+    void singleSyllableWordInQueryDoesNotRequireUnigramInIndex() {
+        // "펌", "컷" 은 색인에서 "디지털펌", "레이어드컷" 의 bigram 으로만 들어간다
+        assertIndexMatches("디지털펌 예약했어요", "펌 예약");
+        assertIndexMatches("레이어드컷 예약 가능한가요?", "컷 예약");
+        assertThat(ChatSearchTokenizer.queryTokens("펌 예약")).isEqualTo("예약");
+        // 한 글자 단어만 있는 메시지는 그대로 unigram 으로 색인된다
+        assertThat(ChatSearchTokenizer.indexTokens("펌 해요", null).split(" ")).contains("펌", "해요");
+    }
+
+    @Test
+    void matchesAreReportedInOriginalTextOffsets() {
+        String text = "ﬁne ＣＵＴ, 레이어드 cut";
+
+        assertThat(describe(text, ChatSearchTokenizer.normalizeKeyword("cut")))
+                .containsExactly("4:7:ＣＵＴ", "14:17:cut");
+        assertThat(describe(text, ChatSearchTokenizer.normalizeKeyword("fi"))).containsExactly("0:1:ﬁ");
+    }
+
+    @Test
+    void halfWidthKatakanaMatchesFullWidthKeyword() {
+        String text = "ﾚｲﾔｰｶｯﾄでお願いします";
+
+        assertThat(describe(text, ChatSearchTokenizer.normalizeKeyword("カット"))).containsExactly("4:7:ｶｯﾄ");
+    }
+
+    @Test
+    void noMatchesForEmptyKeywordOrMissingText() {
+        assertThat(ChatSearchTokenizer.findMatches("cut", "")).isEmpty();
+        assertThat(ChatSearchTokenizer.findMatches(null, "cut")).isEmpty();
+    }
+
+    // plainto_tsquery 처럼 검색 토큰이 모두 색인 토큰에 있고, 원문 포함 확인(strpos)도 통과하는지
+    private static void assertIndexMatches(String message, String keyword) {
+        Set<String> indexed = Set.of(ChatSearchTokenizer.indexTokens(message, null).split(" "));
+        assertThat(indexed).containsAll(List.of(ChatSearchTokenizer.queryTokens(keyword).split(" ")));
+        assertThat(ChatSearchTokenizer.findMatches(message, ChatSearchTokenizer.normalizeKeyword(keyword))).isNotEmpty();
+    }
+
+    // "시작:끝:원문 글자" 목록
+    private static List<String> describe(String text, String keyword) {
+        return ChatSearchTokenizer.findMatches(text, keyword).stream()
+                .map(range -> range[0] + ":" + range[1] + ":" + text.substring(range[0], range[1]))
+                .collect(Collectors.toList());
+    }
+}
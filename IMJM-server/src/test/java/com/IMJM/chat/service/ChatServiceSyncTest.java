@@ -0,0 +1,110 @@
+package com.IMJM.chat.service;
+
+import com.IMJM.admin.repository.SalonPhotosRepository;
+import com.IMJM.chat.dto.ChatSyncResponseDto;
+import com.IMJM.chat.repository.ChatMessageRepository;
+import com.IMJM.chat.repository.ChatPhotosRepository;
+import com.IMJM.chat.repository.ChatRoomRepository;
+import com.IMJM.chat.repository.ChatSalonRepository;
+import com.IMJM.chat.repository.ChatUserRepository;
+import com.IMJM.common.cloud.ParallelUploadService;
+import com.IMJM.common.cloud.StorageService;
+import com.IMJM.common.entity.ChatMessage;
+import com.IMJM.common.entity.ChatRoom;
+import com.IMJM.common.entity.Salon;
+import com.IMJM.common.entity.Users;
+import com.IMJM.reservation.repository.ReservationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChatServiceSyncTest {
+
+    private static final OffsetDateTime SINCE = OffsetDateTime.parse("2026-10-18T10:00:00+09:00");
+
+    private final ChatRoomRepository chatRoomRepository = mock(ChatRoomRepository.class);
+    private final ChatMessageRepository chatMessageRepository = mock(ChatMessageRepository.class);
+    private final ChatService chatService = new ChatService(chatRoomRepository, chatMessageRepository,
+            mock(ChatPhotosRepository.class), mock(ChatUserRepository.class), mock(ChatSalonRepository.class),
+            mock(TranslationService.class), mock(LanguageDetector.class), mock(ChatPresenceRegistry.class),
+            mock(ChatMessageArchiveService.class), mock(ChatMessageBroadcaster.class),
+            mock(ReservationRepository.class), mock(StorageService.class), mock(ParallelUploadService.class),
+            mock(SalonPhotosRepository.class), mock(ApplicationEventPublisher.class));
+
+    private final ChatRoom quietRoom = room(1L, SINCE.minusHours(1));
+    private final ChatRoom readRoom = room(2L, SINCE.plusMinutes(1));
+
+    @Test
+    void returnsOnlyReadStatesChangedSinceCursor() {
+        when(chatRoomRepository.findWithUserAndSalonByUserIdOrderByLastMessageTimeDesc("user-1"))
+                .thenReturn(List.of(quietRoom, readRoom));
+
+        ChatSyncResponseDto response = chatService.syncChats("user-1", "USER", 100L, SINCE);
+
+        assertThat(response.getReadStates()).extracting("chatRoomId").containsExactly(2L);
+        assertThat(response.getRooms()).isEmpty();
+        assertThat(response.getNextSinceId()).isEqualTo(100L);
+    }
+
+    @Test
+    void returnsAlreadySeenMessagesWhoseTranslationChanged() {
+        when(chatRoomRepository.findWithUserAndSalonByUserIdOrderByLastMessageTimeDesc("user-1"))
+                .thenReturn(List.of(quietRoom, readRoom));
+        ChatMessage translated = ChatMessage.builder()
+                .id(90L)
+                .chatRoom(quietRoom)
+                .senderType("SALON")
+                .message("안녕하세요")
+                .translatedMessage("Hello")
+                .translationStatus("completed")
+                .translationUpdatedAt(SINCE.plusSeconds(3))
+                .build();
+        when(chatMessageRepository.findTranslationUpdatedSince(anyCollection(), any(), eq(100L), any()))
+                .thenReturn(List.of(translated));
+
+        ChatSyncResponseDto response = chatService.syncChats("user-1", "USER", 100L, SINCE);
+
+        assertThat(response.getMessages()).isEmpty();
+        assertThat(response.getUpdatedMessages()).singleElement()
+                .satisfies(message -> {
+                    assertThat(message.getId()).isEqualTo(90L);
+                    assertThat(message.getTranslatedMessage()).isEqualTo("Hello");
+                });
+        // 시계 차이를 고려해 since 보다 조금 앞에서부터 찾는다
+        verify(chatMessageRepository).findTranslationUpdatedSince(anyCollection(),
+                eq(SINCE.minusSeconds(5)), eq(100L), any());
+    }
+
+    @Test
+    void withoutSinceReturnsAllReadStatesAndNoTranslationUpdates() {
+        when(chatRoomRepository.findWithUserAndSalonByUserIdOrderByLastMessageTimeDesc("user-1"))
+                .thenReturn(List.of(quietRoom, readRoom));
+
+        ChatSyncResponseDto response = chatService.syncChats("user-1", "USER", 100L, null);
+
+        assertThat(response.getReadStates()).extracting("chatRoomId").containsExactly(1L, 2L);
+        assertThat(response.getUpdatedMessages()).isEmpty();
+        verify(chatMessageRepository, never()).findTranslationUpdatedSince(anyCollection(), any(), any(), any());
+    }
+
+    private static ChatRoom room(Long id, OffsetDateTime unreadUpdatedAt) {
+        return ChatRoom.builder()
+                .id(id)
+                .user(Users.builder().id("user-1").build())
+                .salon(Salon.builder().id("salon-" + id).build())
+                .lastMessageTime(SINCE.minusDays(1))
+                .unreadUpdatedAt(unreadUpdatedAt)
+                .build();
+    }
+}
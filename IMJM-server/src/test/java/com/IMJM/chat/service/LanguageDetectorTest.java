@@ -0,0 +1,57 @@
+package com.IMJM.chat.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LanguageDetectorTest {
+
+    private final LanguageDetector detector = new LanguageDetector();
+
+    @Test
+    void detectsByScript() {
+        assertThat(detector.detect("안녕하세요, 내일 3시에 예약할게요")).isEqualTo("ko");
+        assertThat(detector.detect("明日の予約をお願いします")).isEqualTo("ja");
+        assertThat(detector.detect("我想预约明天下午")).isEqualTo("zh");
+        assertThat(detector.detect("สวัสดีครับ")).isEqualTo("th");
+        assertThat(detector.detect("Здравствуйте, можно записаться?")).isEqualTo("ru");
+    }
+
+    @Test
+    void countsHanAsJapaneseWhenKanaIsPresent() {
+        // 한자가 더 많아도 가나가 섞여 있으면 일본어
+        assertThat(detector.detect("予約確認済みです")).isEqualTo("ja");
+    }
+
+    @Test
+    void detectsVietnameseByToneMarks() {
+        assertThat(detector.detect("Tôi muốn đặt lịch cắt tóc")).isEqualTo("vi");
+    }
+
+    @Test
+    void detectsLatinLanguagesByTrigrams() {
+        assertThat(detector.detect("Thank you, I will see you at the salon")).isEqualTo("en");
+        assertThat(detector.detect("Je voudrais un rendez-vous pour une coupe")).isEqualTo("fr");
+        assertThat(detector.detect("Hola, quiero una cita para el corte por favor")).isEqualTo("es");
+        assertThat(detector.detect("Ich möchte einen Termin und das ist nicht dringend")).isEqualTo("de");
+    }
+
+    @Test
+    void returnsNullWhenUnsure() {
+        assertThat(detector.detect(null)).isNull();
+        assertThat(detector.detect("")).isNull();
+        assertThat(detector.detect("👍 123 !!")).isNull();
+        assertThat(detector.detect("ok")).isNull();
+        // 어느 스크립트도 절반을 넘지 않는다
+        assertThat(detector.detect("예약 予約 ok")).isNull();
+    }
+
+    @Test
+    void comparesPrimaryLanguageOnly() {
+        assertThat(LanguageDetector.isSameLanguage("zh", "zh-cn")).isTrue();
+        assertThat(LanguageDetector.isSameLanguage("en", "EN")).isTrue();
+        assertThat(LanguageDetector.isSameLanguage("ja", "ko")).isFalse();
+        assertThat(LanguageDetector.isSameLanguage(null, "ko")).isFalse();
+        assertThat(LanguageDetector.isSameLanguage("ko", null)).isFalse();
+    }
+}
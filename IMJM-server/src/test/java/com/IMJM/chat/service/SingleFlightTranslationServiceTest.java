@@ -0,0 +1,81 @@
+package com.IMJM.chat.service;
+
+import com.IMJM.chat.exception.TranslationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTranslationServiceTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void followerSharesLeaderResult() throws Exception {
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        int[] calls = new int[1];
+        SingleFlightTranslationService service = new SingleFlightTranslationService((text, source, target) -> {
+            calls[0]++;
+            leaderStarted.countDown();
+            await(release);
+            return "Hello";
+        }, new SimpleMeterRegistry());
+
+        Future<String> leader = executor.submit(() -> service.translate("안녕하세요", "ko", "en"));
+        assertThat(leaderStarted.await(2, TimeUnit.SECONDS)).isTrue();
+        Future<String> follower = executor.submit(() -> service.translate("안녕하세요", "KO", "EN"));
+        Thread.sleep(100);
+        release.countDown();
+
+        assertThat(leader.get(2, TimeUnit.SECONDS)).isEqualTo("Hello");
+        assertThat(follower.get(2, TimeUnit.SECONDS)).isEqualTo("Hello");
+        assertThat(calls[0]).isEqualTo(1);
+    }
+
+    @Test
+    void followerIsReleasedWhenLeaderThrowsError() throws Exception {
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        SingleFlightTranslationService service = new SingleFlightTranslationService((text, source, target) -> {
+            leaderStarted.countDown();
+            await(release);
+            throw new StackOverflowError("delegate blew up");
+        }, new SimpleMeterRegistry());
+
+        Future<String> leader = executor.submit(() -> service.translate("안녕하세요", "ko", "en"));
+        assertThat(leaderStarted.await(2, TimeUnit.SECONDS)).isTrue();
+        Future<String> follower = executor.submit(() -> service.translate("안녕하세요", "ko", "en"));
+        Thread.sleep(100);
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(2, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(StackOverflowError.class);
+        assertThatThrownBy(() -> follower.get(2, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(TranslationException.class);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
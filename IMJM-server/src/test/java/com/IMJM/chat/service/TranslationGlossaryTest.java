@@ -0,0 +1,63 @@
+package com.IMJM.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TranslationGlossaryTest {
+
+    private final TranslationGlossary glossary = new TranslationGlossary(List.of(
+            Map.of("ko", List.of("레이어드컷", "레이어드 컷"), "en", List.of("layered cut"), "ja", List.of("レイヤーカット")),
+            Map.of("ko", List.of("C컬", "씨컬"), "en", List.of("C-curl"), "ja", List.of("Cカール")),
+            Map.of("ko", List.of("컷"), "en", List.of("haircut", "cut"), "ja", List.of("カット")),
+            Map.of("ko", List.of("안녕하세요"), "en", List.of("Hello", "hi"))
+    ));
+
+    @Test
+    void translatesMessagesMadeOnlyOfTerms() {
+        assertThat(glossary.translate("레이어드 컷", "ko", "en")).isEqualTo("layered cut");
+        assertThat(glossary.translate("안녕하세요! 👋", "ko", "en")).isEqualTo("Hello! 👋");
+        assertThat(glossary.translate("HAIRCUT?", "en", "ko")).isEqualTo("컷?");
+    }
+
+    @Test
+    void prefersLongestMatchAndSeparatesLatinWords() {
+        assertThat(glossary.translate("레이어드컷C컬", "ko", "en")).isEqualTo("layered cut C-curl");
+        assertThat(glossary.translate("레이어드컷씨컬", "ko", "ja")).isEqualTo("レイヤーカットCカール");
+    }
+
+    @Test
+    void returnsNullWhenAnyWordIsNotCovered() {
+        assertThat(glossary.translate("레이어드컷 해주세요", "ko", "en")).isNull();
+        assertThat(glossary.translate("this cut", "en", "ko")).isNull();
+        assertThat(glossary.translate("안녕하세요", "ko", "ja")).isNull();
+        assertThat(glossary.translate("컷", "ko", "vi")).isNull();
+    }
+
+    @Test
+    void rejectsPatternSharedByTwoEntries() {
+        List<Map<String, List<String>>> entries = List.of(
+                Map.of("ko", List.of("디지털펌"), "ja", List.of("デジタルパーマ")),
+                Map.of("ko", List.of("셋팅펌"), "ja", List.of("デジタルパーマ")));
+
+        assertThatThrownBy(() -> new TranslationGlossary(entries))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("デジタルパーマ");
+    }
+
+    @Test
+    void bundledGlossaryLoadsWithoutDuplicates() {
+        TranslationGlossary bundled = TranslationGlossary.load(new ObjectMapper(),
+                new ClassPathResource("translation/glossary.json"));
+
+        assertThat(bundled.size()).isPositive();
+        assertThat(bundled.translate("셋팅펌", "ko", "ja")).isEqualTo("セッティングパーマ");
+        assertThat(bundled.translate("デジタルパーマ", "ja", "ko")).isEqualTo("디지털펌");
+    }
+}
@@ -0,0 +1,57 @@
+package com.IMJM.chat.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TranslationLruCacheTest {
+
+    @Test
+    void returnsStoredEntry() {
+        TranslationLruCache cache = new TranslationLruCache(10, Duration.ofMinutes(10));
+        cache.put("ko:en:안녕", 7L, "Hello");
+
+        TranslationLruCache.Entry entry = cache.get("ko:en:안녕");
+
+        assertThat(entry.cacheId).isEqualTo(7L);
+        assertThat(entry.translatedText).isEqualTo("Hello");
+        assertThat(cache.get("ko:ja:안녕")).isNull();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntryWhenFull() {
+        TranslationLruCache cache = new TranslationLruCache(2, Duration.ofMinutes(10));
+        cache.put("a", 1L, "A");
+        cache.put("b", 2L, "B");
+        // a 를 조회해 최근 사용으로 올리면 b 가 가장 오래된 항목이 된다
+        cache.get("a");
+        cache.put("c", 3L, "C");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("a")).isNotNull();
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isNotNull();
+    }
+
+    @Test
+    void dropsExpiredEntryOnRead() {
+        TranslationLruCache cache = new TranslationLruCache(10, Duration.ofMillis(-1));
+        cache.put("a", null, "A");
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void putReplacesExistingEntry() {
+        TranslationLruCache cache = new TranslationLruCache(10, Duration.ofMinutes(10));
+        cache.put("a", null, "old");
+        cache.put("a", 9L, "new");
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get("a").translatedText).isEqualTo("new");
+        assertThat(cache.get("a").cacheId).isEqualTo(9L);
+    }
+}
@@ -0,0 +1,141 @@
+package com.IMJM.common.cloud;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class ParallelUploadServiceTest {
+
+    private final StorageService storageService = mock(StorageService.class);
+    private final List<ThreadPoolTaskExecutor> executors = new ArrayList<>();
+
+    @AfterEach
+    void shutdown() {
+        executors.forEach(ThreadPoolTaskExecutor::shutdown);
+    }
+
+    @Test
+    void timeoutStartsWhenUploadBegins() {
+        // 스레드 하나로 700ms 씩 두 번: 두 번째는 제출 후 1.4초에 끝나지만 시작 후로는 0.7초
+        sleepOnUpload(700);
+        ParallelUploadService service = new ParallelUploadService(storageService, executor(1, 10), 1, 30, 2, "bucket");
+
+        List<UploadResult> results = service.uploadAll(files(2), file -> "chat/" + file.getOriginalFilename());
+
+        assertThat(results).allMatch(UploadResult::isSuccess);
+    }
+
+    @Test
+    void slowUploadFailsWithTimeout() {
+        sleepOnUpload(1500);
+        ParallelUploadService service = new ParallelUploadService(storageService, executor(1, 10), 1, 30, 1, "bucket");
+
+        List<UploadResult> results = service.uploadAll(files(1), file -> "chat/" + file.getOriginalFilename());
+
+        assertThat(results.get(0).isSuccess()).isFalse();
+        assertThat(results.get(0).getError()).contains("시간 초과");
+    }
+
+    @Test
+    void limitsConcurrentUploadsPerRequest() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        doAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            running.decrementAndGet();
+            return null;
+        }).when(storageService).upload(anyString(), any(InputStream.class));
+        ParallelUploadService service = new ParallelUploadService(storageService, executor(8, 10), 5, 30, 2, "bucket");
+
+        List<UploadResult> results = service.uploadAll(files(8), file -> "chat/" + file.getOriginalFilename());
+
+        assertThat(results).allMatch(UploadResult::isSuccess);
+        assertThat(maxRunning.get()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectedUploadFailsInsteadOfRunningOnCaller() {
+        sleepOnUpload(300);
+        ParallelUploadService service = new ParallelUploadService(storageService, executor(1, 1), 5, 30, 3, "bucket");
+
+        List<UploadResult> results = service.uploadAll(files(3), file -> "chat/" + file.getOriginalFilename());
+
+        assertThat(results.stream().map(UploadResult::isSuccess).collect(Collectors.toList()))
+                .containsExactly(true, true, false);
+        assertThat(results.get(2).getError()).contains("대기열");
+    }
+
+    @Test
+    void requestDeadlineFailsFilesStillWaitingAndSkipsThem() {
+        // 스레드 하나, 파일마다 1.5초: 요청 전체 2초 안에는 첫 파일만 끝난다
+        sleepOnUpload(1500);
+        ParallelUploadService service = new ParallelUploadService(storageService, executor(1, 10), 5, 2, 3, "bucket");
+
+        long start = System.nanoTime();
+        List<UploadResult> results = service.uploadAll(files(3), file -> "chat/" + file.getOriginalFilename());
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(2500);
+        assertThat(results.stream().map(UploadResult::isSuccess).collect(Collectors.toList()))
+                .containsExactly(true, false, false);
+        assertThat(results.get(1).getError()).contains("요청 업로드 시간 초과");
+        // 두 번째 파일은 업로드 중 실패 처리되어 끝난 뒤 지워지고, 세 번째는 시작하지 않는다
+        verify(storageService, timeout(3000)).delete("chat/photo1.jpg");
+        verify(storageService, after(1000).never()).upload(eq("chat/photo2.jpg"), any(InputStream.class));
+    }
+
+    @Test
+    void uploadFinishingAfterTimeoutIsDeleted() {
+        sleepOnUpload(1500);
+        ParallelUploadService service = new ParallelUploadService(storageService, executor(1, 10), 1, 30, 1, "bucket");
+
+        List<UploadResult> results = service.uploadAll(files(1), file -> "chat/" + file.getOriginalFilename());
+
+        assertThat(results.get(0).isSuccess()).isFalse();
+        verify(storageService, timeout(3000)).delete("chat/photo0.jpg");
+    }
+
+    private void sleepOnUpload(long millis) {
+        doAnswer(invocation -> {
+            Thread.sleep(millis);
+            return null;
+        }).when(storageService).upload(anyString(), any(InputStream.class));
+    }
+
+    private ThreadPoolTaskExecutor executor(int poolSize, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.initialize();
+        executors.add(executor);
+        return executor;
+    }
+
+    private static List<MultipartFile> files(int count) {
+        List<MultipartFile> files = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            files.add(new MockMultipartFile("photos", "photo" + i + ".jpg", "image/jpeg", new byte[]{1, 2, 3}));
+        }
+        return files;
+    }
+}
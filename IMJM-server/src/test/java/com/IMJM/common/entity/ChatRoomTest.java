@@ -0,0 +1,34 @@
+package com.IMJM.common.entity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatRoomTest {
+
+    @Test
+    void keepsShortMessagesAsIs() {
+        assertThat(ChatRoom.toPreview(null)).isNull();
+        assertThat(ChatRoom.toPreview("안녕하세요")).isEqualTo("안녕하세요");
+        assertThat(ChatRoom.toPreview("a".repeat(100))).hasSize(100);
+    }
+
+    @Test
+    void cutsLongMessagesToHundredCharacters() {
+        assertThat(ChatRoom.toPreview("가".repeat(150))).isEqualTo("가".repeat(100));
+    }
+
+    @Test
+    void doesNotSplitSurrogatePairs() {
+        // 99글자 뒤 이모지: UTF-16 로는 101칸이지만 100글자
+        String emojiAtEnd = "a".repeat(99) + "😀";
+        assertThat(ChatRoom.toPreview(emojiAtEnd)).isEqualTo(emojiAtEnd);
+
+        String preview = ChatRoom.toPreview("a".repeat(99) + "😀😀b");
+        assertThat(preview).isEqualTo("a".repeat(99) + "😀");
+        assertThat(preview.codePointCount(0, preview.length())).isEqualTo(100);
+
+        String emojis = ChatRoom.toPreview("😀".repeat(120));
+        assertThat(emojis).isEqualTo("😀".repeat(100));
+    }
+}
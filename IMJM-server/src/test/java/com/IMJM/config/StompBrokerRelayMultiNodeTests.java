@@ -0,0 +1,258 @@
+package com.IMJM.config;
+
+import com.IMJM.chat.dto.ChatMessageDto;
+import com.IMJM.chat.event.ChatMessageSentEvent;
+import com.IMJM.chat.service.ChatMessageBroadcaster;
+import com.IMJM.notification.dto.AlarmDto;
+import com.IMJM.notification.event.AlarmCreatedEvent;
+import com.IMJM.notification.repository.AlarmRepository;
+import com.IMJM.notification.service.AlarmService;
+import com.IMJM.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.activemq.artemis.core.config.Configuration;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.websocket.servlet.WebSocketServletAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.simp.broker.AbstractBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 브로커 릴레이 모드(chat.broker.mode=relay) 다중 노드 전달.
+ * <p>
+ * 내장 STOMP 브로커(Artemis) 하나에 애플리케이션 노드 두 개를 붙이고, 노드 A 에서 보낸 채팅 메시지와 알림이
+ * 노드 B 에 연결된 세션의 "/user/{id}/queue/..." 구독으로 도착하는지 확인한다.
+ * 노드는 DB 없이 웹소켓 설정과 실제 발송 코드(ChatMessageBroadcaster, AlarmService)만 띄운다.
+ */
+class StompBrokerRelayMultiNodeTests {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private static EmbeddedActiveMQ broker;
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+    private static ThreadPoolTaskScheduler clientScheduler;
+
+    @BeforeAll
+    static void startBrokerAndNodes(@TempDir Path brokerDir) throws Exception {
+        int stompPort = freePort();
+        Configuration configuration = new ConfigurationImpl()
+                .setPersistenceEnabled(false)
+                .setSecurityEnabled(false)
+                .setJournalDirectory(brokerDir.resolve("journal").toString())
+                .setBindingsDirectory(brokerDir.resolve("bindings").toString())
+                .setPagingDirectory(brokerDir.resolve("paging").toString())
+                .setLargeMessagesDirectory(brokerDir.resolve("large").toString())
+                // RabbitMQ stomp 플러그인처럼 /topic/ 은 브로드캐스트, /queue/ 는 단일 소비
+                .addAcceptorConfiguration("stomp", "tcp://127.0.0.1:" + stompPort
+                        + "?protocols=STOMP;multicastPrefix=/topic/;anycastPrefix=/queue/");
+        broker = new EmbeddedActiveMQ().setConfiguration(configuration);
+        broker.start();
+
+        nodeA = startNode(stompPort);
+        nodeB = startNode(stompPort);
+        awaitRelayConnected(nodeA);
+        awaitRelayConnected(nodeB);
+
+        clientScheduler = new ThreadPoolTaskScheduler();
+        clientScheduler.setPoolSize(2);
+        clientScheduler.initialize();
+    }
+
+    @AfterAll
+    static void stopNodesAndBroker() throws Exception {
+        if (clientScheduler != null) {
+            clientScheduler.shutdown();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (broker != null) {
+            broker.stop();
+        }
+    }
+
+    @Test
+    void chatMessageSentOnOneNodeReachesParticipantsOnBothNodes() throws Exception {
+        StompSession userOnB = connect(nodeB);
+        StompSession salonOnA = connect(nodeA);
+        BlockingQueue<String> userMessages = subscribe(userOnB, "/user/relay-user-1/queue/messages");
+        BlockingQueue<String> salonMessages = subscribe(salonOnA, "/user/relay-salon-1/queue/messages");
+
+        ChatMessageDto message = ChatMessageDto.builder()
+                .id(101L)
+                .chatRoomId(7L)
+                .senderType("SALON")
+                .senderId("relay-salon-1")
+                .message("예약이 확정되었습니다")
+                .build();
+        nodeA.publishEvent(new ChatMessageSentEvent("relay-user-1", "relay-salon-1", message));
+
+        String received = userMessages.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertThat(received).isNotNull().contains("\"id\":101").contains("예약이 확정되었습니다");
+        assertThat(salonMessages.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isEqualTo(received);
+
+        userOnB.disconnect();
+        salonOnA.disconnect();
+    }
+
+    @Test
+    void alarmCreatedOnOneNodeReachesUserOnAnotherNode() throws Exception {
+        StompSession userOnB = connect(nodeB);
+        BlockingQueue<String> notifications = subscribe(userOnB, "/user/relay-user-2/queue/notifications");
+        BlockingQueue<String> otherUserNotifications = subscribe(userOnB, "/user/relay-user-3/queue/notifications");
+
+        AlarmDto alarm = AlarmDto.builder()
+                .id(55L)
+                .userId("relay-user-2")
+                .title("새 메시지 알림")
+                .content("미용실님이 메시지를 보냈습니다")
+                .notificationType("CHAT")
+                .referenceId(7)
+                .build();
+        nodeA.publishEvent(new AlarmCreatedEvent("relay-user-2", alarm));
+
+        String received = notifications.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertThat(received).isNotNull().contains("\"id\":55").contains("새 메시지 알림");
+        // 다른 사용자 목적지로는 전달되지 않는다
+        assertThat(otherUserNotifications.poll(500, TimeUnit.MILLISECONDS)).isNull();
+
+        userOnB.disconnect();
+    }
+
+    private static ConfigurableApplicationContext startNode(int stompPort) {
+        return new SpringApplicationBuilder(RelayNode.class)
+                .profiles("relay")
+                // application.yml 값보다 우선하도록 명령행 인자로 넘긴다
+                .run("--server.port=0",
+                        "--spring.main.banner-mode=off",
+                        "--chat.broker.relay.host=127.0.0.1",
+                        "--chat.broker.relay.port=" + stompPort);
+    }
+
+    // 노드의 시스템 세션이 브로커에 붙기 전에 보낸 메시지는 버려지므로 연결될 때까지 기다린다
+    private static void awaitRelayConnected(ConfigurableApplicationContext node) throws InterruptedException {
+        AbstractBrokerMessageHandler relay =
+                node.getBean("stompBrokerRelayMessageHandler", AbstractBrokerMessageHandler.class);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (!relay.isBrokerAvailable()) {
+            assertThat(System.nanoTime()).as("STOMP relay connected").isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+
+    private static StompSession connect(ConfigurableApplicationContext node) throws Exception {
+        int port = ((ServletWebServerApplicationContext) node).getWebServer().getPort();
+        WebSocketStompClient client = new WebSocketStompClient(new StandardWebSocketClient());
+        client.setTaskScheduler(clientScheduler);
+
+        StompSession session = client.connectAsync("ws://127.0.0.1:" + port + "/ws/websocket",
+                        new StompSessionHandlerAdapter() {
+                        })
+                .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        session.setAutoReceipt(true);
+        return session;
+    }
+
+    // 구독이 브로커까지 전달되었는지(RECEIPT) 확인한 뒤 돌려준다
+    private static BlockingQueue<String> subscribe(StompSession session, String destination) throws InterruptedException {
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        CountDownLatch subscribed = new CountDownLatch(1);
+
+        StompSession.Subscription subscription = session.subscribe(destination, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return byte[].class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.add(new String((byte[]) payload, StandardCharsets.UTF_8));
+            }
+        });
+        subscription.addReceiptTask(subscribed::countDown);
+
+        assertThat(subscribed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).as("subscribed to " + destination).isTrue();
+        return received;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    // 애플리케이션 노드: 웹 서버 + 웹소켓/STOMP 설정 + 발송 코드, 저장소는 목 객체
+    @ImportAutoConfiguration({
+            JacksonAutoConfiguration.class,
+            ServletWebServerFactoryAutoConfiguration.class,
+            DispatcherServletAutoConfiguration.class,
+            WebSocketServletAutoConfiguration.class
+    })
+    @Import({
+            WebSocketConfig.class,
+            WebSocketTransportMetrics.class,
+            ChatMessageBroadcaster.class,
+            AlarmService.class
+    })
+    @EnableTransactionManagement
+    static class RelayNode {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        AlarmRepository alarmRepository() {
+            return mock(AlarmRepository.class);
+        }
+
+        @Bean
+        UserRepository userRepository() {
+            return mock(UserRepository.class);
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return mock(PlatformTransactionManager.class);
+        }
+    }
+}
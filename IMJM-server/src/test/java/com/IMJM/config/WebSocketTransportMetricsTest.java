@@ -0,0 +1,41 @@
+package com.IMJM.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WebSocketTransportMetricsTest {
+
+    @Test
+    void foldsUserIdsInUserDestinations() {
+        assertThat(WebSocketTransportMetrics.normalizeDestination("/user/kakao_123/queue/messages"))
+                .isEqualTo("/user/{id}/queue/messages");
+        assertThat(WebSocketTransportMetrics.normalizeDestination("/user/queue/errors"))
+                .isEqualTo("/user/queue/errors");
+    }
+
+    @Test
+    void foldsSessionSuffixAndTrailingIds() {
+        assertThat(WebSocketTransportMetrics.normalizeDestination("/queue/messages-user3f2a1b"))
+                .isEqualTo("/queue/messages");
+        assertThat(WebSocketTransportMetrics.normalizeDestination("/topic/chat-room.12"))
+                .isEqualTo("/topic/chat-room.{id}");
+        assertThat(WebSocketTransportMetrics.normalizeDestination("/app/chat.read/12"))
+                .isEqualTo("/app/chat.read/{id}");
+    }
+
+    @Test
+    void foldsUserIdsInRelayDestinations() {
+        assertThat(WebSocketTransportMetrics.normalizeDestination("/topic/user.kakao_123.queue.messages"))
+                .isEqualTo("/topic/user.{id}.queue.messages");
+        assertThat(WebSocketTransportMetrics.normalizeDestination("/topic/user.salon01.queue.notifications"))
+                .isEqualTo("/topic/user.{id}.queue.notifications");
+        assertThat(WebSocketTransportMetrics.normalizeDestination("/topic/unresolved-user-destination"))
+                .isEqualTo("/topic/unresolved-user-destination");
+    }
+
+    @Test
+    void handlesMissingDestination() {
+        assertThat(WebSocketTransportMetrics.normalizeDestination(null)).isEqualTo("none");
+    }
+}
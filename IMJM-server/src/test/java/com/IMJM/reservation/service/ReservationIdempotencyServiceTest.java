@@ -0,0 +1,74 @@
+package com.IMJM.reservation.service;
+
+import com.IMJM.reservation.dto.ReservationRequestDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ReservationIdempotencyServiceTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final ReservationIdempotencyService service =
+            new ReservationIdempotencyService(jdbcTemplate, new ObjectMapper(), 100);
+
+    @Test
+    void sameBodyHasSameHash() {
+        assertThat(service.requestHash(request("salon-1", 500)))
+                .isEqualTo(service.requestHash(request("salon-1", 500)))
+                .hasSize(64);
+        assertThat(service.requestHash(request("salon-1", 500)))
+                .isNotEqualTo(service.requestHash(request("salon-1", 0)));
+    }
+
+    @Test
+    void replaysRememberedRequestWithSameBody() {
+        String hash = service.requestHash(request("salon-1", 500));
+        service.remember("user-1", "key-1", hash, 42L);
+
+        assertThat(service.findReservationId("user-1", "key-1", hash)).isEqualTo(42L);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void rejectsKeyReusedWithDifferentBody() {
+        service.remember("user-1", "key-1", service.requestHash(request("salon-1", 500)), 42L);
+        String otherHash = service.requestHash(request("salon-2", 500));
+
+        assertThatThrownBy(() -> service.findReservationId("user-1", "key-1", otherHash))
+                .isInstanceOf(IdempotencyKeyMismatchException.class);
+        // 다른 사용자의 같은 키는 별개
+        when(jdbcTemplate.query(anyString(), ArgumentMatchers.<RowMapper<Object>>any(), any(), any())).thenReturn(Collections.emptyList());
+        assertThat(service.findReservationId("user-2", "key-1", otherHash)).isNull();
+    }
+
+    @Test
+    void keyStoredWithoutHashIsReplayed() {
+        service.remember("user-1", "key-1", null, 42L);
+
+        assertThat(service.findReservationId("user-1", "key-1", service.requestHash(request("salon-1", 0))))
+                .isEqualTo(42L);
+    }
+
+    private static ReservationRequestDto request(String salonId, int pointUsed) {
+        ReservationRequestDto request = new ReservationRequestDto();
+        request.setSalonId(salonId);
+        request.setPaymentMethod("CARD");
+        ReservationRequestDto.PaymentInfoDto paymentInfo = new ReservationRequestDto.PaymentInfoDto();
+        paymentInfo.setPointUsed(pointUsed);
+        paymentInfo.setCurrency("KRW");
+        request.setPaymentInfo(paymentInfo);
+        return request;
+    }
+}
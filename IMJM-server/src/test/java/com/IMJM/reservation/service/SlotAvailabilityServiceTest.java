@@ -0,0 +1,87 @@
+package com.IMJM.reservation.service;
+
+import com.IMJM.common.entity.AdminStylist;
+import com.IMJM.common.entity.Salon;
+import com.IMJM.reservation.event.ReservationSlotChangedEvent;
+import com.IMJM.reservation.event.StylistScheduleChangedEvent;
+import com.IMJM.reservation.repository.AdminStylistRepository;
+import com.IMJM.reservation.repository.ReservationRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SlotAvailabilityServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 10, 19);
+
+    private final AdminStylistRepository stylistRepository = mock(AdminStylistRepository.class);
+    private final ReservationRepository reservationRepository = mock(ReservationRepository.class);
+
+    @Test
+    void cachedDayIsUpdatedByCommittedSlotChanges() {
+        SlotAvailabilityService service = service(100);
+        assertThat(service.getDay(1L, DATE).availableTimes(null)).containsExactly("10:00", "10:30");
+
+        service.onSlotChanged(ReservationSlotChangedEvent.booked(1L, DATE, LocalTime.of(10, 0)));
+
+        assertThat(service.getDay(1L, DATE).availableTimes(null)).containsExactly("10:30");
+        verify(reservationRepository, times(1)).findBookedTimesByStylistAndDate(1L, DATE);
+    }
+
+    @Test
+    void scheduleChangeDropsCachedDays() {
+        SlotAvailabilityService service = service(100);
+        service.getDay(1L, DATE);
+
+        service.onScheduleChanged(StylistScheduleChangedEvent.stylist("salon", 1L));
+        service.getDay(1L, DATE);
+
+        verify(reservationRepository, times(2)).findBookedTimesByStylistAndDate(1L, DATE);
+    }
+
+    @Test
+    void cacheStaysWithinConfiguredSize() throws InterruptedException {
+        SlotAvailabilityService service = service(10);
+        for (int day = 0; day < 30; day++) {
+            service.getDay(1L, DATE.plusDays(day));
+            // 읽은 순서가 만료 시각 순서와 같도록
+            Thread.sleep(2);
+        }
+
+        // 가장 최근에 읽은 날짜는 남아 있고, 처음 읽은 날짜는 지워져 다시 읽는다
+        service.getDay(1L, DATE.plusDays(29));
+        service.getDay(1L, DATE);
+        verify(reservationRepository, times(1)).findBookedTimesByStylistAndDate(1L, DATE.plusDays(29));
+        verify(reservationRepository, times(2)).findBookedTimesByStylistAndDate(1L, DATE);
+    }
+
+    private SlotAvailabilityService service(int cacheSize) {
+        Salon salon = Salon.builder()
+                .id("salon")
+                .startTime(LocalTime.of(10, 0))
+                .endTime(LocalTime.of(11, 0))
+                .timeUnit(30)
+                .holidayMask((short) 0)
+                .build();
+        AdminStylist stylist = AdminStylist.builder()
+                .stylistId(1L)
+                .salon(salon)
+                .startTime(LocalTime.of(10, 0))
+                .endTime(LocalTime.of(11, 0))
+                .build();
+        when(stylistRepository.findWithSalonByStylistId(anyLong())).thenReturn(Optional.of(stylist));
+        when(reservationRepository.findBookedTimesByStylistAndDate(anyLong(), any())).thenReturn(List.of());
+        return new SlotAvailabilityService(stylistRepository, reservationRepository, new SlotHoldRegistry(), cacheSize, 3600);
+    }
+}
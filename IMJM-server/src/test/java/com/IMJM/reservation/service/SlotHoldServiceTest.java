@@ -0,0 +1,63 @@
+package com.IMJM.reservation.service;
+
+import com.IMJM.reservation.event.ReservationSlotChangedEvent;
+import com.IMJM.reservation.event.SlotHoldAcquiredEvent;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SlotHoldServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 10, 20);
+    private static final LocalTime TEN = LocalTime.of(10, 0);
+    private static final LocalTime ELEVEN = LocalTime.of(11, 0);
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final SlotHoldRegistry registry = new SlotHoldRegistry();
+    private final SlotHoldService service = new SlotHoldService(jdbcTemplate, mock(SlotAvailabilityService.class),
+            registry, mock(ApplicationEventPublisher.class), transactionManager, 300);
+
+    @Test
+    void acquiredHoldReplacesUsersPreviousHold() {
+        Instant expiresAt = Instant.now().plusSeconds(300);
+
+        service.onHoldAcquired(new SlotHoldAcquiredEvent(1L, DATE, TEN, "user-1", expiresAt));
+        service.onHoldAcquired(new SlotHoldAcquiredEvent(1L, DATE, ELEVEN, "user-1", expiresAt));
+
+        StylistDayKey key = new StylistDayKey(1L, DATE);
+        assertThat(registry.get(key, TEN)).isNull();
+        assertThat(registry.get(key, ELEVEN).getUserId()).isEqualTo("user-1");
+    }
+
+    @Test
+    void bookedSlotHoldIsDeletedInNewTransaction() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        service.onHoldAcquired(new SlotHoldAcquiredEvent(1L, DATE, TEN, "user-1", Instant.now().plusSeconds(300)));
+
+        service.onSlotChanged(ReservationSlotChangedEvent.booked(1L, DATE, TEN));
+
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertThat(definition.getValue().getPropagationBehavior())
+                .isEqualTo(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        verify(jdbcTemplate).update(anyString(), any(), any(), any());
+        verify(transactionManager).commit(any());
+        assertThat(registry.get(new StylistDayKey(1L, DATE), TEN)).isNull();
+    }
+}
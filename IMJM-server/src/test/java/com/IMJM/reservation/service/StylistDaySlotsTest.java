@@ -0,0 +1,141 @@
+package com.IMJM.reservation.service;
+
+import com.IMJM.common.entity.AdminStylist;
+import com.IMJM.common.entity.Salon;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StylistDaySlotsTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 10, 19);
+
+    @Test
+    void slotsCoverOverlapOfSalonAndStylistHours() {
+        StylistDaySlots slots = StylistDaySlots.of(
+                stylist(salon("10:00", "20:00", 30, 0), "11:00", "19:30", 0), MONDAY, List.of());
+
+        List<String> times = slots.availableTimes(null);
+
+        // 11:00 ~ 19:30 을 30분씩: 마지막 슬롯은 19:00 에 시작한다
+        assertThat(times).hasSize(17).startsWith("11:00", "11:30").endsWith("19:00");
+        assertThat(slots.isAvailable(LocalTime.of(19, 30))).isFalse();
+        assertThat(slots.isAvailable(LocalTime.of(10, 30))).isFalse();
+        assertThat(slots.isAvailable(LocalTime.of(11, 10))).isFalse();
+        assertThat(slots.getSalonId()).isEqualTo("salon");
+    }
+
+    @Test
+    void bookingsAcrossWordBoundaries() {
+        // 10분 단위 143 슬롯 → long 3개, 63/64번(10:30, 10:40)과 128번(21:20) 슬롯을 예약
+        StylistDaySlots slots = StylistDaySlots.of(
+                stylist(salon("00:00", "23:50", 10, 0), "00:00", "23:59", 0), MONDAY,
+                List.of(LocalTime.of(10, 30), LocalTime.of(10, 40), LocalTime.of(21, 20)));
+
+        assertThat(slots.availableTimes(null)).hasSize(140)
+                .doesNotContain("10:30", "10:40", "21:20")
+                .contains("10:20", "10:50", "21:10", "21:30", "23:40");
+        assertThat(slots.isAvailable(LocalTime.of(10, 40))).isFalse();
+        assertThat(slots.isAvailable(LocalTime.of(10, 50))).isTrue();
+        assertThat(slots.availableMinutes(10 * 60 + 25, null)).startsWith(10 * 60 + 50, 11 * 60);
+        assertThat(slots.availableMinutes(0, null)).hasSize(140);
+    }
+
+    @Test
+    void offGridBookingIsKeptButDoesNotCloseSlot() {
+        StylistDaySlots slots = StylistDaySlots.of(
+                stylist(salon("10:00", "12:00", 30, 0), "10:00", "12:00", 0), MONDAY,
+                List.of(LocalTime.of(10, 15), LocalTime.of(11, 0)));
+
+        assertThat(slots.availableTimes(null)).containsExactly("10:00", "10:30", "11:30");
+        assertThat(slots.bookedTimes()).containsExactly("10:15", "11:00");
+
+        StylistDaySlots released = slots.withReleased(LocalTime.of(10, 15));
+        assertThat(released.bookedTimes()).containsExactly("11:00");
+        assertThat(released.availableTimes(null)).containsExactly("10:00", "10:30", "11:30");
+    }
+
+    @Test
+    void withBookedAndWithReleasedReturnNewObjects() {
+        StylistDaySlots slots = StylistDaySlots.of(
+                stylist(salon("10:00", "11:00", 30, 0), "10:00", "11:00", 0), MONDAY, List.of());
+
+        StylistDaySlots booked = slots.withBooked(LocalTime.of(10, 30));
+
+        assertThat(booked.availableTimes(null)).containsExactly("10:00");
+        assertThat(booked.withReleased(LocalTime.of(10, 30)).availableTimes(null)).containsExactly("10:00", "10:30");
+        assertThat(slots.availableTimes(null)).containsExactly("10:00", "10:30");
+        assertThat(slots.bookedTimes()).isEmpty();
+    }
+
+    @Test
+    void salonOrStylistHolidayClosesTheDay() {
+        // 월요일 0 ~ 일요일 6
+        Salon closedOnMonday = salon("10:00", "12:00", 60, 1);
+        StylistDaySlots salonHoliday = StylistDaySlots.of(stylist(closedOnMonday, "10:00", "12:00", 0), MONDAY, List.of());
+        assertThat(salonHoliday.availableTimes(null)).isEmpty();
+        assertThat(salonHoliday.isAvailable(LocalTime.of(10, 0))).isFalse();
+        assertThat(StylistDaySlots.of(stylist(closedOnMonday, "10:00", "12:00", 0), MONDAY.plusDays(1), List.of())
+                .availableTimes(null)).containsExactly("10:00", "11:00");
+
+        LocalDate sunday = MONDAY.with(TemporalAdjusters.next(DayOfWeek.SUNDAY));
+        AdminStylist offOnSunday = stylist(salon("10:00", "12:00", 60, 0), "10:00", "12:00", 1 << 6);
+        assertThat(StylistDaySlots.of(offOnSunday, sunday, List.of()).availableTimes(null)).isEmpty();
+        assertThat(StylistDaySlots.of(offOnSunday, MONDAY, List.of()).availableTimes(null)).hasSize(2);
+    }
+
+    @Test
+    void heldSlotsAreMaskedOutOfAvailability() {
+        StylistDaySlots slots = StylistDaySlots.of(
+                stylist(salon("10:00", "12:00", 30, 0), "10:00", "12:00", 0), MONDAY,
+                List.of(LocalTime.of(11, 0)));
+
+        // 예약된 11:00 과 경계에 맞지 않는 10:45 는 홀드로 잡히지 않는다
+        long[] held = slots.slotMask(List.of(LocalTime.of(10, 30), LocalTime.of(10, 45), LocalTime.of(11, 0)));
+
+        assertThat(slots.availableTimes(held)).containsExactly("10:00", "11:30");
+        assertThat(slots.heldTimes(held)).containsExactly("10:30");
+        assertThat(slots.heldTimes(null)).isEmpty();
+        assertThat(slots.slotMask(List.of())).isNull();
+    }
+
+    @Test
+    void missingHoursOrTimeUnitMeansNoSlots() {
+        StylistDaySlots noUnit = StylistDaySlots.of(
+                stylist(salon("10:00", "12:00", null, 0), "10:00", "12:00", 0), MONDAY,
+                List.of(LocalTime.of(10, 0)));
+        assertThat(noUnit.availableTimes(null)).isEmpty();
+        assertThat(noUnit.isAvailable(LocalTime.of(10, 0))).isFalse();
+        assertThat(noUnit.bookedTimes()).containsExactly("10:00");
+
+        // 근무 시간이 겹치지 않으면 슬롯이 없다
+        assertThat(StylistDaySlots.of(stylist(salon("10:00", "12:00", 30, 0), "13:00", "18:00", 0), MONDAY, List.of())
+                .availableTimes(null)).isEmpty();
+    }
+
+    private static Salon salon(String start, String end, Integer timeUnit, int holidayMask) {
+        return Salon.builder()
+                .id("salon")
+                .startTime(LocalTime.parse(start))
+                .endTime(LocalTime.parse(end))
+                .timeUnit(timeUnit)
+                .holidayMask((short) holidayMask)
+                .build();
+    }
+
+    private static AdminStylist stylist(Salon salon, String start, String end, int holidayMask) {
+        return AdminStylist.builder()
+                .stylistId(1L)
+                .salon(salon)
+                .startTime(LocalTime.parse(start))
+                .endTime(LocalTime.parse(end))
+                .holidayMask((short) holidayMask)
+                .build();
+    }
+}